@@ -9,9 +9,12 @@ package Examples;
 //////////////////////////////////////////////////////////////////////////
 
 import com.aspose.words.CurrentThreadSettings;
+import com.aspose.words.Document;
 import com.aspose.words.License;
 import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 
 import java.io.File;
 import java.net.URI;
@@ -23,9 +26,9 @@ import java.util.Locale;
 public class ApiExampleBase {
 
     /**
-     * Test artifacts directory.
+     * Test artifacts directory of this test class.
      */
-    private File artifactsDirPath = new File(getArtifactsDir());
+    private File artifactsDirPath;
 
     /**
      * Delete all dirs and files from directory.
@@ -34,6 +37,10 @@ public class ApiExampleBase {
      */
     private static void deleteDir(final File dir) {
         String[] entries = dir.list();
+        if (entries == null) {
+            return;
+        }
+
         for (String s : entries) {
             File currentFile = new File(dir.getPath(), s);
             if (currentFile.isDirectory()) {
@@ -46,21 +53,34 @@ public class ApiExampleBase {
     }
 
     /**
-     * Delete and create new empty directory for test artifacts.
+     * Delete and create new empty directory for the artifacts of this test class.
+     * <p>
+     * Every test class writes into its own subdirectory of the artifacts directory, so test classes can run in
+     * parallel without deleting each other's output.
      *
      * @throws Exception exception for setUnlimitedLicense()
      */
     @BeforeClass(alwaysRun = true)
     public void setUp() throws Exception {
-        CurrentThreadSettings.setLocale(Locale.US);
         setUnlimitedLicense();
 
-        if (!artifactsDirPath.exists()) {
-            artifactsDirPath.mkdir();
-        } else {
+        artifactsDirPath = new File(G_ARTIFACTS_DIR, getClass().getSimpleName());
+        if (artifactsDirPath.exists()) {
             deleteDir(artifactsDirPath);
-            artifactsDirPath.mkdir();
         }
+        artifactsDirPath.mkdirs();
+
+        setUpThreadSettings();
+    }
+
+    /**
+     * Binds the artifacts directory of this test class to the current thread and resets the thread culture,
+     * so a test that changes the culture does not affect the tests that run after it on the same thread.
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void setUpThreadSettings() {
+        CurrentThreadSettings.setLocale(Locale.US);
+        G_CLASS_ARTIFACTS_DIR.set(artifactsDirPath.getPath() + File.separator);
     }
 
     /**
@@ -69,6 +89,29 @@ public class ApiExampleBase {
     @AfterClass(alwaysRun = true)
     public void tearDown() {
         deleteDir(artifactsDirPath);
+        G_CLASS_ARTIFACTS_DIR.remove();
+    }
+
+    /**
+     * Print the timings of the input document cache and check that its documents were not changed by the tests.
+     *
+     * @throws Exception exception for checking the cached documents
+     */
+    @AfterSuite(alwaysRun = true)
+    public void verifyInputDocumentCache() throws Exception {
+        InputDocumentCache.verifyAndReport(System.out);
+    }
+
+    /**
+     * Gets a copy of an input document which the test may change. The file is only parsed by the first test
+     * that opens it, the other tests get copies of that document.
+     *
+     * @param fileName full path of the input document
+     * @return copy of the input document
+     * @throws Exception exception for loading the document
+     */
+    static Document openInputDocument(final String fileName) throws Exception {
+        return InputDocumentCache.open(fileName);
     }
 
     /**
@@ -105,12 +148,13 @@ public class ApiExampleBase {
     }
 
     /**
-     * Gets the path to the documents used by the code examples. Ends with a back slash.
+     * Gets the path to the artifacts directory of the test class running on the current thread. Ends with a back slash.
      *
      * @return directory for test artifacts
      */
     static String getArtifactsDir() {
-        return G_ARTIFACTS_DIR;
+        String classArtifactsDir = G_CLASS_ARTIFACTS_DIR.get();
+        return classArtifactsDir != null ? classArtifactsDir : G_ARTIFACTS_DIR;
     }
 
     /**
@@ -177,6 +221,7 @@ public class ApiExampleBase {
     private static final String G_DATABASE_DIR;
     private static final String G_FONTS_DIR;
     private static final URI G_ASPOSELOGO_URI;
+    private static final ThreadLocal<String> G_CLASS_ARTIFACTS_DIR = new ThreadLocal<>();
 
     static {
         try {
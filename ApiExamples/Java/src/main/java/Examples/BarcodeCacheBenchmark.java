@@ -0,0 +1,84 @@
+package Examples;
+
+//////////////////////////////////////////////////////////////////////////
+// Copyright (c) 2001-2020 Aspose Pty Ltd. All Rights Reserved.
+//
+// This file is part of Aspose.Words. The source code in this file
+// is only intended as a supplement to the documentation, and is provided
+// "as is", without warranty of any kind, either expressed or implied.
+//////////////////////////////////////////////////////////////////////////
+
+import com.aspose.words.BarcodeParameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/// <summary>
+/// Times CustomBarcodeGenerator on a run of shipping labels in which 30% of the labels repeat a barcode of an
+/// earlier label, without a cache and with a BarcodeImageCache, and reports the hit rate of the cache.
+/// The labels mix CODE128 tracking codes and QR codes, and the colors are written in either letter case,
+/// as they come from the field codes of different templates.
+/// </summary>
+public class BarcodeCacheBenchmark {
+    private static final int LABEL_COUNT = 5000;
+    private static final double REPEAT_SHARE = 0.3;
+    private static final long CACHE_BYTES = 64L * 1024 * 1024;
+
+    public static void main(String[] args) throws Exception {
+        List<BarcodeParameters> labels = createLabels();
+
+        // Warm up the barcode renderer
+        CustomBarcodeGenerator warmup = new CustomBarcodeGenerator();
+        for (int i = 0; i < 200; i++)
+            warmup.getBarcodeImage(labels.get(i));
+
+        long uncachedNanos = run(new CustomBarcodeGenerator(), labels);
+
+        BarcodeImageCache cache = new BarcodeImageCache(CACHE_BYTES);
+        long cachedNanos = run(new CustomBarcodeGenerator(cache), labels);
+
+        System.out.println("generator\tlabels\tms\tlabels/s\thit rate\tcached images\tcache MB\tevictions");
+        System.out.println("uncached\t" + LABEL_COUNT + "\t" + uncachedNanos / 1000000 + "\t"
+                + Math.round(LABEL_COUNT * 1e9 / uncachedNanos) + "\t-\t-\t-\t-");
+        System.out.println(String.format("cached\t%d\t%d\t%d\t%.3f\t%d\t%.1f\t%d", LABEL_COUNT, cachedNanos / 1000000,
+                Math.round(LABEL_COUNT * 1e9 / cachedNanos), cache.getHitRate(), cache.getImageCount(),
+                cache.getWeightInBytes() / (1024.0 * 1024.0), cache.getEvictionCount()));
+    }
+
+    private static long run(CustomBarcodeGenerator generator, List<BarcodeParameters> labels) throws Exception {
+        long start = System.nanoTime();
+        for (BarcodeParameters label : labels) {
+            if (generator.getBarcodeImage(label) == null)
+                throw new IllegalStateException("No image for " + label.getBarcodeValue());
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static List<BarcodeParameters> createLabels() {
+        Random random = new Random(42);
+        List<String> issuedCodes = new ArrayList<>();
+        List<BarcodeParameters> labels = new ArrayList<>();
+
+        for (int i = 0; i < LABEL_COUNT; i++) {
+            String code;
+            if (!issuedCodes.isEmpty() && random.nextDouble() < REPEAT_SHARE) {
+                code = issuedCodes.get(random.nextInt(issuedCodes.size()));
+            } else {
+                code = String.format("1Z%010d", 7340000000L + i);
+                issuedCodes.add(code);
+            }
+
+            BarcodeParameters parameters = new BarcodeParameters();
+            // Every fourth code is printed as a QR code on the label
+            parameters.setBarcodeType(code.hashCode() % 4 == 0 ? "QR" : "CODE128");
+            parameters.setBarcodeValue(code);
+            parameters.setForegroundColor(random.nextBoolean() ? "0x1F1F1F" : "0x1f1f1f");
+            parameters.setSymbolHeight("720");
+            parameters.setDisplayText(true);
+            labels.add(parameters);
+        }
+
+        return labels;
+    }
+}
@@ -0,0 +1,176 @@
+package Examples;
+
+//////////////////////////////////////////////////////////////////////////
+// Copyright (c) 2001-2020 Aspose Pty Ltd. All Rights Reserved.
+//
+// This file is part of Aspose.Words. The source code in this file
+// is only intended as a supplement to the documentation, and is provided
+// "as is", without warranty of any kind, either expressed or implied.
+//////////////////////////////////////////////////////////////////////////
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// <summary>
+/// Thread-safe cache of barcode images for CustomBarcodeGenerator, bounded by the memory the image rasters take.
+/// When the bound is reached the least recently used images are evicted. A barcode that is requested by several
+/// threads at once is only rendered once. Cached images are shared, so callers must not draw on them.
+/// </summary>
+public class BarcodeImageCache {
+    /// <summary>
+    /// Creates a cache that holds images with rasters of up to maxBytes in total.
+    /// </summary>
+    public BarcodeImageCache(long maxBytes) {
+        if (maxBytes <= 0)
+            throw new IllegalArgumentException("maxBytes");
+
+        mMaxBytes = maxBytes;
+    }
+
+    /// <summary>
+    /// Returns the cached image for the key, or renders, caches and returns it.
+    /// </summary>
+    BufferedImage get(CustomBarcodeGenerator.BarcodeKey key, Callable<BufferedImage> renderer) throws Exception {
+        BufferedImage image = getCached(key);
+        if (image != null) {
+            mHitCount.incrementAndGet();
+            return image;
+        }
+
+        FutureTask<BufferedImage> task = new FutureTask<>(renderer);
+        FutureTask<BufferedImage> running = mRendering.putIfAbsent(key, task);
+        if (running != null) {
+            // Another thread is rendering the same barcode
+            mHitCount.incrementAndGet();
+            return getResult(running);
+        }
+
+        try {
+            // The image may have been cached between the lookup and the registration of the task
+            image = getCached(key);
+            if (image != null) {
+                mHitCount.incrementAndGet();
+                return image;
+            }
+
+            mMissCount.incrementAndGet();
+            task.run();
+            image = getResult(task);
+            if (image != null)
+                put(key, image);
+
+            return image;
+        } finally {
+            mRendering.remove(key, task);
+        }
+    }
+
+    /// <summary>
+    /// Gets the number of requests answered with a cached image.
+    /// </summary>
+    public long getHitCount() {
+        return mHitCount.get();
+    }
+
+    /// <summary>
+    /// Gets the number of requests that rendered an image.
+    /// </summary>
+    public long getMissCount() {
+        return mMissCount.get();
+    }
+
+    /// <summary>
+    /// Gets the share of requests answered with a cached image.
+    /// </summary>
+    public double getHitRate() {
+        long hits = mHitCount.get();
+        long requests = hits + mMissCount.get();
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    /// <summary>
+    /// Gets the number of images evicted to stay within the memory bound.
+    /// </summary>
+    public long getEvictionCount() {
+        return mEvictionCount.get();
+    }
+
+    /// <summary>
+    /// Gets the number of cached images.
+    /// </summary>
+    public int getImageCount() {
+        synchronized (mImages) {
+            return mImages.size();
+        }
+    }
+
+    /// <summary>
+    /// Gets the memory taken by the rasters of the cached images.
+    /// </summary>
+    public long getWeightInBytes() {
+        synchronized (mImages) {
+            return mWeightInBytes;
+        }
+    }
+
+    private BufferedImage getCached(CustomBarcodeGenerator.BarcodeKey key) {
+        synchronized (mImages) {
+            return mImages.get(key);
+        }
+    }
+
+    private void put(CustomBarcodeGenerator.BarcodeKey key, BufferedImage image) {
+        long weight = weigh(image);
+        // An image larger than the whole cache would only evict everything else
+        if (weight > mMaxBytes)
+            return;
+
+        synchronized (mImages) {
+            BufferedImage previous = mImages.put(key, image);
+            if (previous != null)
+                mWeightInBytes -= weigh(previous);
+            mWeightInBytes += weight;
+
+            Iterator<Map.Entry<CustomBarcodeGenerator.BarcodeKey, BufferedImage>> eldest = mImages.entrySet().iterator();
+            while (mWeightInBytes > mMaxBytes) {
+                BufferedImage evicted = eldest.next().getValue();
+                eldest.remove();
+                mWeightInBytes -= weigh(evicted);
+                mEvictionCount.incrementAndGet();
+            }
+        }
+    }
+
+    /// <summary>
+    /// Bytes held by the raster of the image.
+    /// </summary>
+    private static long weigh(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    private static BufferedImage getResult(FutureTask<BufferedImage> task) throws Exception {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    private final long mMaxBytes;
+    private long mWeightInBytes;
+    // Access order, so iteration starts at the least recently used image
+    private final LinkedHashMap<CustomBarcodeGenerator.BarcodeKey, BufferedImage> mImages = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentHashMap<CustomBarcodeGenerator.BarcodeKey, FutureTask<BufferedImage>> mRendering = new ConcurrentHashMap<>();
+    private final AtomicLong mHitCount = new AtomicLong();
+    private final AtomicLong mMissCount = new AtomicLong();
+    private final AtomicLong mEvictionCount = new AtomicLong();
+}
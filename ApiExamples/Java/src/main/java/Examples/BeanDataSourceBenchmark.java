@@ -0,0 +1,795 @@
+package Examples;
+
+//////////////////////////////////////////////////////////////////////////
+// Copyright (c) 2001-2020 Aspose Pty Ltd. All Rights Reserved.
+//
+// This file is part of Aspose.Words. The source code in this file
+// is only intended as a supplement to the documentation, and is provided
+// "as is", without warranty of any kind, either expressed or implied.
+//////////////////////////////////////////////////////////////////////////
+
+import com.aspose.words.IMailMergeDataSource;
+import com.aspose.words.ref.Ref;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ * Compares the cost of getValue for beans with 12 and with 50 properties between a hand-written data source with
+ * a switch over the field names, a generic data source that calls the getters through reflection, and
+ * BeanMailMergeDataSource. Every data source reads all the fields of 10,000 records per iteration, the way a mail
+ * merge with one merge field per property does.
+ */
+public class BeanDataSourceBenchmark {
+    private static final int RECORD_COUNT = 10000;
+    private static final int WARMUP_ITERATIONS = 20;
+    private static final int MEASURED_ITERATIONS = 50;
+
+    // Keeps the values read in the loops alive.
+    private static volatile long sink;
+
+    public static void main(final String[] args) throws Exception {
+        System.out.println("fields\tdata source\tns per getValue\tbytes allocated per getValue");
+        run(12, WideBean::new, WideBeanDataSource::new);
+        run(50, WideBean50::new, WideBean50DataSource::new);
+    }
+
+    private static <T> void run(final int fieldCount, final IntFunction<T> createBean,
+                                final DataSourceFactory<T> createHandWritten) throws Exception {
+        List<T> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(createBean.apply(i));
+        }
+
+        // The field names are read from the document, so they are not the same String instances as in the beans.
+        String[] fieldNames = new String[fieldCount];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = new String(String.format("Field%02d", i + 1));
+        }
+
+        String[] names = {"hand-written", "reflection", "bean accessors"};
+        List<DataSourceFactory<T>> factories = new ArrayList<>();
+        factories.add(createHandWritten);
+        factories.add(ReflectionDataSource::new);
+        factories.add(beans -> new BeanMailMergeDataSource("Beans", beans));
+
+        // The data sources take turns in every iteration, so none of them is measured while the JIT compiler is
+        // still busy with another one.
+        long[] nanos = new long[factories.size()];
+        long[] bytes = new long[factories.size()];
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+            for (int j = 0; j < factories.size(); j++) {
+                long allocatedBefore = getAllocatedBytes();
+                long start = System.nanoTime();
+                readAll(names[j], factories.get(j).create(records), fieldNames);
+                long elapsed = System.nanoTime() - start;
+                long allocated = getAllocatedBytes() - allocatedBefore;
+
+                if (i >= WARMUP_ITERATIONS) {
+                    nanos[j] += elapsed;
+                    bytes[j] += allocated;
+                }
+            }
+        }
+
+        long calls = (long) MEASURED_ITERATIONS * records.size() * fieldNames.length;
+        for (int j = 0; j < factories.size(); j++) {
+            System.out.println(String.format("%d\t%s\t%.1f\t%.1f", fieldCount, names[j], (double) nanos[j] / calls,
+                    (double) bytes[j] / calls));
+        }
+    }
+
+    private static void readAll(final String name, final IMailMergeDataSource dataSource, final String[] fieldNames)
+            throws Exception {
+        Ref<Object> fieldValue = new Ref<>(null);
+        long checksum = 0;
+        while (dataSource.moveNext()) {
+            for (String fieldName : fieldNames) {
+                if (!dataSource.getValue(fieldName, fieldValue)) {
+                    throw new IllegalStateException(name + " has no value for " + fieldName);
+                }
+                checksum += fieldValue.get().hashCode();
+            }
+        }
+        sink += checksum;
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private interface DataSourceFactory<T> {
+        IMailMergeDataSource create(List<T> records);
+    }
+
+    /**
+     * A generic data source that finds the getter by name and calls it through reflection.
+     */
+    private static class ReflectionDataSource implements IMailMergeDataSource {
+        ReflectionDataSource(final List<?> records) {
+            mRecords = records.iterator();
+        }
+
+        public String getTableName() {
+            return "Beans";
+        }
+
+        public boolean moveNext() {
+            mCurrent = mRecords.hasNext() ? mRecords.next() : null;
+            if (mCurrent != null && mGetters == null) {
+                mGetters = GETTERS.get(mCurrent.getClass());
+            }
+            return mCurrent != null;
+        }
+
+        public boolean getValue(final String fieldName, final Ref<Object> fieldValue) throws Exception {
+            Method getter = mGetters.get(fieldName);
+            if (getter == null) {
+                fieldValue.set(null);
+                return false;
+            }
+
+            fieldValue.set(getter.invoke(mCurrent));
+            return true;
+        }
+
+        public IMailMergeDataSource getChildDataSource(final String tableName) {
+            return null;
+        }
+
+        private static final ClassValue<Map<String, Method>> GETTERS = new ClassValue<Map<String, Method>>() {
+            @Override
+            protected Map<String, Method> computeValue(final Class<?> type) {
+                Map<String, Method> getters = new HashMap<>();
+                for (Method method : type.getMethods()) {
+                    if (method.getName().startsWith("get") && method.getParameterCount() == 0
+                            && method.getDeclaringClass() == type) {
+                        getters.put(method.getName().substring(3), method);
+                    }
+                }
+                return getters;
+            }
+        };
+
+        private final Iterator<?> mRecords;
+        private Object mCurrent;
+        private Map<String, Method> mGetters;
+    }
+
+    /**
+     * The data source as it is written by hand, like CustomerMailMergeDataSource in ExMailMergeCustom. The
+     * subclasses for each bean only add the switch over the field names.
+     */
+    private abstract static class HandWrittenDataSource<T> implements IMailMergeDataSource {
+        HandWrittenDataSource(final List<T> records) {
+            mRecords = records.iterator();
+        }
+
+        public String getTableName() {
+            return "Beans";
+        }
+
+        public boolean moveNext() {
+            mCurrent = mRecords.hasNext() ? mRecords.next() : null;
+            return mCurrent != null;
+        }
+
+        public IMailMergeDataSource getChildDataSource(final String tableName) {
+            return null;
+        }
+
+        private final Iterator<T> mRecords;
+        protected T mCurrent;
+    }
+
+    private static class WideBeanDataSource extends HandWrittenDataSource<WideBean> {
+        WideBeanDataSource(final List<WideBean> records) {
+            super(records);
+        }
+
+        public boolean getValue(final String fieldName, final Ref<Object> fieldValue) {
+            switch (fieldName) {
+                case "Field01":
+                    fieldValue.set(mCurrent.getField01());
+                    return true;
+                case "Field02":
+                    fieldValue.set(mCurrent.getField02());
+                    return true;
+                case "Field03":
+                    fieldValue.set(mCurrent.getField03());
+                    return true;
+                case "Field04":
+                    fieldValue.set(mCurrent.getField04());
+                    return true;
+                case "Field05":
+                    fieldValue.set(mCurrent.getField05());
+                    return true;
+                case "Field06":
+                    fieldValue.set(mCurrent.getField06());
+                    return true;
+                case "Field07":
+                    fieldValue.set(mCurrent.getField07());
+                    return true;
+                case "Field08":
+                    fieldValue.set(mCurrent.getField08());
+                    return true;
+                case "Field09":
+                    fieldValue.set(mCurrent.getField09());
+                    return true;
+                case "Field10":
+                    fieldValue.set(mCurrent.getField10());
+                    return true;
+                case "Field11":
+                    fieldValue.set(mCurrent.getField11());
+                    return true;
+                case "Field12":
+                    fieldValue.set(mCurrent.getField12());
+                    return true;
+                default:
+                    fieldValue.set(null);
+                    return false;
+            }
+        }
+    }
+
+    private static class WideBean50DataSource extends HandWrittenDataSource<WideBean50> {
+        WideBean50DataSource(final List<WideBean50> records) {
+            super(records);
+        }
+
+        public boolean getValue(final String fieldName, final Ref<Object> fieldValue) {
+            switch (fieldName) {
+                case "Field01":
+                    fieldValue.set(mCurrent.getField01());
+                    return true;
+                case "Field02":
+                    fieldValue.set(mCurrent.getField02());
+                    return true;
+                case "Field03":
+                    fieldValue.set(mCurrent.getField03());
+                    return true;
+                case "Field04":
+                    fieldValue.set(mCurrent.getField04());
+                    return true;
+                case "Field05":
+                    fieldValue.set(mCurrent.getField05());
+                    return true;
+                case "Field06":
+                    fieldValue.set(mCurrent.getField06());
+                    return true;
+                case "Field07":
+                    fieldValue.set(mCurrent.getField07());
+                    return true;
+                case "Field08":
+                    fieldValue.set(mCurrent.getField08());
+                    return true;
+                case "Field09":
+                    fieldValue.set(mCurrent.getField09());
+                    return true;
+                case "Field10":
+                    fieldValue.set(mCurrent.getField10());
+                    return true;
+                case "Field11":
+                    fieldValue.set(mCurrent.getField11());
+                    return true;
+                case "Field12":
+                    fieldValue.set(mCurrent.getField12());
+                    return true;
+                case "Field13":
+                    fieldValue.set(mCurrent.getField13());
+                    return true;
+                case "Field14":
+                    fieldValue.set(mCurrent.getField14());
+                    return true;
+                case "Field15":
+                    fieldValue.set(mCurrent.getField15());
+                    return true;
+                case "Field16":
+                    fieldValue.set(mCurrent.getField16());
+                    return true;
+                case "Field17":
+                    fieldValue.set(mCurrent.getField17());
+                    return true;
+                case "Field18":
+                    fieldValue.set(mCurrent.getField18());
+                    return true;
+                case "Field19":
+                    fieldValue.set(mCurrent.getField19());
+                    return true;
+                case "Field20":
+                    fieldValue.set(mCurrent.getField20());
+                    return true;
+                case "Field21":
+                    fieldValue.set(mCurrent.getField21());
+                    return true;
+                case "Field22":
+                    fieldValue.set(mCurrent.getField22());
+                    return true;
+                case "Field23":
+                    fieldValue.set(mCurrent.getField23());
+                    return true;
+                case "Field24":
+                    fieldValue.set(mCurrent.getField24());
+                    return true;
+                case "Field25":
+                    fieldValue.set(mCurrent.getField25());
+                    return true;
+                case "Field26":
+                    fieldValue.set(mCurrent.getField26());
+                    return true;
+                case "Field27":
+                    fieldValue.set(mCurrent.getField27());
+                    return true;
+                case "Field28":
+                    fieldValue.set(mCurrent.getField28());
+                    return true;
+                case "Field29":
+                    fieldValue.set(mCurrent.getField29());
+                    return true;
+                case "Field30":
+                    fieldValue.set(mCurrent.getField30());
+                    return true;
+                case "Field31":
+                    fieldValue.set(mCurrent.getField31());
+                    return true;
+                case "Field32":
+                    fieldValue.set(mCurrent.getField32());
+                    return true;
+                case "Field33":
+                    fieldValue.set(mCurrent.getField33());
+                    return true;
+                case "Field34":
+                    fieldValue.set(mCurrent.getField34());
+                    return true;
+                case "Field35":
+                    fieldValue.set(mCurrent.getField35());
+                    return true;
+                case "Field36":
+                    fieldValue.set(mCurrent.getField36());
+                    return true;
+                case "Field37":
+                    fieldValue.set(mCurrent.getField37());
+                    return true;
+                case "Field38":
+                    fieldValue.set(mCurrent.getField38());
+                    return true;
+                case "Field39":
+                    fieldValue.set(mCurrent.getField39());
+                    return true;
+                case "Field40":
+                    fieldValue.set(mCurrent.getField40());
+                    return true;
+                case "Field41":
+                    fieldValue.set(mCurrent.getField41());
+                    return true;
+                case "Field42":
+                    fieldValue.set(mCurrent.getField42());
+                    return true;
+                case "Field43":
+                    fieldValue.set(mCurrent.getField43());
+                    return true;
+                case "Field44":
+                    fieldValue.set(mCurrent.getField44());
+                    return true;
+                case "Field45":
+                    fieldValue.set(mCurrent.getField45());
+                    return true;
+                case "Field46":
+                    fieldValue.set(mCurrent.getField46());
+                    return true;
+                case "Field47":
+                    fieldValue.set(mCurrent.getField47());
+                    return true;
+                case "Field48":
+                    fieldValue.set(mCurrent.getField48());
+                    return true;
+                case "Field49":
+                    fieldValue.set(mCurrent.getField49());
+                    return true;
+                case "Field50":
+                    fieldValue.set(mCurrent.getField50());
+                    return true;
+                default:
+                    fieldValue.set(null);
+                    return false;
+            }
+        }
+    }
+
+    /**
+     * A bean with 12 properties, every fourth of them an int.
+     */
+    public static class WideBean {
+        WideBean(final int record) {
+            mField01 = "field01-" + record;
+            mField02 = "field02-" + record;
+            mField03 = "field03-" + record;
+            mField04 = record * 4;
+            mField05 = "field05-" + record;
+            mField06 = "field06-" + record;
+            mField07 = "field07-" + record;
+            mField08 = record * 8;
+            mField09 = "field09-" + record;
+            mField10 = "field10-" + record;
+            mField11 = "field11-" + record;
+            mField12 = record * 12;
+        }
+
+        public String getField01() {
+            return mField01;
+        }
+
+        public String getField02() {
+            return mField02;
+        }
+
+        public String getField03() {
+            return mField03;
+        }
+
+        public int getField04() {
+            return mField04;
+        }
+
+        public String getField05() {
+            return mField05;
+        }
+
+        public String getField06() {
+            return mField06;
+        }
+
+        public String getField07() {
+            return mField07;
+        }
+
+        public int getField08() {
+            return mField08;
+        }
+
+        public String getField09() {
+            return mField09;
+        }
+
+        public String getField10() {
+            return mField10;
+        }
+
+        public String getField11() {
+            return mField11;
+        }
+
+        public int getField12() {
+            return mField12;
+        }
+
+        private final String mField01;
+        private final String mField02;
+        private final String mField03;
+        private final int mField04;
+        private final String mField05;
+        private final String mField06;
+        private final String mField07;
+        private final int mField08;
+        private final String mField09;
+        private final String mField10;
+        private final String mField11;
+        private final int mField12;
+    }
+
+    /**
+     * A bean with 50 properties, every fourth of them an int.
+     */
+    public static class WideBean50 {
+        WideBean50(final int record) {
+            mField01 = "field01-" + record;
+            mField02 = "field02-" + record;
+            mField03 = "field03-" + record;
+            mField04 = record * 4;
+            mField05 = "field05-" + record;
+            mField06 = "field06-" + record;
+            mField07 = "field07-" + record;
+            mField08 = record * 8;
+            mField09 = "field09-" + record;
+            mField10 = "field10-" + record;
+            mField11 = "field11-" + record;
+            mField12 = record * 12;
+            mField13 = "field13-" + record;
+            mField14 = "field14-" + record;
+            mField15 = "field15-" + record;
+            mField16 = record * 16;
+            mField17 = "field17-" + record;
+            mField18 = "field18-" + record;
+            mField19 = "field19-" + record;
+            mField20 = record * 20;
+            mField21 = "field21-" + record;
+            mField22 = "field22-" + record;
+            mField23 = "field23-" + record;
+            mField24 = record * 24;
+            mField25 = "field25-" + record;
+            mField26 = "field26-" + record;
+            mField27 = "field27-" + record;
+            mField28 = record * 28;
+            mField29 = "field29-" + record;
+            mField30 = "field30-" + record;
+            mField31 = "field31-" + record;
+            mField32 = record * 32;
+            mField33 = "field33-" + record;
+            mField34 = "field34-" + record;
+            mField35 = "field35-" + record;
+            mField36 = record * 36;
+            mField37 = "field37-" + record;
+            mField38 = "field38-" + record;
+            mField39 = "field39-" + record;
+            mField40 = record * 40;
+            mField41 = "field41-" + record;
+            mField42 = "field42-" + record;
+            mField43 = "field43-" + record;
+            mField44 = record * 44;
+            mField45 = "field45-" + record;
+            mField46 = "field46-" + record;
+            mField47 = "field47-" + record;
+            mField48 = record * 48;
+            mField49 = "field49-" + record;
+            mField50 = "field50-" + record;
+        }
+
+        public String getField01() {
+            return mField01;
+        }
+
+        public String getField02() {
+            return mField02;
+        }
+
+        public String getField03() {
+            return mField03;
+        }
+
+        public int getField04() {
+            return mField04;
+        }
+
+        public String getField05() {
+            return mField05;
+        }
+
+        public String getField06() {
+            return mField06;
+        }
+
+        public String getField07() {
+            return mField07;
+        }
+
+        public int getField08() {
+            return mField08;
+        }
+
+        public String getField09() {
+            return mField09;
+        }
+
+        public String getField10() {
+            return mField10;
+        }
+
+        public String getField11() {
+            return mField11;
+        }
+
+        public int getField12() {
+            return mField12;
+        }
+
+        public String getField13() {
+            return mField13;
+        }
+
+        public String getField14() {
+            return mField14;
+        }
+
+        public String getField15() {
+            return mField15;
+        }
+
+        public int getField16() {
+            return mField16;
+        }
+
+        public String getField17() {
+            return mField17;
+        }
+
+        public String getField18() {
+            return mField18;
+        }
+
+        public String getField19() {
+            return mField19;
+        }
+
+        public int getField20() {
+            return mField20;
+        }
+
+        public String getField21() {
+            return mField21;
+        }
+
+        public String getField22() {
+            return mField22;
+        }
+
+        public String getField23() {
+            return mField23;
+        }
+
+        public int getField24() {
+            return mField24;
+        }
+
+        public String getField25() {
+            return mField25;
+        }
+
+        public String getField26() {
+            return mField26;
+        }
+
+        public String getField27() {
+            return mField27;
+        }
+
+        public int getField28() {
+            return mField28;
+        }
+
+        public String getField29() {
+            return mField29;
+        }
+
+        public String getField30() {
+            return mField30;
+        }
+
+        public String getField31() {
+            return mField31;
+        }
+
+        public int getField32() {
+            return mField32;
+        }
+
+        public String getField33() {
+            return mField33;
+        }
+
+        public String getField34() {
+            return mField34;
+        }
+
+        public String getField35() {
+            return mField35;
+        }
+
+        public int getField36() {
+            return mField36;
+        }
+
+        public String getField37() {
+            return mField37;
+        }
+
+        public String getField38() {
+            return mField38;
+        }
+
+        public String getField39() {
+            return mField39;
+        }
+
+        public int getField40() {
+            return mField40;
+        }
+
+        public String getField41() {
+            return mField41;
+        }
+
+        public String getField42() {
+            return mField42;
+        }
+
+        public String getField43() {
+            return mField43;
+        }
+
+        public int getField44() {
+            return mField44;
+        }
+
+        public String getField45() {
+            return mField45;
+        }
+
+        public String getField46() {
+            return mField46;
+        }
+
+        public String getField47() {
+            return mField47;
+        }
+
+        public int getField48() {
+            return mField48;
+        }
+
+        public String getField49() {
+            return mField49;
+        }
+
+        public String getField50() {
+            return mField50;
+        }
+
+        private final String mField01;
+        private final String mField02;
+        private final String mField03;
+        private final int mField04;
+        private final String mField05;
+        private final String mField06;
+        private final String mField07;
+        private final int mField08;
+        private final String mField09;
+        private final String mField10;
+        private final String mField11;
+        private final int mField12;
+        private final String mField13;
+        private final String mField14;
+        private final String mField15;
+        private final int mField16;
+        private final String mField17;
+        private final String mField18;
+        private final String mField19;
+        private final int mField20;
+        private final String mField21;
+        private final String mField22;
+        private final String mField23;
+        private final int mField24;
+        private final String mField25;
+        private final String mField26;
+        private final String mField27;
+        private final int mField28;
+        private final String mField29;
+        private final String mField30;
+        private final String mField31;
+        private final int mField32;
+        private final String mField33;
+        private final String mField34;
+        private final String mField35;
+        private final int mField36;
+        private final String mField37;
+        private final String mField38;
+        private final String mField39;
+        private final int mField40;
+        private final String mField41;
+        private final String mField42;
+        private final String mField43;
+        private final int mField44;
+        private final String mField45;
+        private final String mField46;
+        private final String mField47;
+        private final int mField48;
+        private final String mField49;
+        private final String mField50;
+    }
+}
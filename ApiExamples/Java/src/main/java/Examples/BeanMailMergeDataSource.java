@@ -0,0 +1,278 @@
+package Examples;
+
+//////////////////////////////////////////////////////////////////////////
+// Copyright (c) 2001-2020 Aspose Pty Ltd. All Rights Reserved.
+//
+// This file is part of Aspose.Words. The source code in this file
+// is only intended as a supplement to the documentation, and is provided
+// "as is", without warranty of any kind, either expressed or implied.
+//////////////////////////////////////////////////////////////////////////
+
+import com.aspose.words.IMailMergeDataSource;
+import com.aspose.words.ref.Ref;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Mail merge data source over a collection of beans.
+ * <p>
+ * Every public getter of a bean class is a merge field named after the getter without its "get" or "is" prefix,
+ * so getFullName() fills MERGEFIELD FullName. Getters that return a collection or an array are child data sources
+ * for the mail merge region with the same name. A bean class is inspected once, the first time it is merged:
+ * each getter becomes a compiled accessor and the field names go into a perfect hash table, so getValue neither
+ * uses reflection nor compares the name with more than one field.
+ */
+public class BeanMailMergeDataSource implements IMailMergeDataSource {
+    /**
+     * @param tableName name of the mail merge region the data source fills
+     * @param records   beans to merge, one record per bean
+     */
+    public BeanMailMergeDataSource(final String tableName, final Iterable<?> records) {
+        mTableName = tableName;
+        mRecords = records.iterator();
+    }
+
+    public String getTableName() {
+        return mTableName;
+    }
+
+    public boolean moveNext() {
+        if (!mRecords.hasNext()) {
+            mCurrent = null;
+            return false;
+        }
+
+        mCurrent = mRecords.next();
+        // Records are usually of one class, the accessors are only looked up again when the class changes.
+        if (mCurrent != null && (mAccessors == null || mAccessors.beanClass != mCurrent.getClass())) {
+            mAccessors = ACCESSORS.get(mCurrent.getClass());
+        }
+        return true;
+    }
+
+    public boolean getValue(final String fieldName, final Ref<Object> fieldValue) {
+        int index = mCurrent == null ? -1 : mAccessors.indexOf(fieldName);
+        if (index < 0 || mAccessors.isChild[index]) {
+            fieldValue.set(null);
+            return false;
+        }
+
+        fieldValue.set(mAccessors.getters[index].apply(mCurrent));
+        return true;
+    }
+
+    public IMailMergeDataSource getChildDataSource(final String tableName) {
+        int index = mCurrent == null ? -1 : mAccessors.indexOf(tableName);
+        if (index < 0 || !mAccessors.isChild[index]) {
+            return null;
+        }
+
+        Object children = mAccessors.getters[index].apply(mCurrent);
+        if (children == null) {
+            return new BeanMailMergeDataSource(tableName, Collections.emptyList());
+        }
+
+        return new BeanMailMergeDataSource(tableName,
+                children instanceof Object[] ? Arrays.asList((Object[]) children) : (Iterable<?>) children);
+    }
+
+    /**
+     * Gets the number of merge fields and child data sources of a bean class.
+     */
+    static int getFieldCount(final Class<?> beanClass) {
+        return ACCESSORS.get(beanClass).names.length;
+    }
+
+    /**
+     * The accessors of one bean class, indexed by a perfect hash of the field names.
+     */
+    private static final class BeanAccessors {
+        private final Class<?> beanClass;
+        private final String[] names;
+        private final Function<Object, Object>[] getters;
+        private final boolean[] isChild;
+
+        // Slot of a name is (hashCode * multiplier) >>> shift, every slot holds at most one field.
+        private final int multiplier;
+        private final int shift;
+        private final int[] slots;
+        private final Map<String, Integer> nameIndexes;
+
+        @SuppressWarnings("unchecked")
+        BeanAccessors(final Class<?> beanClass) {
+            this.beanClass = beanClass;
+
+            List<String> fieldNames = new ArrayList<>();
+            List<Method> readMethods = new ArrayList<>();
+            Set<Integer> hashCodes = new HashSet<>();
+            boolean equalHashCodes = false;
+            for (Method method : beanClass.getMethods()) {
+                String fieldName = getFieldName(method);
+                if (fieldName != null && !fieldNames.contains(fieldName)) {
+                    fieldNames.add(fieldName);
+                    readMethods.add(method);
+                    equalHashCodes |= !hashCodes.add(fieldName.hashCode());
+                }
+            }
+
+            names = fieldNames.toArray(new String[0]);
+            getters = new Function[names.length];
+            isChild = new boolean[names.length];
+            for (int i = 0; i < names.length; i++) {
+                Method method = readMethods.get(i);
+                getters[i] = createGetter(beanClass, method);
+                isChild[i] = Iterable.class.isAssignableFrom(method.getReturnType()) || method.getReturnType().isArray();
+            }
+
+            // No multiplier separates names with equal hash codes, such names are looked up in a hash map.
+            if (equalHashCodes) {
+                nameIndexes = new HashMap<>();
+                for (int i = 0; i < names.length; i++) {
+                    nameIndexes.put(names[i], i);
+                }
+                multiplier = 0;
+                shift = 0;
+                slots = null;
+                return;
+            }
+            nameIndexes = null;
+
+            // Find a multiplier that spreads the names over the table without collisions. A table of four times
+            // the number of names is normally found within a few tries, it is grown if not.
+            Random random = new Random(names.length);
+            int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(Math.max(1, names.length * 4 - 1)));
+            while (true) {
+                int[] table = new int[1 << bits];
+                for (int attempt = 0; attempt < 64; attempt++) {
+                    int candidate = random.nextInt() | 1;
+                    if (fill(table, candidate, 32 - bits)) {
+                        multiplier = candidate;
+                        shift = 32 - bits;
+                        slots = table;
+                        return;
+                    }
+                }
+                bits++;
+            }
+        }
+
+        int indexOf(final String fieldName) {
+            if (nameIndexes != null) {
+                Integer index = nameIndexes.get(fieldName);
+                return index != null ? index : -1;
+            }
+
+            int index = slots[(fieldName.hashCode() * multiplier) >>> shift] - 1;
+            return index >= 0 && names[index].equals(fieldName) ? index : -1;
+        }
+
+        private boolean fill(final int[] table, final int candidate, final int candidateShift) {
+            Arrays.fill(table, 0);
+            for (int i = 0; i < names.length; i++) {
+                int slot = (names[i].hashCode() * candidate) >>> candidateShift;
+                if (table[slot] != 0) {
+                    return false;
+                }
+                table[slot] = i + 1;
+            }
+            return true;
+        }
+
+        private static String getFieldName(final Method method) {
+            if (method.getParameterCount() != 0 || Modifier.isStatic(method.getModifiers()) || method.isBridge()
+                    || method.getDeclaringClass() == Object.class) {
+                return null;
+            }
+
+            String name = method.getName();
+            if (name.startsWith("get") && name.length() > 3 && method.getReturnType() != void.class) {
+                return name.substring(3);
+            }
+            if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+                return name.substring(2);
+            }
+            return null;
+        }
+
+        /**
+         * Compiles the getter into a lambda when the bean class is accessible from here, which lets the JIT inline
+         * it like a direct call. Otherwise the getter is called through a method handle.
+         */
+        @SuppressWarnings("unchecked")
+        private static Function<Object, Object> createGetter(final Class<?> beanClass, final Method method) {
+            try {
+                method.setAccessible(true);
+                MethodHandle getter = LOOKUP.unreflect(method);
+
+                if (isAccessible(method.getDeclaringClass())) {
+                    MethodType instantiatedType = MethodType.methodType(wrap(method.getReturnType()), method.getDeclaringClass());
+                    CallSite site = LambdaMetafactory.metafactory(LOOKUP, "apply", MethodType.methodType(Function.class),
+                            MethodType.methodType(Object.class, Object.class), getter, instantiatedType);
+                    return (Function<Object, Object>) site.getTarget().invokeExact();
+                }
+
+                MethodHandle generic = getter.asType(MethodType.methodType(Object.class, Object.class));
+                return bean -> {
+                    try {
+                        return generic.invokeExact(bean);
+                    } catch (RuntimeException | Error e) {
+                        throw e;
+                    } catch (Throwable e) {
+                        throw new IllegalStateException(e);
+                    }
+                };
+            } catch (Throwable e) {
+                throw new IllegalArgumentException("Cannot read " + method.getName() + " of " + beanClass.getName(), e);
+            }
+        }
+
+        /**
+         * Whether the generated lambda, which lives in this package, may call methods of the class directly.
+         */
+        private static boolean isAccessible(final Class<?> declaringClass) {
+            for (Class<?> c = declaringClass; c != null; c = c.getEnclosingClass()) {
+                boolean samePackage = c.getPackage() == BeanMailMergeDataSource.class.getPackage()
+                        && c.getClassLoader() == BeanMailMergeDataSource.class.getClassLoader();
+                if (!Modifier.isPublic(c.getModifiers()) && !(samePackage && !Modifier.isPrivate(c.getModifiers()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static Class<?> wrap(final Class<?> type) {
+            return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+        }
+    }
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<BeanAccessors> ACCESSORS = new ClassValue<BeanAccessors>() {
+        @Override
+        protected BeanAccessors computeValue(final Class<?> type) {
+            return new BeanAccessors(type);
+        }
+    };
+
+    private final String mTableName;
+    private final Iterator<?> mRecords;
+    private Object mCurrent;
+    private BeanAccessors mAccessors;
+}
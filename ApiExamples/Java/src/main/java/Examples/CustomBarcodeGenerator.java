@@ -16,6 +16,7 @@ import com.aspose.words.IBarcodeGenerator;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.Objects;
 
 /// <summary>
 /// Sample of custom barcode generator implementation (with underlying Aspose.BarCode module)
@@ -73,6 +74,21 @@ public class CustomBarcodeGenerator extends ApiExampleBase implements IBarcodeGe
         return percents / 100.0f;
     }
 
+    /// <summary>
+    /// Creates a generator that renders a new image for every barcode field.
+    /// </summary>
+    public CustomBarcodeGenerator() {
+        this(null);
+    }
+
+    /// <summary>
+    /// Creates a generator that reuses the images in the cache for barcodes with equal parameters.
+    /// The cache may be shared by generators of many documents.
+    /// </summary>
+    public CustomBarcodeGenerator(BarcodeImageCache cache) {
+        mCache = cache;
+    }
+
     /// <summary>
     /// Implementation of the GetBarCodeImage() method for IBarCodeGenerator interface.
     /// </summary>
@@ -82,10 +98,19 @@ public class CustomBarcodeGenerator extends ApiExampleBase implements IBarcodeGe
         if (parameters.getBarcodeType() == null || parameters.getBarcodeValue() == null)
             return null;
 
+        // The parameters are parsed once, the key holds the values the image is rendered from
+        final BarcodeKey key = new BarcodeKey(parameters);
+
+        if (mCache == null)
+            return renderBarcodeImage(key);
+
+        return mCache.get(key, () -> renderBarcodeImage(key));
+    }
+
+    private static BufferedImage renderBarcodeImage(BarcodeKey key) {
         BarCodeBuilder builder = new BarCodeBuilder();
-        String type = parameters.getBarcodeType().toUpperCase();
 
-        switch (type) {
+        switch (key.type) {
             case "QR":
                 builder.setEncodeType(com.aspose.barcode.EncodeTypes.QR);
                 break;
@@ -118,25 +143,25 @@ public class CustomBarcodeGenerator extends ApiExampleBase implements IBarcodeGe
         if (builder.getEncodeType().equals(EncodeTypes.NONE))
             return null;
 
-        builder.setCodeText(parameters.getBarcodeValue());
+        builder.setCodeText(key.value);
 
         if (builder.getEncodeType().equals(com.aspose.barcode.EncodeTypes.QR))
-            builder.setDisplay2DText(parameters.getBarcodeValue());
+            builder.setDisplay2DText(key.value);
 
-        if (parameters.getForegroundColor() != null)
-            builder.setForeColor(convertColor(parameters.getForegroundColor()));
+        if (key.foregroundColor != null)
+            builder.setForeColor(key.foregroundColor);
 
-        if (parameters.getBackgroundColor() != null)
-            builder.setBackColor(convertColor(parameters.getBackgroundColor()));
+        if (key.backgroundColor != null)
+            builder.setBackColor(key.backgroundColor);
 
-        if (parameters.getSymbolHeight() != null) {
-            builder.setImageHeight(convertSymbolHeight(parameters.getSymbolHeight()));
+        if (key.symbolHeight != null) {
+            builder.setImageHeight(key.symbolHeight);
             builder.setAutoSize(false);
         }
 
         builder.setCodeLocation(CodeLocation.None);
 
-        if (parameters.getDisplayText())
+        if (key.displayText)
             builder.setCodeLocation(CodeLocation.Below);
 
         builder.getCaptionAbove().setText("");
@@ -153,8 +178,8 @@ public class CustomBarcodeGenerator extends ApiExampleBase implements IBarcodeGe
             builder.setyDimension(xdim);
         }
 
-        if (parameters.getScalingFactor() != null) {
-            float scalingFactor = convertScalingFactor(parameters.getScalingFactor());
+        if (key.scalingFactor != null) {
+            float scalingFactor = key.scalingFactor;
             builder.setImageHeight(builder.getImageHeight() * scalingFactor);
             if (builder.getEncodeType().equals(com.aspose.barcode.EncodeTypes.QR)) {
                 builder.setImageWidth(builder.getImageHeight());
@@ -233,4 +258,55 @@ public class CustomBarcodeGenerator extends ApiExampleBase implements IBarcodeGe
             return false;
         }
     }
+
+    /// <summary>
+    /// The barcode parameters that affect the image, parsed and normalized so that equal barcodes written
+    /// differently in the field code, e.g. "0xff0000" and "0xFF0000", have equal keys.
+    /// </summary>
+    static final class BarcodeKey {
+        BarcodeKey(BarcodeParameters parameters) throws Exception {
+            type = parameters.getBarcodeType().toUpperCase();
+            value = parameters.getBarcodeValue();
+            foregroundColor = parameters.getForegroundColor() != null ? convertColor(parameters.getForegroundColor()) : null;
+            backgroundColor = parameters.getBackgroundColor() != null ? convertColor(parameters.getBackgroundColor()) : null;
+            symbolHeight = parameters.getSymbolHeight() != null ? convertSymbolHeight(parameters.getSymbolHeight()) : null;
+            scalingFactor = parameters.getScalingFactor() != null ? convertScalingFactor(parameters.getScalingFactor()) : null;
+            displayText = parameters.getDisplayText();
+            hashCode = Objects.hash(type, value, foregroundColor, backgroundColor, symbolHeight, scalingFactor, displayText);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof BarcodeKey))
+                return false;
+
+            BarcodeKey other = (BarcodeKey) obj;
+            return hashCode == other.hashCode
+                    && displayText == other.displayText
+                    && type.equals(other.type)
+                    && value.equals(other.value)
+                    && Objects.equals(foregroundColor, other.foregroundColor)
+                    && Objects.equals(backgroundColor, other.backgroundColor)
+                    && Objects.equals(symbolHeight, other.symbolHeight)
+                    && Objects.equals(scalingFactor, other.scalingFactor);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        private final String type;
+        private final String value;
+        private final Color foregroundColor;
+        private final Color backgroundColor;
+        private final Float symbolHeight;
+        private final Float scalingFactor;
+        private final boolean displayText;
+        private final int hashCode;
+    }
+
+    private final BarcodeImageCache mCache;
 }
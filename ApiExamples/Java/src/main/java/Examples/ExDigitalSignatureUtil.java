@@ -172,14 +172,15 @@ public class ExDigitalSignatureUtil extends ApiExampleBase {
     {
         CertificateHolder ch = CertificateHolder.create(getMyDir() + "morzal.pfx", "aw");
 
-        Document doc = new Document(getMyDir() + "Structured document tags.docx");
+        String inputFileName = getMyDir() + "Structured document tags.docx";
+        Document doc = openInputDocument(inputFileName);
         String outputFileName = getArtifactsDir() + "DigitalSignatureUtil.SignDocumentObfuscationBug.doc";
 
         SignOptions signOptions = new SignOptions();
         signOptions.setComments("Comment");
         signOptions.setSignTime(new Date());
 
-        DigitalSignatureUtil.sign(doc.getOriginalFileName(), outputFileName, ch, signOptions);
+        DigitalSignatureUtil.sign(inputFileName, outputFileName, ch, signOptions);
     }
 
     @Test (description = "WORDSNET-16868")
@@ -214,14 +215,15 @@ public class ExDigitalSignatureUtil extends ApiExampleBase {
     @Test
     public void noCertificateForSign() throws Exception
     {
-        Document doc = new Document(getMyDir() + "Digitally signed.docx");
+        String inputFileName = getMyDir() + "Digitally signed.docx";
+        Document doc = openInputDocument(inputFileName);
 
         SignOptions signOptions = new SignOptions();
         signOptions.setComments("Comment");
         signOptions.setSignTime(new Date());
         signOptions.setDecryptionPassword("docPassword");
 
-        Assert.assertThrows(NullPointerException.class, () -> DigitalSignatureUtil.sign(doc.getOriginalFileName(),
+        Assert.assertThrows(NullPointerException.class, () -> DigitalSignatureUtil.sign(inputFileName,
                 getArtifactsDir() + "DigitalSignatureUtil.NoCertificateForSign.docx", null, signOptions));
     }
 }
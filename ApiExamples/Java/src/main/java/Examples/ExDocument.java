@@ -281,20 +281,20 @@ public class ExDocument extends ApiExampleBase
 
     @Test
     public void convertToMhtml() throws Exception {
-        Document doc = new Document(getMyDir() + "Document.docx");
+        Document doc = openInputDocument(getMyDir() + "Document.docx");
         doc.save(getArtifactsDir() + "Document.ConvertToMhtml.mht");
     }
 
     @Test
     public void convertToTxt() throws Exception {
-        Document doc = new Document(getMyDir() + "Document.docx");
+        Document doc = openInputDocument(getMyDir() + "Document.docx");
         doc.save(getArtifactsDir() + "Document.ConvertToTxt.txt");
     }
 
     @Test
     public void convertToEpub() throws Exception
     {
-        Document doc = new Document(getMyDir() + "Rendering.docx");
+        Document doc = openInputDocument(getMyDir() + "Rendering.docx");
         doc.save(getArtifactsDir() + "Document.ConvertToEpub.epub");
     }
 
@@ -674,7 +674,7 @@ public class ExDocument extends ApiExampleBase
     @Test
     public void documentByteArray() throws Exception
     {
-        Document doc = new Document(getMyDir() + "Document.docx");
+        Document doc = openInputDocument(getMyDir() + "Document.docx");
 
         ByteArrayOutputStream streamOut = new ByteArrayOutputStream();
         doc.save(streamOut, SaveFormat.DOCX);
@@ -1663,7 +1663,7 @@ public class ExDocumentBuilder extends ApiExampleBase {
 
     @Test
     public void tableCellVerticalRotatedFarEastTextOrientation() throws Exception {
-        Document doc = new Document(getMyDir() + "Rotated cell text.docx");
+        Document doc = openInputDocument(getMyDir() + "Rotated cell text.docx");
 
         Table table = (Table) doc.getChild(NodeType.TABLE, 0, true);
         Cell cell = table.getFirstRow().getFirstCell();
@@ -2700,7 +2700,7 @@ public class ExDocumentBuilder extends ApiExampleBase {
     @Test
     public void emphasesWarningSourceMarkdown() throws Exception
     {
-        Document doc = new Document(getMyDir() + "Emphases markdown warning.docx");
+        Document doc = openInputDocument(getMyDir() + "Emphases markdown warning.docx");
 
         WarningInfoCollection warnings = new WarningInfoCollection();
         doc.setWarningCallback(warnings);
@@ -12,7 +12,11 @@ import com.aspose.words.*;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.StringWriter;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 @Test
 public class ExDocumentVisitor extends ApiExampleBase {
@@ -49,23 +53,26 @@ public class ExDocumentVisitor extends ApiExampleBase {
     /// <summary>
     /// Traverses a node's tree of child nodes, and creates a map of this tree in the form of a string.
     /// </summary>
-    public static class DocStructurePrinter extends DocumentVisitor {
+    public static class DocStructurePrinter extends StructurePrinter {
         public DocStructurePrinter() {
-            mAcceptingNodeChildTree = new StringBuilder();
+            this(new StringBuilder());
         }
 
-        public String getText() {
-            return mAcceptingNodeChildTree.toString();
+        /// <summary>
+        /// Creates a printer that writes the lines to the output as the nodes are visited.
+        /// </summary>
+        public DocStructurePrinter(final Appendable out) {
+            super(out);
         }
 
         /// <summary>
         /// Called when a Document node is encountered.
         /// </summary>
         public int visitDocumentStart(Document doc) {
-            int childNodeCount = doc.getChildNodes(NodeType.ANY, true).getCount();
-
-            indentAndAppendLine("[Document start] Child nodes: " + childNodeCount);
-            mDocTraversalDepth++;
+            // The nodes are counted while they are visited, so the totals are printed when the document ends
+            indentAndAppendLine("[Document start]");
+            indent();
+            pushIndex();
 
             // Allow the visitor to continue visiting other nodes.
             return VisitorAction.CONTINUE;
@@ -75,8 +82,9 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a Document node have been visited.
         /// </summary>
         public int visitDocumentEnd(Document doc) {
-            mDocTraversalDepth--;
-            indentAndAppendLine("[Document end]");
+            popIndex();
+            outdent();
+            indentAndAppendLine("[Document end] Sections: " + mSectionCount + ", Paragraphs: " + mParagraphCount + ", Runs: " + mRunCount);
 
             return VisitorAction.CONTINUE;
         }
@@ -85,12 +93,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called when a Section node is encountered in the document.
         /// </summary>
         public int visitSectionStart(final Section section) {
-            // Get the index of our section within the document
-            NodeCollection docSections = section.getDocument().getChildNodes(NodeType.SECTION, false);
-            int sectionIndex = docSections.indexOf(section);
+            // The index of our section within the document is counted during the traversal,
+            // which is faster than looking the section up among all the sections of the document.
+            // A section that accepted the visitor itself was not reached through its document, so it is looked up
+            int sectionIndex = getIndexDepth() > 0 ? nextIndex() : section.getDocument().getSections().indexOf(section);
+            mSectionCount++;
 
             indentAndAppendLine("[Section start] Section index: " + sectionIndex);
-            mDocTraversalDepth++;
+            indent();
 
             return VisitorAction.CONTINUE;
         }
@@ -99,7 +109,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a Section node have been visited.
         /// </summary>
         public int visitSectionEnd(final Section section) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[Section end]");
 
             return VisitorAction.CONTINUE;
@@ -111,7 +121,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         public int visitBodyStart(final Body body) {
             int paragraphCount = body.getParagraphs().getCount();
             indentAndAppendLine("[Body start] Paragraphs: " + paragraphCount);
-            mDocTraversalDepth++;
+            indent();
 
             return VisitorAction.CONTINUE;
         }
@@ -120,7 +130,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a Body node have been visited.
         /// </summary>
         public int visitBodyEnd(final Body body) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[Body end]");
 
             return VisitorAction.CONTINUE;
@@ -130,8 +140,9 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called when a Paragraph node is encountered in the document.
         /// </summary>
         public int visitParagraphStart(final Paragraph paragraph) {
+            mParagraphCount++;
             indentAndAppendLine("[Paragraph start]");
-            mDocTraversalDepth++;
+            indent();
 
             return VisitorAction.CONTINUE;
         }
@@ -140,7 +151,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a Paragraph node have been visited.
         /// </summary>
         public int visitParagraphEnd(final Paragraph paragraph) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[Paragraph end]");
 
             return VisitorAction.CONTINUE;
@@ -150,6 +161,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called when a Run node is encountered in the document.
         /// </summary>
         public int visitRun(final Run run) {
+            mRunCount++;
             indentAndAppendLine("[Run] \"" + run.getText() + "\"");
 
             return VisitorAction.CONTINUE;
@@ -164,22 +176,91 @@ public class ExDocumentVisitor extends ApiExampleBase {
             return VisitorAction.CONTINUE;
         }
 
-        /// <summary>
-        /// Append a line to the StringBuilder and indent it depending on how deep the visitor is into the document tree.
-        /// </summary>
-        /// <param name="text"></param>
-        private void indentAndAppendLine(final String text) {
-            for (int i = 0; i < mDocTraversalDepth; i++) {
-                mAcceptingNodeChildTree.append("|  ");
+        private int mSectionCount;
+        private int mParagraphCount;
+        private int mRunCount;
+    }
+    //ExEnd
+
+    @Test
+    public void docStructureToWriter() throws Exception {
+        // Two sections, the second with a 2x2 table that has a 2x3 table nested in its last cell
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+        builder.writeln("Section 1");
+        builder.insertBreak(BreakType.SECTION_BREAK_NEW_PAGE);
+
+        Table outerTable = buildTable(builder, 2, 2);
+        builder.moveTo(outerTable.getLastRow().getLastCell().getFirstParagraph());
+        buildTable(builder, 2, 3);
+
+        // A printer can stream its lines into a writer instead of collecting them in memory
+        StringWriter writer = new StringWriter();
+        doc.accept(new DocStructurePrinter(writer));
+        StringWriter tableWriter = new StringWriter();
+        doc.accept(new TableStructurePrinter(tableWriter));
+
+        List<String> lines = getUnindentedLines(writer.toString());
+        Assert.assertTrue(lines.contains("[Section start] Section index: 0"));
+        Assert.assertTrue(lines.contains("[Section start] Section index: 1"));
+        Assert.assertTrue(lines.get(lines.size() - 1).startsWith("[Document end] Sections: 2, "));
+        Assert.assertTrue(lines.get(lines.size() - 1).endsWith(", Runs: 11"));
+
+        // A section that accepts the visitor itself is not counted, its index is looked up
+        DocStructurePrinter sectionPrinter = new DocStructurePrinter();
+        doc.getLastSection().accept(sectionPrinter);
+        Assert.assertEquals(getUnindentedLines(sectionPrinter.getText()).get(0), "[Section start] Section index: 1");
+
+        List<String> cellLines = new ArrayList<>();
+        List<String> tableLines = new ArrayList<>();
+        for (String line : getUnindentedLines(tableWriter.toString())) {
+            if (line.startsWith("[Cell start]")) {
+                cellLines.add(line);
+            } else if (line.startsWith("[Table start]")) {
+                tableLines.add(line);
+            }
+        }
+
+        Assert.assertEquals(tableLines, Arrays.asList("[Table start] Size: 2x2", "[Table start] Size: 2x3"));
+        Assert.assertEquals(cellLines, Arrays.asList(
+                "[Cell start] Row 1, Col 1, the first cell in this row",
+                "[Cell start] Row 1, Col 2, the last cell in this row",
+                "[Cell start] Row 2, Col 1, the first cell in this row",
+                "[Cell start] Row 2, Col 2, the last cell in this row",
+                // The nested table is counted separately from the cell that holds it
+                "[Cell start] Row 1, Col 1, the first cell in this row",
+                "[Cell start] Row 1, Col 2",
+                "[Cell start] Row 1, Col 3, the last cell in this row",
+                "[Cell start] Row 2, Col 1, the first cell in this row",
+                "[Cell start] Row 2, Col 2",
+                "[Cell start] Row 2, Col 3, the last cell in this row"));
+    }
+
+    /// <summary>
+    /// Builds a table at the position of the builder with the row and column number as the text of every cell.
+    /// </summary>
+    private static Table buildTable(final DocumentBuilder builder, final int rowCount, final int columnCount) throws Exception {
+        Table table = builder.startTable();
+        for (int row = 1; row <= rowCount; row++) {
+            for (int column = 1; column <= columnCount; column++) {
+                builder.insertCell();
+                builder.write(row + "." + column);
             }
+            builder.endRow();
+        }
+        builder.endTable();
 
-            mAcceptingNodeChildTree.append(text + "\r\n");
+        return table;
+    }
+
+    private static List<String> getUnindentedLines(final String text) {
+        List<String> lines = new ArrayList<>();
+        for (String line : text.split("\r\n")) {
+            lines.add(line.replaceFirst("^(\\|  )+", ""));
         }
 
-        private int mDocTraversalDepth;
-        private StringBuilder mAcceptingNodeChildTree;
+        return lines;
     }
-    //ExEnd
 
     private void testDocStructureToText(DocStructurePrinter visitor) {
         String visitorText = visitor.getText();
@@ -231,14 +312,16 @@ public class ExDocumentVisitor extends ApiExampleBase {
     /// Traverses a node's non-binary tree of child nodes.
     /// Creates a map in the form of a string of all encountered Table nodes and their children.
     /// </summary>
-    public static class TableStructurePrinter extends DocumentVisitor {
+    public static class TableStructurePrinter extends StructurePrinter {
         public TableStructurePrinter() {
-            mVisitedTables = new StringBuilder();
-            mVisitorIsInsideTable = false;
+            this(new StringBuilder());
         }
 
-        public String getText() {
-            return mVisitedTables.toString();
+        /// <summary>
+        /// Creates a printer that writes the lines to the output as the nodes are visited.
+        /// </summary>
+        public TableStructurePrinter(final Appendable out) {
+            super(out);
         }
 
         /// <summary>
@@ -246,7 +329,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Runs that are not within tables are not recorded.
         /// </summary>
         public /*override*/ /*VisitorAction*/int visitRun(Run run) {
-            if (mVisitorIsInsideTable) indentAndAppendLine("[Run] \"" + run.getText() + "\"");
+            if (isInsideTable()) indentAndAppendLine("[Run] \"" + run.getText() + "\"");
 
             return VisitorAction.CONTINUE;
         }
@@ -255,17 +338,15 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called when a Table is encountered in the document.
         /// </summary>
         public int visitTableStart(final Table table) {
-            int rows = 0;
-            int columns = 0;
-
-            if (table.getRows().getCount() > 0) {
-                rows = table.getRows().getCount();
-                columns = table.getFirstRow().getCount();
-            }
+            int rows = table.getRows().getCount();
+            int columns = rows > 0 ? table.getFirstRow().getCount() : 0;
 
             indentAndAppendLine("[Table start] Size: " + rows + "x" + columns);
-            mDocTraversalDepth++;
-            mVisitorIsInsideTable = true;
+            indent();
+            mTableDepth++;
+
+            // Start counting the rows of the table
+            pushIndex();
 
             return VisitorAction.CONTINUE;
         }
@@ -274,9 +355,10 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a Table node have been visited.
         /// </summary>
         public int visitTableEnd(final Table table) {
-            mDocTraversalDepth--;
+            popIndex();
+            mTableDepth--;
+            outdent();
             indentAndAppendLine("[Table end]");
-            mVisitorIsInsideTable = false;
 
             return VisitorAction.CONTINUE;
         }
@@ -287,14 +369,18 @@ public class ExDocumentVisitor extends ApiExampleBase {
         public int visitRowStart(final Row row) {
             String rowContents = row.getText().replaceAll("\\u0007", ", ").replaceAll(", , ", "");
             int rowWidth = row.indexOf(row.getLastCell()) + 1;
-            int rowIndex = row.getParentTable().indexOf(row);
+            // A row that accepted the visitor itself was not counted, so it is looked up in its table
+            int rowIndex = mTableDepth > 0 ? nextIndex() : row.getParentTable().indexOf(row);
             String rowStatusInTable = row.isFirstRow() && row.isLastRow() ? "only" : row.isFirstRow() ? "first" : row.isLastRow() ? "last" : "";
             if (!"".equals(rowStatusInTable)) {
                 rowStatusInTable = MessageFormat.format(", the {0} row in this table,", rowStatusInTable);
             }
 
-            indentAndAppendLine(MessageFormat.format("[Row start] Row #{0}{1} width {2}, \"{3}\"", ++rowIndex, rowStatusInTable, rowWidth, rowContents));
-            mDocTraversalDepth++;
+            indentAndAppendLine(MessageFormat.format("[Row start] Row #{0}{1} width {2}, \"{3}\"", rowIndex + 1, rowStatusInTable, rowWidth, rowContents));
+            indent();
+
+            // Start counting the cells of the row
+            pushIndex();
 
             return VisitorAction.CONTINUE;
         }
@@ -303,7 +389,8 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a Row node have been visited.
         /// </summary>
         public int visitRowEnd(final Row row) {
-            mDocTraversalDepth--;
+            popIndex();
+            outdent();
             indentAndAppendLine("[Row end]");
 
             return VisitorAction.CONTINUE;
@@ -313,15 +400,17 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called when a Cell node is encountered in the document.
         /// </summary>
         public int visitCellStart(final Cell cell) {
+            // The cell is counted in its row, the row index was counted when the row started
             Row row = cell.getParentRow();
-            Table table = row.getParentTable();
+            int cellIndex = getIndexDepth() > 0 ? nextIndex() : row.indexOf(cell);
+            int rowIndex = getIndexDepth() > 1 ? getIndex(1) : row.getParentTable().indexOf(row);
             String cellStatusInRow = cell.isFirstCell() && cell.isLastCell() ? "only" : cell.isFirstCell() ? "first" : cell.isLastCell() ? "last" : "";
             if (!"".equals(cellStatusInRow)) {
                 cellStatusInRow = MessageFormat.format(", the {0} cell in this row", cellStatusInRow);
             }
 
-            indentAndAppendLine(MessageFormat.format("[Cell start] Row {0}, Col {1}{2}", table.indexOf(row) + 1, row.indexOf(cell) + 1, cellStatusInRow));
-            mDocTraversalDepth++;
+            indentAndAppendLine(MessageFormat.format("[Cell start] Row {0}, Col {1}{2}", rowIndex + 1, cellIndex + 1, cellStatusInRow));
+            indent();
 
             return VisitorAction.CONTINUE;
         }
@@ -330,27 +419,19 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a Cell node have been visited.
         /// </summary>
         public int visitCellEnd(final Cell cell) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[Cell end]");
             return VisitorAction.CONTINUE;
         }
 
         /// <summary>
-        /// Append a line to the StringBuilder, and indent it depending on how deep the visitor is
-        /// into the current table's tree of child nodes.
+        /// Whether the visitor is inside a table, including tables nested in cells.
         /// </summary>
-        /// <param name="text"></param>
-        private void indentAndAppendLine(final String text) {
-            for (int i = 0; i < mDocTraversalDepth; i++) {
-                mVisitedTables.append("|  ");
-            }
-
-            mVisitedTables.append(text + "\r\n");
+        private boolean isInsideTable() {
+            return mTableDepth > 0;
         }
 
-        private boolean mVisitorIsInsideTable;
-        private int mDocTraversalDepth;
-        private /*final*/ StringBuilder mVisitedTables;
+        private int mTableDepth;
     }
     //ExEnd
 
@@ -390,14 +471,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
     /// Traverses a node's non-binary tree of child nodes.
     /// Creates a map in the form of a string of all encountered Comment/CommentRange nodes and their children.
     /// </summary>
-    public static class CommentStructurePrinter extends DocumentVisitor {
+    public static class CommentStructurePrinter extends StructurePrinter {
         public CommentStructurePrinter() {
-            mBuilder = new StringBuilder();
-            mVisitorIsInsideComment = false;
+            this(new StringBuilder());
         }
 
-        public String getText() {
-            return mBuilder.toString();
+        public CommentStructurePrinter(final Appendable out) {
+            super(out);
+            mVisitorIsInsideComment = false;
         }
 
         /// <summary>
@@ -417,7 +498,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// </summary>
         public int visitCommentRangeStart(final CommentRangeStart commentRangeStart) {
             indentAndAppendLine("[Comment range start] ID: " + commentRangeStart.getId());
-            mDocTraversalDepth++;
+            indent();
             mVisitorIsInsideComment = true;
 
             return VisitorAction.CONTINUE;
@@ -427,7 +508,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called when a CommentRangeEnd node is encountered in the document.
         /// </summary>
         public int visitCommentRangeEnd(final CommentRangeEnd commentRangeEnd) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[Comment range end]");
             mVisitorIsInsideComment = false;
 
@@ -440,7 +521,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         public int visitCommentStart(final Comment comment) {
             indentAndAppendLine(MessageFormat.format("[Comment start] For comment range ID {0}, By {1} on {2}", comment.getId(),
                     comment.getAuthor(), comment.getDateTime()));
-            mDocTraversalDepth++;
+            indent();
             mVisitorIsInsideComment = true;
 
             return VisitorAction.CONTINUE;
@@ -450,29 +531,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a Comment node have been visited.
         /// </summary>
         public int visitCommentEnd(final Comment comment) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[Comment end]");
             mVisitorIsInsideComment = false;
 
             return VisitorAction.CONTINUE;
         }
 
-        /// <summary>
-        /// Append a line to the StringBuilder, and indent it depending on how deep the visitor is
-        /// into a comment/comment range's tree of child nodes.
-        /// </summary>
-        /// <param name="text"></param>
-        private void indentAndAppendLine(final String text) {
-            for (int i = 0; i < mDocTraversalDepth; i++) {
-                mBuilder.append("|  ");
-            }
-
-            mBuilder.append(text + "\r\n");
-        }
-
         private boolean mVisitorIsInsideComment;
-        private int mDocTraversalDepth;
-        private StringBuilder mBuilder;
     }
     //ExEnd
 
@@ -509,14 +575,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
     /// Traverses a node's non-binary tree of child nodes.
     /// Creates a map in the form of a string of all encountered Field nodes and their children.
     /// </summary>
-    public static class FieldStructurePrinter extends DocumentVisitor {
+    public static class FieldStructurePrinter extends StructurePrinter {
         public FieldStructurePrinter() {
-            mBuilder = new StringBuilder();
-            mVisitorIsInsideField = false;
+            this(new StringBuilder());
         }
 
-        public String getText() {
-            return mBuilder.toString();
+        public FieldStructurePrinter(final Appendable out) {
+            super(out);
+            mVisitorIsInsideField = false;
         }
 
         /// <summary>
@@ -535,7 +601,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// </summary>
         public int visitFieldStart(final FieldStart fieldStart) {
             indentAndAppendLine("[Field start] FieldType: " + fieldStart.getFieldType());
-            mDocTraversalDepth++;
+            indent();
             mVisitorIsInsideField = true;
 
             return VisitorAction.CONTINUE;
@@ -545,7 +611,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called when a FieldEnd node is encountered in the document.
         /// </summary>
         public int visitFieldEnd(final FieldEnd fieldEnd) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[Field end]");
             mVisitorIsInsideField = false;
 
@@ -561,22 +627,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
             return VisitorAction.CONTINUE;
         }
 
-        /// <summary>
-        /// Append a line to the StringBuilder, and indent it depending on how deep the visitor is
-        /// into the field's tree of child nodes.
-        /// </summary>
-        /// <param name="text"></param>
-        private void indentAndAppendLine(final String text) {
-            for (int i = 0; i < mDocTraversalDepth; i++) {
-                mBuilder.append("|  ");
-            }
-
-            mBuilder.append(text + "\r\n");
-        }
-
         private boolean mVisitorIsInsideField;
-        private int mDocTraversalDepth;
-        private StringBuilder mBuilder;
     }
     //ExEnd
 
@@ -619,14 +670,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
     /// Traverses a node's non-binary tree of child nodes.
     /// Creates a map in the form of a string of all encountered HeaderFooter nodes and their children.
     /// </summary>
-    public static class HeaderFooterStructurePrinter extends DocumentVisitor {
+    public static class HeaderFooterStructurePrinter extends StructurePrinter {
         public HeaderFooterStructurePrinter() {
-            mBuilder = new StringBuilder();
-            mVisitorIsInsideHeaderFooter = false;
+            this(new StringBuilder());
         }
 
-        public String getText() {
-            return mBuilder.toString();
+        public HeaderFooterStructurePrinter(final Appendable out) {
+            super(out);
+            mVisitorIsInsideHeaderFooter = false;
         }
 
         /// <summary>
@@ -643,7 +694,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// </summary>
         public int visitHeaderFooterStart(final HeaderFooter headerFooter) {
             indentAndAppendLine("[HeaderFooter start] HeaderFooterType: " + headerFooter.getHeaderFooterType());
-            mDocTraversalDepth++;
+            indent();
             mVisitorIsInsideHeaderFooter = true;
 
             return VisitorAction.CONTINUE;
@@ -653,28 +704,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a HeaderFooter node have been visited.
         /// </summary>
         public int visitHeaderFooterEnd(final HeaderFooter headerFooter) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[HeaderFooter end]");
             mVisitorIsInsideHeaderFooter = false;
 
             return VisitorAction.CONTINUE;
         }
 
-        /// <summary>
-        /// Append a line to the StringBuilder, and indent it depending on how deep the visitor is into the document tree.
-        /// </summary>
-        /// <param name="text"></param>
-        private void indentAndAppendLine(final String text) {
-            for (int i = 0; i < mDocTraversalDepth; i++) {
-                mBuilder.append("|  ");
-            }
-
-            mBuilder.append(text + "\r\n");
-        }
-
         private boolean mVisitorIsInsideHeaderFooter;
-        private int mDocTraversalDepth;
-        private StringBuilder mBuilder;
     }
     //ExEnd
 
@@ -713,17 +750,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
     /// Traverses a node's non-binary tree of child nodes.
     /// Creates a map in the form of a string of all encountered EditableRange nodes and their children.
     /// </summary>
-    public static class EditableRangeStructurePrinter extends DocumentVisitor {
+    public static class EditableRangeStructurePrinter extends StructurePrinter {
         public EditableRangeStructurePrinter() {
-            mBuilder = new StringBuilder();
-            mVisitorIsInsideEditableRange = false;
+            this(new StringBuilder());
         }
 
-        /// <summary>
-        /// Gets the plain text of the document that was accumulated by the visitor.
-        /// </summary>
-        public String getText() {
-            return mBuilder.toString();
+        public EditableRangeStructurePrinter(final Appendable out) {
+            super(out);
+            mVisitorIsInsideEditableRange = false;
         }
 
         /// <summary>
@@ -744,7 +778,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         public int visitEditableRangeStart(final EditableRangeStart editableRangeStart) {
             indentAndAppendLine("[EditableRange start] ID: " + editableRangeStart.getId() + " Owner: "
                     + editableRangeStart.getEditableRange().getSingleUser());
-            mDocTraversalDepth++;
+            indent();
             mVisitorIsInsideEditableRange = true;
 
             return VisitorAction.CONTINUE;
@@ -754,28 +788,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called when the visiting of a EditableRange node is ended.
         /// </summary>
         public int visitEditableRangeEnd(final EditableRangeEnd editableRangeEnd) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[EditableRange end]");
             mVisitorIsInsideEditableRange = false;
 
             return VisitorAction.CONTINUE;
         }
 
-        /// <summary>
-        /// Append a line to the StringBuilder and indent it depending on how deep the visitor is into the document tree.
-        /// </summary>
-        /// <param name="text"></param>
-        private void indentAndAppendLine(final String text) {
-            for (int i = 0; i < mDocTraversalDepth; i++) {
-                mBuilder.append("|  ");
-            }
-
-            mBuilder.append(text + "\r\n");
-        }
-
         private boolean mVisitorIsInsideEditableRange;
-        private int mDocTraversalDepth;
-        private StringBuilder mBuilder;
     }
     //ExEnd
 
@@ -810,17 +830,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
     /// Traverses a node's non-binary tree of child nodes.
     /// Creates a map in the form of a string of all encountered Footnote nodes and their children.
     /// </summary>
-    public static class FootnoteStructurePrinter extends DocumentVisitor {
+    public static class FootnoteStructurePrinter extends StructurePrinter {
         public FootnoteStructurePrinter() {
-            mBuilder = new StringBuilder();
-            mVisitorIsInsideFootnote = false;
+            this(new StringBuilder());
         }
 
-        /// <summary>
-        /// Gets the plain text of the document that was accumulated by the visitor.
-        /// </summary>
-        public String getText() {
-            return mBuilder.toString();
+        public FootnoteStructurePrinter(final Appendable out) {
+            super(out);
+            mVisitorIsInsideFootnote = false;
         }
 
         /// <summary>
@@ -828,7 +845,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// </summary>
         public int visitFootnoteStart(final Footnote footnote) {
             indentAndAppendLine("[Footnote start] Type: " + footnote.getFootnoteType());
-            mDocTraversalDepth++;
+            indent();
             mVisitorIsInsideFootnote = true;
 
             return VisitorAction.CONTINUE;
@@ -838,7 +855,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a Footnote node have been visited.
         /// </summary>
         public int visitFootnoteEnd(final Footnote footnote) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[Footnote end]");
             mVisitorIsInsideFootnote = false;
 
@@ -856,21 +873,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
             return VisitorAction.CONTINUE;
         }
 
-        /// <summary>
-        /// Append a line to the StringBuilder and indent it depending on how deep the visitor is into the document tree.
-        /// </summary>
-        /// <param name="text"></param>
-        private void indentAndAppendLine(final String text) {
-            for (int i = 0; i < mDocTraversalDepth; i++) {
-                mBuilder.append("|  ");
-            }
-
-            mBuilder.append(text + "\r\n");
-        }
-
         private boolean mVisitorIsInsideFootnote;
-        private int mDocTraversalDepth;
-        private StringBuilder mBuilder;
     }
     //ExEnd
 
@@ -907,17 +910,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
     /// Traverses a node's non-binary tree of child nodes.
     /// Creates a map in the form of a string of all encountered OfficeMath nodes and their children.
     /// </summary>
-    public static class OfficeMathStructurePrinter extends DocumentVisitor {
+    public static class OfficeMathStructurePrinter extends StructurePrinter {
         public OfficeMathStructurePrinter() {
-            mBuilder = new StringBuilder();
-            mVisitorIsInsideOfficeMath = false;
+            this(new StringBuilder());
         }
 
-        /// <summary>
-        /// Gets the plain text of the document that was accumulated by the visitor.
-        /// </summary>
-        public String getText() {
-            return mBuilder.toString();
+        public OfficeMathStructurePrinter(final Appendable out) {
+            super(out);
+            mVisitorIsInsideOfficeMath = false;
         }
 
         /// <summary>
@@ -936,7 +936,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// </summary>
         public int visitOfficeMathStart(final OfficeMath officeMath) {
             indentAndAppendLine("[OfficeMath start] Math object type: " + officeMath.getMathObjectType());
-            mDocTraversalDepth++;
+            indent();
             mVisitorIsInsideOfficeMath = true;
 
             return VisitorAction.CONTINUE;
@@ -946,28 +946,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of an OfficeMath node have been visited.
         /// </summary>
         public int visitOfficeMathEnd(final OfficeMath officeMath) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[OfficeMath end]");
             mVisitorIsInsideOfficeMath = false;
 
             return VisitorAction.CONTINUE;
         }
 
-        /// <summary>
-        /// Append a line to the StringBuilder and indent it depending on how deep the visitor is into the document tree.
-        /// </summary>
-        /// <param name="text"></param>
-        private void indentAndAppendLine(final String text) {
-            for (int i = 0; i < mDocTraversalDepth; i++) {
-                mBuilder.append("|  ");
-            }
-
-            mBuilder.append(text + "\r\n");
-        }
-
         private boolean mVisitorIsInsideOfficeMath;
-        private int mDocTraversalDepth;
-        private StringBuilder mBuilder;
     }
     //ExEnd
 
@@ -1008,17 +994,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
     /// Traverses a node's non-binary tree of child nodes.
     /// Creates a map in the form of a string of all encountered SmartTag nodes and their children.
     /// </summary>
-    public static class SmartTagStructurePrinter extends DocumentVisitor {
+    public static class SmartTagStructurePrinter extends StructurePrinter {
         public SmartTagStructurePrinter() {
-            mBuilder = new StringBuilder();
-            mVisitorIsInsideSmartTag = false;
+            this(new StringBuilder());
         }
 
-        /// <summary>
-        /// Gets the plain text of the document that was accumulated by the visitor.
-        /// </summary>
-        public String getText() {
-            return mBuilder.toString();
+        public SmartTagStructurePrinter(final Appendable out) {
+            super(out);
+            mVisitorIsInsideSmartTag = false;
         }
 
         /// <summary>
@@ -1037,7 +1020,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// </summary>
         public int visitSmartTagStart(final SmartTag smartTag) {
             indentAndAppendLine("[SmartTag start] Name: " + smartTag.getElement());
-            mDocTraversalDepth++;
+            indent();
             mVisitorIsInsideSmartTag = true;
 
             return VisitorAction.CONTINUE;
@@ -1047,28 +1030,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a SmartTag node have been visited.
         /// </summary>
         public int visitSmartTagEnd(final SmartTag smartTag) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[SmartTag end]");
             mVisitorIsInsideSmartTag = false;
 
             return VisitorAction.CONTINUE;
         }
 
-        /// <summary>
-        /// Append a line to the StringBuilder and indent it depending on how deep the visitor is into the document tree.
-        /// </summary>
-        /// <param name="text"></param>
-        private void indentAndAppendLine(final String text) {
-            for (int i = 0; i < mDocTraversalDepth; i++) {
-                mBuilder.append("|  ");
-            }
-
-            mBuilder.append(text + "\r\n");
-        }
-
         private boolean mVisitorIsInsideSmartTag;
-        private int mDocTraversalDepth;
-        private StringBuilder mBuilder;
     }
     //ExEnd
 
@@ -1110,17 +1079,14 @@ public class ExDocumentVisitor extends ApiExampleBase {
     /// Traverses a node's non-binary tree of child nodes.
     /// Creates a map in the form of a string of all encountered StructuredDocumentTag nodes and their children.
     /// </summary>
-    public static class StructuredDocumentTagNodePrinter extends DocumentVisitor {
+    public static class StructuredDocumentTagNodePrinter extends StructurePrinter {
         public StructuredDocumentTagNodePrinter() {
-            mBuilder = new StringBuilder();
-            mVisitorIsInsideStructuredDocumentTag = false;
+            this(new StringBuilder());
         }
 
-        /// <summary>
-        /// Gets the plain text of the document that was accumulated by the visitor.
-        /// </summary>
-        public String getText() {
-            return mBuilder.toString();
+        public StructuredDocumentTagNodePrinter(final Appendable out) {
+            super(out);
+            mVisitorIsInsideStructuredDocumentTag = false;
         }
 
         /// <summary>
@@ -1139,7 +1105,7 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// </summary>
         public int visitStructuredDocumentTagStart(final StructuredDocumentTag sdt) {
             indentAndAppendLine("[StructuredDocumentTag start] Title: " + sdt.getTitle());
-            mDocTraversalDepth++;
+            indent();
 
             return VisitorAction.CONTINUE;
         }
@@ -1148,27 +1114,13 @@ public class ExDocumentVisitor extends ApiExampleBase {
         /// Called after all the child nodes of a StructuredDocumentTag node have been visited.
         /// </summary>
         public int visitStructuredDocumentTagEnd(final StructuredDocumentTag sdt) {
-            mDocTraversalDepth--;
+            outdent();
             indentAndAppendLine("[StructuredDocumentTag end]");
 
             return VisitorAction.CONTINUE;
         }
 
-        /// <summary>
-        /// Append a line to the StringBuilder and indent it depending on how deep the visitor is into the document tree.
-        /// </summary>
-        /// <param name="text"></param>
-        private void indentAndAppendLine(final String text) {
-            for (int i = 0; i < mDocTraversalDepth; i++) {
-                mBuilder.append("|  ");
-            }
-
-            mBuilder.append(text + "\r\n");
-        }
-
         private boolean mVisitorIsInsideStructuredDocumentTag;
-        private int mDocTraversalDepth;
-        private StringBuilder mBuilder;
     }
     //ExEnd
 
@@ -217,7 +217,7 @@ public class ExField extends ApiExampleBase {
 
     @Test
     public void getFieldFromFieldCollection() throws Exception {
-        Document doc = new Document(getMyDir() + "Table of contents.docx");
+        Document doc = openInputDocument(getMyDir() + "Table of contents.docx");
 
         Field field = doc.getRange().getFields().get(0);
 
@@ -299,15 +299,17 @@ public class ExField extends ApiExampleBase {
         builder.insertField("MERGEFIELD Date");
 
         // Store the current culture so it can be set back once mail merge is complete
-        Locale currentCulture = Locale.getDefault();
+        String currentCulture = CurrentThreadSettings.getLocale();
         // Set to German language so dates and numbers are formatted using this culture during mail merge
-        Locale.setDefault(new Locale("de", "DE"));
+        CurrentThreadSettings.setLocale(new Locale("de", "DE"));
 
-        // Execute mail merge
-        doc.getMailMerge().execute(new String[]{"Date"}, new Object[]{new Date()});
-
-        // Restore the original culture
-        Locale.setDefault(currentCulture);
+        try {
+            // Execute mail merge
+            doc.getMailMerge().execute(new String[]{"Date"}, new Object[]{new Date()});
+        } finally {
+            // Restore the original culture
+            CurrentThreadSettings.setLocale(currentCulture);
+        }
 
         doc.save(getArtifactsDir() + "Field.ChangeLocale.docx");
     }
@@ -315,7 +317,7 @@ public class ExField extends ApiExampleBase {
     @Test
     public void removeTocFromDocument() throws Exception {
         // Open a document which contains a TOC
-        Document doc = new Document(getMyDir() + "Table of contents.docx");
+        Document doc = openInputDocument(getMyDir() + "Table of contents.docx");
 
         // Remove the first TOC from the document
         Field tocField = doc.getRange().getFields().get(0);
@@ -809,7 +811,7 @@ public class ExField extends ApiExampleBase {
 
     @Test
     public void updateTocPageNumbers() throws Exception {
-        Document doc = new Document(getMyDir() + "Field sample - TOC.docx");
+        Document doc = openInputDocument(getMyDir() + "Field sample - TOC.docx");
 
         Node startNode = DocumentHelper.getParagraph(doc, 2);
         Node endNode = null;
@@ -257,7 +257,7 @@ public class ExFieldOptions extends ApiExampleBase {
         Document doc = new Document();
         DocumentBuilder builder = new DocumentBuilder(doc);
 
-        Locale.setDefault(new Locale("de-DE"));
+        CurrentThreadSettings.setLocale(new Locale("de-DE"));
         Field field = builder.insertField(" = 1234567,89 \\# $#,###,###.##");
         field.update();
 
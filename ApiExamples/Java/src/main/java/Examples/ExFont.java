@@ -170,7 +170,7 @@ public class ExFont extends ApiExampleBase {
 
     @Test(dataProvider = "workWithEmbeddedFontsDataProvider")
     public void workWithEmbeddedFonts(final boolean embedTrueTypeFonts, final boolean embedSystemFonts, final boolean saveSubsetFonts) throws Exception {
-        Document doc = new Document(getMyDir() + "Document.docx");
+        Document doc = openInputDocument(getMyDir() + "Document.docx");
 
         FontInfoCollection fontInfos = doc.getFontInfos();
         fontInfos.setEmbedTrueTypeFonts(embedTrueTypeFonts);
@@ -947,7 +947,7 @@ public class ExFont extends ApiExampleBase {
 
     @Test
     public void disableFontSubstitution() throws Exception {
-        Document doc = new Document(getMyDir() + "Missing font.docx");
+        Document doc = openInputDocument(getMyDir() + "Missing font.docx");
 
         // Create a new class implementing IWarningCallback and assign it to the PdfSaveOptions class
         HandleDocumentSubstitutionWarnings callback = new HandleDocumentSubstitutionWarnings();
@@ -973,7 +973,7 @@ public class ExFont extends ApiExampleBase {
 
     @Test(groups = "SkipMono")
     public void substitutionWarnings() throws Exception {
-        Document doc = new Document(getMyDir() + "Rendering.docx");
+        Document doc = openInputDocument(getMyDir() + "Rendering.docx");
 
         // Create a new class implementing IWarningCallback and assign it to the PdfSaveOptions class
         HandleDocumentSubstitutionWarnings callback = new HandleDocumentSubstitutionWarnings();
@@ -995,7 +995,7 @@ public class ExFont extends ApiExampleBase {
 
     @Test
     public void substitutionWarningsClosestMatch() throws Exception {
-        Document doc = new Document(getMyDir() + "Bullet points with alternative font.docx");
+        Document doc = openInputDocument(getMyDir() + "Bullet points with alternative font.docx");
 
         // Create a new class implementing IWarningCallback and assign it to the PdfSaveOptions class
         HandleDocumentSubstitutionWarnings callback = new HandleDocumentSubstitutionWarnings();
@@ -24,7 +24,7 @@ import java.util.ArrayList;
 class ExHtmlSaveOptions extends ApiExampleBase {
     @Test(dataProvider = "exportPageMarginsDataProvider")
     public void exportPageMargins(/*SaveFormat*/int saveFormat) throws Exception {
-        Document doc = new Document(getMyDir() + "TextBoxes.docx");
+        Document doc = openInputDocument(getMyDir() + "TextBoxes.docx");
 
         HtmlSaveOptions saveOptions = new HtmlSaveOptions();
         {
@@ -47,7 +47,7 @@ class ExHtmlSaveOptions extends ApiExampleBase {
 
     @Test(dataProvider = "exportOfficeMathDataProvider")
     public void exportOfficeMath(final int saveFormat, final int outputMode) throws Exception {
-        Document doc = new Document(getMyDir() + "Office math.docx");
+        Document doc = openInputDocument(getMyDir() + "Office math.docx");
 
         HtmlSaveOptions saveOptions = new HtmlSaveOptions();
         saveOptions.setOfficeMathOutputMode(outputMode);
@@ -142,7 +142,7 @@ class ExHtmlSaveOptions extends ApiExampleBase {
 
     @Test(dataProvider = "exportUrlForLinkedImageDataProvider")
     public void exportUrlForLinkedImage(boolean export) throws Exception {
-        Document doc = new Document(getMyDir() + "Linked image.docx");
+        Document doc = openInputDocument(getMyDir() + "Linked image.docx");
 
         HtmlSaveOptions saveOptions = new HtmlSaveOptions();
         saveOptions.setExportOriginalUrlForLinkedImages(export);
@@ -168,7 +168,7 @@ class ExHtmlSaveOptions extends ApiExampleBase {
 
     @Test
     public void exportRoundtripInformation() throws Exception {
-        Document doc = new Document(getMyDir() + "TextBoxes.docx");
+        Document doc = openInputDocument(getMyDir() + "TextBoxes.docx");
         HtmlSaveOptions saveOptions = new HtmlSaveOptions();
         {
             saveOptions.setExportRoundtripInformation(true);
@@ -192,7 +192,7 @@ class ExHtmlSaveOptions extends ApiExampleBase {
 
     @Test
     public void externalResourceSavingConfig() throws Exception {
-        Document doc = new Document(getMyDir() + "Rendering.docx");
+        Document doc = openInputDocument(getMyDir() + "Rendering.docx");
 
         HtmlSaveOptions saveOptions = new HtmlSaveOptions();
         saveOptions.setCssStyleSheetType(CssStyleSheetType.EXTERNAL);
@@ -216,7 +216,7 @@ class ExHtmlSaveOptions extends ApiExampleBase {
 
     @Test
     public void convertFontsAsBase64() throws Exception {
-        Document doc = new Document(getMyDir() + "TextBoxes.docx");
+        Document doc = openInputDocument(getMyDir() + "TextBoxes.docx");
 
         HtmlSaveOptions saveOptions = new HtmlSaveOptions();
         saveOptions.setCssStyleSheetType(CssStyleSheetType.EXTERNAL);
@@ -229,7 +229,7 @@ class ExHtmlSaveOptions extends ApiExampleBase {
 
     @Test(dataProvider = "html5SupportDataProvider")
     public void html5Support(final int htmlVersion) throws Exception {
-        Document doc = new Document(getMyDir() + "Document.docx");
+        Document doc = openInputDocument(getMyDir() + "Document.docx");
 
         HtmlSaveOptions saveOptions = new HtmlSaveOptions();
         saveOptions.setHtmlVersion(htmlVersion);
@@ -247,7 +247,7 @@ class ExHtmlSaveOptions extends ApiExampleBase {
 
     @Test(dataProvider = "exportFontsDataProvider")
     public void exportFonts(final boolean exportAsBase64) throws Exception {
-        Document doc = new Document(getMyDir() + "Document.docx");
+        Document doc = openInputDocument(getMyDir() + "Document.docx");
 
         String fontsFolder = getArtifactsDir() + "HtmlSaveOptions.ExportFonts.Resources";
         HtmlSaveOptions saveOptions = new HtmlSaveOptions();
@@ -277,7 +277,7 @@ class ExHtmlSaveOptions extends ApiExampleBase {
 
     @Test
     public void resourceFolderPriority() throws Exception {
-        Document doc = new Document(getMyDir() + "Rendering.docx");
+        Document doc = openInputDocument(getMyDir() + "Rendering.docx");
 
         HtmlSaveOptions saveOptions = new HtmlSaveOptions();
         saveOptions.setCssStyleSheetType(CssStyleSheetType.EXTERNAL);
@@ -295,7 +295,7 @@ class ExHtmlSaveOptions extends ApiExampleBase {
 
     @Test
     public void resourceFolderLowPriority() throws Exception {
-        Document doc = new Document(getMyDir() + "Rendering.docx");
+        Document doc = openInputDocument(getMyDir() + "Rendering.docx");
         HtmlSaveOptions saveOptions = new HtmlSaveOptions();
         saveOptions.setCssStyleSheetType(CssStyleSheetType.EXTERNAL);
         saveOptions.setExportFontResources(true);
@@ -380,7 +380,7 @@ class ExHtmlSaveOptions extends ApiExampleBase {
 
     @Test
     public void cssClassNamesNullPrefix() throws Exception {
-        Document doc = new Document(getMyDir() + "Paragraphs.docx");
+        Document doc = openInputDocument(getMyDir() + "Paragraphs.docx");
 
         HtmlSaveOptions saveOptions = new HtmlSaveOptions();
         saveOptions.setCssStyleSheetType(CssStyleSheetType.EMBEDDED);
@@ -391,7 +391,7 @@ class ExHtmlSaveOptions extends ApiExampleBase {
 
     @Test
     public void contentIdScheme() throws Exception {
-        Document doc = new Document(getMyDir() + "Rendering.docx");
+        Document doc = openInputDocument(getMyDir() + "Rendering.docx");
 
         HtmlSaveOptions saveOptions = new HtmlSaveOptions(SaveFormat.MHTML);
         saveOptions.setPrettyFormat(true);
@@ -945,7 +945,7 @@ public class ExMailMerge extends ApiExampleBase {
 
     @Test
     public void getRegionsByName() throws Exception {
-        Document doc = new Document(getMyDir() + "Mail merge regions.docx");
+        Document doc = openInputDocument(getMyDir() + "Mail merge regions.docx");
 
         ArrayList<MailMergeRegionInfo> regions = doc.getMailMerge().getRegionsByName("Region1");
         Assert.assertEquals(doc.getMailMerge().getRegionsByName("Region1").size(), 1);
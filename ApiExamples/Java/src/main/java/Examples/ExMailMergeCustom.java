@@ -13,10 +13,13 @@ import com.aspose.words.DocumentBuilder;
 import com.aspose.words.IMailMergeDataSource;
 import com.aspose.words.IMailMergeDataSourceRoot;
 import com.aspose.words.ref.Ref;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 
 public class ExMailMergeCustom extends ApiExampleBase {
     //ExStart
@@ -336,5 +339,90 @@ public class ExMailMergeCustom extends ApiExampleBase {
     }
     //ExEnd
 
+    @Test
+    public void beanDataSource() throws Exception {
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+        builder.insertField(" MERGEFIELD TableStart:Customers");
+        builder.insertField(" MERGEFIELD FullName");
+        builder.write(", ");
+        builder.insertField(" MERGEFIELD Address");
+        builder.insertParagraph();
+        builder.insertField(" MERGEFIELD TableStart:Orders");
+        builder.insertField(" MERGEFIELD Name");
+        builder.write(" x ");
+        builder.insertField(" MERGEFIELD Quantity");
+        builder.insertParagraph();
+        builder.insertField(" MERGEFIELD TableEnd:Orders");
+        builder.insertField(" MERGEFIELD TableEnd:Customers");
+
+        List<CustomerWithOrders> customers = Arrays.asList(
+                new CustomerWithOrders("Thomas Hardy", "120 Hanover Sq., London",
+                        new Order("Rugby World Cup Cap", 2), new Order("Rugby World Cup Ball", 1)),
+                new CustomerWithOrders("Paolo Accorti", "Via Monte Bianco 34, Torino",
+                        new Order("Rugby World Cup Guide", 1)));
+
+        // The getters of the beans are the merge fields, and the getter returning a list fills the nested region
+        doc.getMailMerge().executeWithRegions(new BeanMailMergeDataSource("Customers", customers));
+
+        doc.save(getArtifactsDir() + "MailMergeCustom.BeanDataSource.docx");
+
+        String text = doc.getText();
+        Assert.assertTrue(text.contains("Thomas Hardy, 120 Hanover Sq., London"));
+        Assert.assertTrue(text.contains("Rugby World Cup Cap x 2"));
+        Assert.assertTrue(text.contains("Rugby World Cup Ball x 1"));
+        Assert.assertTrue(text.contains("Paolo Accorti, Via Monte Bianco 34, Torino"));
+        Assert.assertTrue(text.contains("Rugby World Cup Guide x 1"));
+        Assert.assertEquals(BeanMailMergeDataSource.getFieldCount(CustomerWithOrders.class), 3);
+    }
+
+    /**
+     * A customer bean with a list of orders, which is merged into a nested region.
+     */
+    public static class CustomerWithOrders {
+        public CustomerWithOrders(final String fullName, final String address, final Order... orders) {
+            mFullName = fullName;
+            mAddress = address;
+            mOrders = Arrays.asList(orders);
+        }
+
+        public String getFullName() {
+            return mFullName;
+        }
+
+        public String getAddress() {
+            return mAddress;
+        }
+
+        public List<Order> getOrders() {
+            return mOrders;
+        }
+
+        private final String mFullName;
+        private final String mAddress;
+        private final List<Order> mOrders;
+    }
+
+    /**
+     * An order bean with a primitive property.
+     */
+    public static class Order {
+        public Order(final String name, final int quantity) {
+            mName = name;
+            mQuantity = quantity;
+        }
+
+        public String getName() {
+            return mName;
+        }
+
+        public int getQuantity() {
+            return mQuantity;
+        }
+
+        private final String mName;
+        private final int mQuantity;
+    }
+
 }
 
@@ -106,7 +106,7 @@ public class ExNodeImporter extends ApiExampleBase
     @Test
     public void insertAtMailMerge() throws Exception {
         // Open the main document
-        Document mainDoc = new Document(getMyDir() + "Document insertion destination.docx");
+        Document mainDoc = openInputDocument(getMyDir() + "Document insertion destination.docx");
 
         // Add a handler to MergeField event
         mainDoc.getMailMerge().setFieldMergingCallback(new InsertDocumentAtMailMergeHandler());
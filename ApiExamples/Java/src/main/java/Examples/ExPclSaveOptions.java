@@ -50,7 +50,7 @@ public class ExPclSaveOptions extends ApiExampleBase {
 
     @Test(enabled = false, description = "This test is manual check that PaperTray information are preserved in pcl document.")
     public void getPreservedPaperTrayInformation() throws Exception {
-        Document doc = new Document(getMyDir() + "Rendering.docx");
+        Document doc = openInputDocument(getMyDir() + "Rendering.docx");
 
         // Paper tray information is now preserved when saving document to PCL format
         // Following information is transferred from document's model to PCL file
@@ -401,7 +401,7 @@ public class ExPdfSaveOptions extends ApiExampleBase {
 
     @Test
     public void unsupportedImageFormatWarning() throws Exception {
-        Document doc = new Document(getMyDir() + "Corrupted image.docx");
+        Document doc = openInputDocument(getMyDir() + "Corrupted image.docx");
 
         SaveWarningCallback saveWarningCallback = new SaveWarningCallback();
         doc.setWarningCallback(saveWarningCallback);
@@ -858,7 +858,7 @@ public class ExPdfSaveOptions extends ApiExampleBase {
 
     @Test(groups = "SkipMono")
     public void dml3DEffectsRenderingModeTest() throws Exception {
-        Document doc = new Document(getMyDir() + "DrawingML shape 3D effects.docx");
+        Document doc = openInputDocument(getMyDir() + "DrawingML shape 3D effects.docx");
 
         RenderCallback warningCallback = new RenderCallback();
         doc.setWarningCallback(warningCallback);
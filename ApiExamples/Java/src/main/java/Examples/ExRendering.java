@@ -194,7 +194,7 @@ public class ExRendering extends ApiExampleBase {
 
     @Test(groups = "SkipMono")
     public void saveToTiffDefault() throws Exception {
-        Document doc = new Document(getMyDir() + "Rendering.docx");
+        Document doc = openInputDocument(getMyDir() + "Rendering.docx");
 
         doc.save(getArtifactsDir() + "Rendering.SaveToTiffDefault.tiff");
     }
@@ -641,7 +641,7 @@ public class ExRendering extends ApiExampleBase {
         FontSettings fontSettings = new FontSettings();
         fontSettings.getSubstitutionSettings().getTableSubstitution().addSubstitutes("Times New Roman", "Slab", "Arvo");
         //ExEnd
-        Document doc = new Document(getMyDir() + "Rendering.docx");
+        Document doc = openInputDocument(getMyDir() + "Rendering.docx");
         doc.setFontSettings(fontSettings);
 
         // Check that font source are default
@@ -679,7 +679,7 @@ public class ExRendering extends ApiExampleBase {
         fontSettings.getSubstitutionSettings().getTableSubstitution().addSubstitutes("Slab", "Times New Roman", "Arial");
         fontSettings.getSubstitutionSettings().getTableSubstitution().addSubstitutes("Arvo", "Open Sans", "Arial");
 
-        Document doc = new Document(getMyDir() + "Rendering.docx");
+        Document doc = openInputDocument(getMyDir() + "Rendering.docx");
         doc.setFontSettings(fontSettings);
 
         ByteArrayOutputStream dstStream = new ByteArrayOutputStream();
@@ -714,7 +714,7 @@ public class ExRendering extends ApiExampleBase {
         FontSourceBase[] origFontSources = FontSettings.getDefaultInstance().getFontsSources();
 
         // Load the document to render
-        Document doc = new Document(getMyDir() + "Document.docx");
+        Document doc = openInputDocument(getMyDir() + "Document.docx");
 
         // Create a new class implementing IWarningCallback and assign it to the PdfSaveOptions class
         HandleDocumentWarnings callback = new HandleDocumentWarnings();
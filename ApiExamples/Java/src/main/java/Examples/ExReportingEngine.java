@@ -82,7 +82,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void dataTableTest() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.TestDataTable.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.TestDataTable.Java.docx");
 
         buildReport(doc, Common.getContracts(), "Contracts", new Class[]{ContractTestClass.class});
 
@@ -91,7 +91,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void progressiveTotal() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.Total.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.Total.Java.docx");
 
         buildReport(doc, Common.getContracts(), "Contracts", new Class[]{ContractTestClass.class});
 
@@ -100,7 +100,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void nestedDataTableTest() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.TestNestedDataTable.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.TestNestedDataTable.Java.docx");
 
         buildReport(doc, Common.getManagers(), "Managers", new Class[]{ManagerTestClass.class, ContractTestClass.class});
 
@@ -109,7 +109,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void restartingListNumberingDynamically() throws Exception {
-        Document template = new Document(getMyDir() + "ReportingEngine.RestartingListNumberingDynamically.Java.docx");
+        Document template = openInputDocument(getMyDir() + "ReportingEngine.RestartingListNumberingDynamically.Java.docx");
 
         buildReport(template, Common.getManagers(), "Managers", new Class[]{ManagerTestClass.class, ContractTestClass.class}, ReportBuildOptions.REMOVE_EMPTY_PARAGRAPHS);
 
@@ -123,7 +123,7 @@ public class ExReportingEngine extends ApiExampleBase {
         Document template = DocumentHelper.createSimpleDocument("<<doc [src.getDocument()] -build>>");
 
         DocumentTestClass doc = new DocumentTestBuilder()
-                .withDocument(new Document(getMyDir() + "ReportingEngine.RestartingListNumberingDynamically.Java.docx")).build();
+                .withDocument(openInputDocument(getMyDir() + "ReportingEngine.RestartingListNumberingDynamically.Java.docx")).build();
 
         buildReport(template, new Object[]{doc, Common.getManagers()}, new String[]{"src", "Managers"}, new Class[]{ManagerTestClass.class, ContractTestClass.class}, ReportBuildOptions.REMOVE_EMPTY_PARAGRAPHS);
 
@@ -139,7 +139,7 @@ public class ExReportingEngine extends ApiExampleBase {
         Document template2 = DocumentHelper.createSimpleDocument("<<doc [src2.getDocument()] -build>>");
 
         DocumentTestClass doc = new DocumentTestBuilder()
-                .withDocument(new Document(getMyDir() + "ReportingEngine.RestartingListNumberingDynamically.Java.docx")).build();
+                .withDocument(openInputDocument(getMyDir() + "ReportingEngine.RestartingListNumberingDynamically.Java.docx")).build();
 
         buildReport(mainTemplate, new Object[]{template1, template2, doc, Common.getManagers()}, new String[]{"src", "src1", "src2", "Managers"}, new Class[]{ManagerTestClass.class, ContractTestClass.class}, ReportBuildOptions.REMOVE_EMPTY_PARAGRAPHS);
 
@@ -150,7 +150,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void chartTest() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.TestChart.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.TestChart.Java.docx");
 
         buildReport(doc, Common.getManagers(), "managers", new Class[]{ManagerTestClass.class});
 
@@ -159,7 +159,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void bubbleChartTest() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.TestBubbleChart.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.TestBubbleChart.Java.docx");
 
         buildReport(doc, Common.getManagers(), "managers", new Class[]{ManagerTestClass.class});
 
@@ -168,7 +168,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void setChartSeriesColorsDynamically() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.SetChartSeriesColorDynamically.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.SetChartSeriesColorDynamically.Java.docx");
 
         buildReport(doc, Common.getManagers(), "managers", new Class[]{ManagerTestClass.class});
 
@@ -177,7 +177,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void setPointColorsDynamically() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.SetPointColorDynamically.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.SetPointColorDynamically.Java.docx");
 
         List<ColorItemTestClass> colors = new ArrayList<>();
         colors.add(new ColorItemTestBuilder().withColorCodeAndValues("Black", Color.BLACK.getRGB(), 1.0, 2.5, 3.5).build());
@@ -193,7 +193,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test(enabled = false, description = "WORDSNET-20810")
     public void conditionalExpressionRemoveChartSeries() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.TestRemoveChartSeries.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.TestRemoveChartSeries.Java.docx");
 
         int condition = 2;
         buildReport(doc, new Object[]{Common.getManagers(), condition}, new String[]{"managers", "condition"}, new Class[]{ManagerTestClass.class});
@@ -203,7 +203,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void indexOf() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.TestIndexOf.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.TestIndexOf.Java.docx");
 
         buildReport(doc, Common.getManagers(), "Managers", new Class[]{ManagerTestClass.class});
 
@@ -215,7 +215,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void ifElse() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.IfElse.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.IfElse.Java.docx");
 
         buildReport(doc, Common.getManagers(), "m", new Class[]{ManagerTestClass.class});
 
@@ -227,7 +227,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void ifElseWithoutData() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.IfElse.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.IfElse.Java.docx");
 
         buildReport(doc, Common.getEmptyManagers(), "m", new Class[]{ManagerTestClass.class});
 
@@ -239,7 +239,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void extensionMethods() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.ExtensionMethods.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.ExtensionMethods.Java.docx");
 
         buildReport(doc, Common.getManagers(), "Managers", new Class[]{ManagerTestClass.class});
         doc.save(getArtifactsDir() + "ReportingEngine.ExtensionMethods.docx");
@@ -247,7 +247,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void operators() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.Operators.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.Operators.Java.docx");
 
         NumericTestClass testData = new NumericTestBuilder().withValuesAndLogical(1, 2.0, 3, null, true).build();
 
@@ -257,7 +257,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void contextualObjectMemberAccess() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.ContextualObjectMemberAccess.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.ContextualObjectMemberAccess.Java.docx");
 
         buildReport(doc, Common.getManagers(), "Managers", new Class[]{ManagerTestClass.class});
 
@@ -367,7 +367,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void insertHyperlinksDynamically() throws Exception {
-        Document template = new Document(getMyDir() + "ReportingEngine.InsertingHyperlinks.Java.docx");
+        Document template = openInputDocument(getMyDir() + "ReportingEngine.InsertingHyperlinks.Java.docx");
         buildReport(template,
                 new Object[]
                         {
@@ -412,7 +412,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void workWithSingleColumnTableRow() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.SingleColumnTableRow.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.SingleColumnTableRow.Java.docx");
         buildReport(doc, Common.getManagers(), "Managers", new Class[]{ManagerTestClass.class});
 
         doc.save(getArtifactsDir() + "ReportingEngine.SingleColumnTableRow.docx");
@@ -420,7 +420,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void workWithSingleColumnTableRowGreedy() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.SingleColumnTableRowGreedy.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.SingleColumnTableRowGreedy.Java.docx");
         buildReport(doc, Common.getManagers(), "Managers", new Class[]{ManagerTestClass.class});
 
         doc.save(getArtifactsDir() + "ReportingEngine.SingleColumnTableRowGreedy.docx");
@@ -428,7 +428,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void tableRowConditionalBlocks() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.TableRowConditionalBlocks.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.TableRowConditionalBlocks.Java.docx");
 
         ArrayList<ClientTestClass> clients = new ArrayList<>();
         clients.add(new ClientTestClass("John Monrou", "France", "27 RUE PASTEUR"));
@@ -442,7 +442,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void ifGreedy() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.IfGreedy.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.IfGreedy.Java.docx");
 
         AsposeData obj = new AsposeData();
         obj.setList(new ArrayList<>());
@@ -636,7 +636,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void setBackgroundColor() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.BackColor.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.BackColor.Java.docx");
 
         ArrayList<ColorItemTestClass> colors = new ArrayList<>();
         colors.add(new ColorItemTestBuilder().withColor("Black", Color.BLACK).build());
@@ -650,7 +650,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void doNotRemoveEmptyParagraphs() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.RemoveEmptyParagraphs.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.RemoveEmptyParagraphs.Java.docx");
 
         buildReport(doc, Common.getManagers(), "Managers", new Class[]{ManagerTestClass.class});
 
@@ -659,7 +659,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void removeEmptyParagraphs() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.RemoveEmptyParagraphs.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.RemoveEmptyParagraphs.Java.docx");
 
         buildReport(doc, Common.getManagers(), "Managers", new Class[]{ManagerTestClass.class}, ReportBuildOptions.REMOVE_EMPTY_PARAGRAPHS);
 
@@ -668,7 +668,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test(dataProvider = "mergingTableCellsDynamicallyDataProvider")
     public void mergingTableCellsDynamically(final String value1, final String value2, final String resultDocumentName) throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.MergingTableCellsDynamically.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.MergingTableCellsDynamically.Java.docx");
 
         ArrayList<ClientTestClass> clients = new ArrayList<>();
         clients.add(new ClientTestClass("John Monrou", "France", "27 RUE PASTEUR"));
@@ -692,7 +692,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void xmlDataStringWithoutSchema() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.DataSource.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.DataSource.Java.docx");
 
         XmlDataSource dataSource = new XmlDataSource(getMyDir() + "List of people.xml");
         buildReport(doc, dataSource, "persons");
@@ -705,7 +705,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void xmlDataStreamWithoutSchema() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.DataSource.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.DataSource.Java.docx");
 
         InputStream stream = new FileInputStream(getMyDir() + "List of people.xml");
         try {
@@ -723,7 +723,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void xmlDataWithNestedElements() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.DataSourceWithNestedElements.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.DataSourceWithNestedElements.Java.docx");
 
         XmlDataSource dataSource = new XmlDataSource(getMyDir() + "Nested elements.xml");
         buildReport(doc, dataSource, "managers");
@@ -736,7 +736,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void jsonDataString() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.DataSource.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.DataSource.Java.docx");
 
         JsonDataSource dataSource = new JsonDataSource(getMyDir() + "List of people.json");
         buildReport(doc, dataSource, "persons");
@@ -749,7 +749,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void jsonDataStream() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.DataSource.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.DataSource.Java.docx");
         InputStream stream = new FileInputStream(getMyDir() + "List of people.json");
         try {
             JsonDataSource dataSource = new JsonDataSource(stream);
@@ -766,7 +766,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void jsonDataWithNestedElements() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.DataSourceWithNestedElements.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.DataSourceWithNestedElements.Java.docx");
 
         JsonDataSource dataSource = new JsonDataSource(getMyDir() + "Nested elements.json");
         buildReport(doc, dataSource, "managers");
@@ -779,7 +779,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void csvDataString() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.CsvData.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.CsvData.Java.docx");
 
         CsvDataLoadOptions loadOptions = new CsvDataLoadOptions(true);
         loadOptions.setDelimiter(';');
@@ -796,7 +796,7 @@ public class ExReportingEngine extends ApiExampleBase {
 
     @Test
     public void csvDataStream() throws Exception {
-        Document doc = new Document(getMyDir() + "ReportingEngine.CsvData.Java.docx");
+        Document doc = openInputDocument(getMyDir() + "ReportingEngine.CsvData.Java.docx");
 
         CsvDataLoadOptions loadOptions = new CsvDataLoadOptions(true);
         loadOptions.setDelimiter(';');
@@ -417,13 +417,13 @@ public class ExSection extends ApiExampleBase {
 
     @Test
     public void sectionsCloneSection() throws Exception {
-        Document doc = new Document(getMyDir() + "Document.docx");
+        Document doc = openInputDocument(getMyDir() + "Document.docx");
         Section cloneSection = doc.getSections().get(0).deepClone();
     }
 
     @Test
     public void sectionsImportSection() throws Exception {
-        Document srcDoc = new Document(getMyDir() + "Document.docx");
+        Document srcDoc = openInputDocument(getMyDir() + "Document.docx");
         Document dstDoc = new Document();
 
         Section sourceSection = srcDoc.getSections().get(0);
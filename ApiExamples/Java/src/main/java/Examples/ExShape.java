@@ -725,7 +725,7 @@ public class ExShape extends ApiExampleBase {
 
     @Test
     public void objectDidNotHaveSuggestedFileName() throws Exception {
-        Document doc = new Document(getMyDir() + "ActiveX controls.docx");
+        Document doc = openInputDocument(getMyDir() + "ActiveX controls.docx");
 
         Shape shape = (Shape) doc.getChild(NodeType.SHAPE, 0, true);
         Assert.assertEquals(shape.getOleFormat().getSuggestedFileName(), "");
@@ -757,7 +757,7 @@ public class ExShape extends ApiExampleBase {
 
     @Test
     public void officeMathDisplayException() throws Exception {
-        Document doc = new Document(getMyDir() + "Office math.docx");
+        Document doc = openInputDocument(getMyDir() + "Office math.docx");
 
         OfficeMath officeMath = (OfficeMath) doc.getChild(NodeType.OFFICE_MATH, 0, true);
         officeMath.setDisplayType(OfficeMathDisplayType.DISPLAY);
@@ -767,7 +767,7 @@ public class ExShape extends ApiExampleBase {
 
     @Test
     public void officeMathDefaultValue() throws Exception {
-        Document doc = new Document(getMyDir() + "Office math.docx");
+        Document doc = openInputDocument(getMyDir() + "Office math.docx");
 
         OfficeMath officeMath = (OfficeMath) doc.getChild(NodeType.OFFICE_MATH, 0, true);
 
@@ -812,7 +812,7 @@ public class ExShape extends ApiExampleBase {
 
     @Test
     public void cannotBeSetDisplayWithInlineJustification() throws Exception {
-        Document doc = new Document(getMyDir() + "Office math.docx");
+        Document doc = openInputDocument(getMyDir() + "Office math.docx");
 
         OfficeMath officeMath = (OfficeMath) doc.getChild(NodeType.OFFICE_MATH, 0, true);
         officeMath.setDisplayType(OfficeMathDisplayType.DISPLAY);
@@ -822,7 +822,7 @@ public class ExShape extends ApiExampleBase {
 
     @Test
     public void cannotBeSetInlineDisplayWithJustification() throws Exception {
-        Document doc = new Document(getMyDir() + "Office math.docx");
+        Document doc = openInputDocument(getMyDir() + "Office math.docx");
 
         OfficeMath officeMath = (OfficeMath) doc.getChild(NodeType.OFFICE_MATH, 0, true);
         officeMath.setDisplayType(OfficeMathDisplayType.INLINE);
@@ -832,7 +832,7 @@ public class ExShape extends ApiExampleBase {
 
     @Test
     public void officeMathDisplayNestedObjects() throws Exception {
-        Document doc = new Document(getMyDir() + "Office math.docx");
+        Document doc = openInputDocument(getMyDir() + "Office math.docx");
 
         OfficeMath officeMath = (OfficeMath) doc.getChild(NodeType.OFFICE_MATH, 0, true);
 
@@ -843,7 +843,7 @@ public class ExShape extends ApiExampleBase {
 
     @Test(dataProvider = "workWithMathObjectTypeDataProvider")
     public void workWithMathObjectType(final int index, final int objectType) throws Exception {
-        Document doc = new Document(getMyDir() + "Office math.docx");
+        Document doc = openInputDocument(getMyDir() + "Office math.docx");
 
         OfficeMath officeMath = (OfficeMath) doc.getChild(NodeType.OFFICE_MATH, index, true);
         Assert.assertEquals(officeMath.getMathObjectType(), objectType);
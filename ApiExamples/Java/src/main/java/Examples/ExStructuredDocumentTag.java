@@ -645,7 +645,7 @@ public class ExStructuredDocumentTag extends ApiExampleBase {
 
     @Test
     public void accessToBuildingBlockPropertiesFromDocPartObjSdt() throws Exception {
-        Document doc = new Document(getMyDir() + "Structured document tags with building blocks.docx");
+        Document doc = openInputDocument(getMyDir() + "Structured document tags with building blocks.docx");
 
         StructuredDocumentTag docPartObjSdt =
                 (StructuredDocumentTag) doc.getChild(NodeType.STRUCTURED_DOCUMENT_TAG, 0, true);
@@ -656,7 +656,7 @@ public class ExStructuredDocumentTag extends ApiExampleBase {
 
     @Test
     public void accessToBuildingBlockPropertiesFromPlainTextSdt() throws Exception {
-        Document doc = new Document(getMyDir() + "Structured document tags with building blocks.docx");
+        Document doc = openInputDocument(getMyDir() + "Structured document tags with building blocks.docx");
 
         StructuredDocumentTag plainTextSdt =
                 (StructuredDocumentTag) doc.getChild(NodeType.STRUCTURED_DOCUMENT_TAG, 1, true);
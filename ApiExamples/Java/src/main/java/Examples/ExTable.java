@@ -700,7 +700,7 @@ public class ExTable extends ApiExampleBase {
 
     @Test(enabled = false)
     public void printTableRange() throws Exception {
-        Document doc = new Document(getMyDir() + "Tables.docx");
+        Document doc = openInputDocument(getMyDir() + "Tables.docx");
 
         // Get the first table in the document
         Table table = (Table) doc.getChild(NodeType.TABLE, 0, true);
@@ -726,7 +726,7 @@ public class ExTable extends ApiExampleBase {
 
     @Test
     public void cloneTable() throws Exception {
-        Document doc = new Document(getMyDir() + "Tables.docx");
+        Document doc = openInputDocument(getMyDir() + "Tables.docx");
 
         // Retrieve the first table in the document
         Table table = (Table) doc.getChild(NodeType.TABLE, 0, true);
@@ -1127,7 +1127,7 @@ public class ExTable extends ApiExampleBase {
     @Test
     public void mergeCellRange() throws Exception {
         // Open the document
-        Document doc = new Document(getMyDir() + "Tables.docx");
+        Document doc = openInputDocument(getMyDir() + "Tables.docx");
 
         // Retrieve the first table in the body of the first section
         Table table = doc.getFirstSection().getBody().getTables().get(0);
@@ -1237,7 +1237,7 @@ public class ExTable extends ApiExampleBase {
     @Test
     public void splitTable() throws Exception {
         // Load the document
-        Document doc = new Document(getMyDir() + "Tables.docx");
+        Document doc = openInputDocument(getMyDir() + "Tables.docx");
 
         // Get the first table in the document
         Table firstTable = (Table) doc.getChild(NodeType.TABLE, 0, true);
@@ -122,7 +122,7 @@ public class ExTableColumn extends ApiExampleBase {
 
     @Test
     public void removeColumnFromTable() throws Exception {
-        Document doc = new Document(getMyDir() + "Tables.docx");
+        Document doc = openInputDocument(getMyDir() + "Tables.docx");
         Table table = (Table) doc.getChild(NodeType.TABLE, 1, true);
 
         // Get the third column from the table and remove it.
@@ -138,7 +138,7 @@ public class ExTableColumn extends ApiExampleBase {
 
     @Test
     public void insert() throws Exception {
-        Document doc = new Document(getMyDir() + "Tables.docx");
+        Document doc = openInputDocument(getMyDir() + "Tables.docx");
         Table table = (Table) doc.getChild(NodeType.TABLE, 1, true);
 
         // Get the second column in the table
@@ -161,7 +161,7 @@ public class ExTableColumn extends ApiExampleBase {
 
     @Test
     public void tableColumnToTxt() throws Exception {
-        Document doc = new Document(getMyDir() + "Tables.docx");
+        Document doc = openInputDocument(getMyDir() + "Tables.docx");
         Table table = (Table) doc.getChild(NodeType.TABLE, 1, true);
 
         // Get the first column in the table
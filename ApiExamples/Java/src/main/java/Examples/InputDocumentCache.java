@@ -0,0 +1,164 @@
+package Examples;
+
+//////////////////////////////////////////////////////////////////////////
+// Copyright (c) 2001-2020 Aspose Pty Ltd. All Rights Reserved.
+//
+// This file is part of Aspose.Words. The source code in this file
+// is only intended as a supplement to the documentation, and is provided
+// "as is", without warranty of any kind, either expressed or implied.
+//////////////////////////////////////////////////////////////////////////
+
+import com.aspose.words.Document;
+import com.aspose.words.SaveFormat;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads every input document once per JVM and hands out copies of it.
+ * <p>
+ * The loaded document is kept as a master that tests never see. Each request returns a deep clone, so a test can
+ * change its copy freely. The masters are fingerprinted when they are loaded, which lets {@link #verifyAndReport}
+ * check at the end of the suite that no copy shared state with its master and changed it.
+ */
+final class InputDocumentCache {
+
+    private InputDocumentCache() {
+        //not called
+    }
+
+    /**
+     * Returns a private copy of the document, loading the master on the first request for the file.
+     *
+     * @param fileName full path of the input document
+     * @return copy of the document
+     * @throws Exception exception for loading the document
+     */
+    static Document open(final String fileName) throws Exception {
+        Master master = getMaster(fileName);
+
+        long start = System.nanoTime();
+        Document copy;
+        // Copies are taken one at a time, test classes running in parallel may ask for the same master.
+        synchronized (master.document) {
+            copy = master.document.deepClone();
+        }
+        master.cloneNanos.addAndGet(System.nanoTime() - start);
+        master.cloneCount.incrementAndGet();
+
+        return copy;
+    }
+
+    /**
+     * Prints load and copy timings of every cached document and the parse time saved by the cache, then checks
+     * that all the masters are unchanged.
+     *
+     * @param out stream the report is printed to
+     * @throws Exception exception for saving a master to compute its fingerprint
+     */
+    static void verifyAndReport(final PrintStream out) throws Exception {
+        Map<String, Master> masters = new TreeMap<>();
+        for (Map.Entry<String, FutureTask<Master>> entry : MASTERS.entrySet()) {
+            masters.put(entry.getKey(), entry.getValue().get());
+        }
+
+        if (masters.isEmpty()) {
+            return;
+        }
+
+        out.println("Input document cache (document, load ms, copies, average copy ms, saved ms):");
+        long savedNanos = 0;
+        List<String> mutatedDocuments = new ArrayList<>();
+        for (Map.Entry<String, Master> entry : masters.entrySet()) {
+            Master master = entry.getValue();
+            int copies = master.cloneCount.get();
+            long cloneNanos = master.cloneNanos.get();
+
+            // Without the cache every copy would have been a parse of the file.
+            long saved = copies * master.loadNanos - master.loadNanos - cloneNanos;
+            savedNanos += saved;
+
+            out.println(String.format("  %s\t%.1f\t%d\t%.2f\t%.1f", entry.getKey(), master.loadNanos / 1e6, copies,
+                    copies == 0 ? 0.0 : cloneNanos / 1e6 / copies, saved / 1e6));
+
+            if (!Arrays.equals(master.fingerprint, fingerprint(master.document))) {
+                mutatedDocuments.add(entry.getKey());
+            }
+        }
+        out.println(String.format("  Total parse time saved: %.1f ms", savedNanos / 1e6));
+
+        if (!mutatedDocuments.isEmpty()) {
+            throw new AssertionError("Cached input documents were changed through their copies: " + mutatedDocuments);
+        }
+    }
+
+    private static Master getMaster(final String fileName) throws Exception {
+        FutureTask<Master> task = MASTERS.get(fileName);
+        if (task == null) {
+            FutureTask<Master> newTask = new FutureTask<>(() -> new Master(fileName));
+            task = MASTERS.putIfAbsent(fileName, newTask);
+            if (task == null) {
+                task = newTask;
+                task.run();
+            }
+        }
+
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            // A file that fails to load is not cached, so the next test sees the same exception as without the cache.
+            MASTERS.remove(fileName, task);
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Digest of the document saved as Flat OPC, which is a single XML part and does not depend on zip timestamps.
+     */
+    private static byte[] fingerprint(final Document document) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        OutputStream nullStream = new OutputStream() {
+            @Override
+            public void write(final int b) {
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+            }
+        };
+
+        synchronized (document) {
+            document.save(new DigestOutputStream(nullStream, digest), SaveFormat.FLAT_OPC);
+        }
+        return digest.digest();
+    }
+
+    private static final class Master {
+        private final Document document;
+        private final long loadNanos;
+        private final byte[] fingerprint;
+        private final AtomicInteger cloneCount = new AtomicInteger();
+        private final AtomicLong cloneNanos = new AtomicLong();
+
+        Master(final String fileName) throws Exception {
+            long start = System.nanoTime();
+            document = new Document(fileName);
+            loadNanos = System.nanoTime() - start;
+            fingerprint = fingerprint(document);
+        }
+    }
+
+    private static final ConcurrentHashMap<String, FutureTask<Master>> MASTERS = new ConcurrentHashMap<>();
+}
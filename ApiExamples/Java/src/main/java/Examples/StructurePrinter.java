@@ -0,0 +1,108 @@
+package Examples;
+
+//////////////////////////////////////////////////////////////////////////
+// Copyright (c) 2001-2020 Aspose Pty Ltd. All Rights Reserved.
+//
+// This file is part of Aspose.Words. The source code in this file
+// is only intended as a supplement to the documentation, and is provided
+// "as is", without warranty of any kind, either expressed or implied.
+//////////////////////////////////////////////////////////////////////////
+
+import com.aspose.words.DocumentVisitor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/// <summary>
+/// Base for document visitors that print a map of the node tree, one indented line per node.
+/// Lines are written to an Appendable as the nodes are visited, so a Writer can stream the map of a large document
+/// instead of holding all of it in memory. Positions of nodes among their siblings are counted during the same
+/// traversal with the index stack, so no printer needs to look a node up in its parent.
+/// </summary>
+public abstract class StructurePrinter extends DocumentVisitor {
+    protected StructurePrinter(final Appendable out) {
+        mOut = out;
+    }
+
+    /// <summary>
+    /// Gets the printed text when the printer writes to a StringBuilder or another Appendable that returns its contents.
+    /// </summary>
+    public String getText() {
+        return mOut.toString();
+    }
+
+    /// <summary>
+    /// Append a line to the output and indent it depending on how deep the visitor is into the document tree.
+    /// </summary>
+    protected void indentAndAppendLine(final String text) {
+        try {
+            for (int i = 0; i < mDocTraversalDepth; i++) {
+                mOut.append("|  ");
+            }
+
+            mOut.append(text).append("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /// <summary>
+    /// Indents the lines of the child nodes of the node that was just printed.
+    /// </summary>
+    protected void indent() {
+        mDocTraversalDepth++;
+    }
+
+    /// <summary>
+    /// Ends the indentation of the child nodes, before the end of their parent is printed.
+    /// </summary>
+    protected void outdent() {
+        mDocTraversalDepth--;
+    }
+
+    /// <summary>
+    /// Starts counting the children of a node that was just entered.
+    /// </summary>
+    protected void pushIndex() {
+        if (mIndexCount == mIndexes.length) {
+            mIndexes = Arrays.copyOf(mIndexes, mIndexCount * 2);
+        }
+
+        mIndexes[mIndexCount++] = -1;
+    }
+
+    /// <summary>
+    /// Gets the zero-based index of a child of the node on top of the index stack among the children visited so far.
+    /// </summary>
+    protected int nextIndex() {
+        return ++mIndexes[mIndexCount - 1];
+    }
+
+    /// <summary>
+    /// Gets the index counted last at the given number of levels below the top of the index stack,
+    /// e.g. the index of the row of the cell whose index is on top.
+    /// </summary>
+    protected int getIndex(final int levelsBelowTop) {
+        return mIndexes[mIndexCount - 1 - levelsBelowTop];
+    }
+
+    /// <summary>
+    /// Stops counting the children of the node that is left.
+    /// </summary>
+    protected void popIndex() {
+        mIndexCount--;
+    }
+
+    /// <summary>
+    /// Gets the number of nodes whose children are being counted, which is the nesting level of those nodes.
+    /// </summary>
+    protected int getIndexDepth() {
+        return mIndexCount;
+    }
+
+    private final Appendable mOut;
+    private int mDocTraversalDepth;
+    private int[] mIndexes = new int[8];
+    private int mIndexCount;
+}
@@ -0,0 +1,54 @@
+package Examples;
+
+//////////////////////////////////////////////////////////////////////////
+// Copyright (c) 2001-2020 Aspose Pty Ltd. All Rights Reserved.
+//
+// This file is part of Aspose.Words. The source code in this file
+// is only intended as a supplement to the documentation, and is provided
+// "as is", without warranty of any kind, either expressed or implied.
+//////////////////////////////////////////////////////////////////////////
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Reports the wall-clock time of a test suite together with its parallel mode and thread count.
+ * <p>
+ * Every finished suite adds a line to the file named by the "apiexamples.timingReport" system property, so running
+ * the suite with different thread counts builds up a table of wall-clock time against thread count.
+ */
+public class SuiteTimingListener implements ISuiteListener {
+    private long startNanos;
+
+    @Override
+    public void onStart(final ISuite suite) {
+        startNanos = System.nanoTime();
+    }
+
+    @Override
+    public void onFinish(final ISuite suite) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        String parallel = suite.getParallel();
+        int threadCount = parallel == null || "none".equals(parallel) || "false".equals(parallel)
+                ? 1 : suite.getXmlSuite().getThreadCount();
+
+        String line = String.format("%s\t%s\t%d\t%d\t%.1f", suite.getName(), parallel, threadCount,
+                suite.getAllMethods().size(), seconds);
+        System.out.println("Suite timing (name, parallel, threads, tests, seconds): " + line);
+
+        String reportFile = System.getProperty("apiexamples.timingReport");
+        if (reportFile == null || reportFile.isEmpty()) {
+            return;
+        }
+
+        try (Writer writer = new FileWriter(reportFile, true)) {
+            writer.write(line + System.lineSeparator());
+        } catch (IOException e) {
+            System.out.println("Suite timing could not be written to " + reportFile + ": " + e.getMessage());
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.io.File;
 import java.text.MessageFormat;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.*;
 
 public class PageSplitter {
     public static void main(String[] args) throws Exception {
@@ -54,11 +55,113 @@ public class PageSplitter {
         }
     }
     //ExEnd:SplitAllDocumentsToPages
+
+    //ExStart:SplitDocumentToPagesParallel
+    /// <summary>
+    /// Splits the document on the calling thread, then saves its pages from the executor.
+    /// The pages are divided into one contiguous range per worker and every worker builds its pages
+    /// from its own copy of the split document, as a Document instance must not be used by several threads at once.
+    /// Copies are made by the workers when their range starts, so only the ranges being saved hold a copy.
+    /// </summary>
+    /// <returns>
+    /// The number of saved pages.
+    /// </returns>
+    public static int SplitDocumentToPagesParallel(File docName, ExecutorService pageExecutor, int workerCount) throws Exception {
+        String folderName = docName.getParent();
+        final String fileName = docName.getName();
+        final String extensionName = fileName.substring(fileName.lastIndexOf("."));
+        final String outFolder = new File(folderName, "Out").getAbsolutePath();
+        System.out.println("Processing document: " + fileName);
+
+        Document doc = new Document(docName.getAbsolutePath());
+        DocumentPageSplitter splitter = new DocumentPageSplitter(doc);
+        final Document splitDoc = splitter.getSplitDocument();
+        int pageCount = doc.getPageCount();
+
+        // Resolve the sections of every page up front, section indices stay valid in the copies of the document.
+        final int[][] pageSections = new int[pageCount + 1][];
+        for (int page = 1; page <= pageCount; page++) {
+            pageSections[page] = splitter.getSectionIndicesOfPage(page);
+        }
+
+        int rangeCount = Math.max(1, Math.min(workerCount, pageCount));
+        List<Future<Integer>> results = new ArrayList<Future<Integer>>(rangeCount);
+        for (int range = 0; range < rangeCount; range++) {
+            final int startPage = 1 + (int) ((long) pageCount * range / rangeCount);
+            final int endPage = (int) ((long) pageCount * (range + 1) / rangeCount);
+
+            results.add(pageExecutor.submit(new Callable<Integer>() {
+                public Integer call() throws Exception {
+                    // The copy is taken on the pool thread when the range starts, one at a time,
+                    // so the split document is never read concurrently.
+                    Document workerDoc;
+                    synchronized (splitDoc) {
+                        workerDoc = (Document) splitDoc.deepClone(true);
+                    }
+
+                    for (int page = startPage; page <= endPage; page++) {
+                        Document pageDoc = DocumentPageSplitter.getDocumentOfSections(workerDoc, pageSections[page]);
+                        pageDoc.save(new File(outFolder, MessageFormat.format("{0} - page{1} Out{2}", fileName, page, extensionName)).getAbsolutePath());
+                    }
+
+                    return endPage - startPage + 1;
+                }
+            }));
+        }
+
+        int savedPages = 0;
+        for (Future<Integer> result : results) {
+            savedPages += result.get();
+        }
+
+        return savedPages;
+    }
+    //ExEnd:SplitDocumentToPagesParallel
+
+    //ExStart:SplitAllDocumentsToPagesParallel
+    /// <summary>
+    /// Splits several documents of the folder at once. Documents are taken by a pool of fileConcurrency threads
+    /// while their pages are saved by a separate bounded pool of threadCount threads.
+    /// </summary>
+    /// <returns>
+    /// The number of saved pages.
+    /// </returns>
+    public static int SplitAllDocumentsToPagesParallel(String folderName, int fileConcurrency, final int threadCount) throws Exception {
+        File[] files = new File(folderName).listFiles();
+        ExecutorService fileExecutor = Executors.newFixedThreadPool(fileConcurrency);
+        final ExecutorService pageExecutor = Executors.newFixedThreadPool(threadCount);
+
+        try {
+            List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+            for (final File file : files) {
+                if (file.isFile()) {
+                    results.add(fileExecutor.submit(new Callable<Integer>() {
+                        public Integer call() throws Exception {
+                            return SplitDocumentToPagesParallel(file, pageExecutor, threadCount);
+                        }
+                    }));
+                }
+            }
+
+            int savedPages = 0;
+            for (Future<Integer> result : results) {
+                savedPages += result.get();
+            }
+
+            return savedPages;
+        } finally {
+            fileExecutor.shutdownNow();
+            pageExecutor.shutdownNow();
+        }
+    }
+    //ExEnd:SplitAllDocumentsToPagesParallel
 }
 
 //ExStart:DocumentPageSplitter
 class DocumentPageSplitter {
     private PageNumberFinder pageNumberFinder;
+    // Maps sections of the split document to their index, filled on first use.
+    private IdentityHashMap<Node, Integer> sectionIndices;
 
     /// <summary>
     /// Initializes a new instance of the <see cref="DocumentPageSplitter"/> class.
@@ -67,7 +170,19 @@ class DocumentPageSplitter {
     /// </summary>
     /// <param name="source">source document</param>
     public DocumentPageSplitter(Document source) throws Exception {
-        this.pageNumberFinder = PageNumberFinderFactory.create(source);
+        this(source, false);
+    }
+
+    /// <summary>
+    /// Initializes a new instance of the <see cref="DocumentPageSplitter"/> class.
+    /// </summary>
+    /// <param name="source">source document</param>
+    /// <param name="reuseLayout">
+    /// True to keep the page numbers of the first layout instead of laying out the split document again,
+    /// see <see cref="PageNumberFinderFactory.create(Document, boolean)"/>.
+    /// </param>
+    public DocumentPageSplitter(Document source, boolean reuseLayout) throws Exception {
+        this.pageNumberFinder = PageNumberFinderFactory.create(source, reuseLayout);
     }
 
     /// <summary>
@@ -77,6 +192,20 @@ class DocumentPageSplitter {
         return this.pageNumberFinder.getDocument();
     }
 
+    /// <summary>
+    /// Gets the page number finder used to split the document.
+    /// </summary>
+    PageNumberFinder getPageNumberFinder() {
+        return this.pageNumberFinder;
+    }
+
+    /// <summary>
+    /// Gets the source document after it was split so that each page begins and ends at a section boundary.
+    /// </summary>
+    public Document getSplitDocument() {
+        return this.getDocument();
+    }
+
     /// <summary>
     /// Gets the document of a page.
     /// </summary>
@@ -110,6 +239,44 @@ class DocumentPageSplitter {
 
         return result;
     }
+
+    /// <summary>
+    /// Gets the indices of the sections of the split document which make up a page.
+    /// </summary>
+    /// <param name="pageIndex">
+    /// 1-based index of a page.
+    /// </param>
+    public int[] getSectionIndicesOfPage(int pageIndex) throws Exception {
+        if (this.sectionIndices == null) {
+            this.sectionIndices = new IdentityHashMap<Node, Integer>();
+            SectionCollection sections = this.getDocument().getSections();
+            for (int i = 0; i < sections.getCount(); i++) {
+                this.sectionIndices.put(sections.get(i), i);
+            }
+        }
+
+        ArrayList sections = this.pageNumberFinder.retrieveAllNodesOnPages(pageIndex, pageIndex, NodeType.SECTION);
+        int[] indices = new int[sections.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = this.sectionIndices.get(sections.get(i));
+        }
+
+        return indices;
+    }
+
+    /// <summary>
+    /// Builds a document from the specified sections of a split document.
+    /// Use it with a copy of <see cref="getSplitDocument"/> to build pages on other threads.
+    /// </summary>
+    public static Document getDocumentOfSections(Document splitDocument, int[] sectionIndices) throws Exception {
+        Document result = (Document) splitDocument.deepClone(false);
+        SectionCollection sections = splitDocument.getSections();
+        for (int index : sectionIndices) {
+            result.appendChild(result.importNode(sections.get(index), true));
+        }
+
+        return result;
+    }
 }
 
 class PageNumberFinder {
@@ -118,8 +285,20 @@ class PageNumberFinder {
     private Hashtable nodeEndPageLookup = new Hashtable();
     private LayoutCollector collector;
 
-    // Maps page number to a list of nodes found on that page.
-    private Hashtable reversePageLookup;
+    // Maps page number to the ordinals of the nodes found on that page.
+    private PageNodeIndex pageIndex;
+
+    // Runs crossing a page are cut at the page breaks found by this enumerator, unless splitting by words is requested.
+    private LayoutEnumerator layoutEnumerator;
+    private boolean splitByWords;
+    private long runCloneCount;
+    private long copiedCharCount;
+
+    // Set when runs were split by words, the pages of the new runs are then only known after a new layout.
+    private boolean reuseLayout;
+    private boolean layoutInvalidated;
+    private long firstLayoutNanos;
+    private long relayoutNanos;
 
     /// <summary>
     /// Initializes a new instance of the <see cref="PageNumberFinder"/> class.
@@ -203,23 +382,7 @@ class PageNumberFinder {
         }
 
         this.checkPageListsPopulated();
-        ArrayList pageNodes = new ArrayList();
-        for (int page = startPage; page <= endPage; page++) {
-            // Some pages can be empty.
-            if (!this.reversePageLookup.containsKey(page)) {
-                continue;
-            }
-
-            for (Node node : (Iterable<Node>) this.reversePageLookup.get(page)) {
-                if (node.getParentNode() != null
-                        && (nodeType == NodeType.ANY || node.getNodeType() == nodeType)
-                        && !pageNodes.contains(node)) {
-                    pageNodes.add(node);
-                }
-            }
-        }
-
-        return pageNodes;
+        return this.pageIndex.retrieveNodes(startPage, endPage, nodeType);
     }
 
     /// <summary>
@@ -227,16 +390,82 @@ class PageNumberFinder {
     /// but no longer appear across a page.
     /// </summary>
     public void splitNodesAcrossPages() throws Exception {
+        this.splitRunsAcrossPages();
+
+        // Runs cut at the layout page breaks already have their page numbers, so the first layout stays valid
+        // unless some paragraph had to be split by words.
+        if (!this.reuseLayout || this.layoutInvalidated) {
+            long start = System.nanoTime();
+            this.clearCollector();
+            this.relayoutNanos = System.nanoTime() - start;
+        }
+
+        // Visit any composites which are possibly split across pages and split them into separate nodes.
+        this.getDocument().accept(new SectionSplitter(this));
+    }
+
+    /// <summary>
+    /// Splits runs of the paragraphs which appear over two or more pages so that no run crosses a page.
+    /// </summary>
+    void splitRunsAcrossPages() throws Exception {
         for (Paragraph paragraph : (Iterable<Paragraph>) this.getDocument().getChildNodes(NodeType.PARAGRAPH, true)) {
             if (this.getPage(paragraph) != this.getPageEnd(paragraph)) {
-                this.splitRunsByWords(paragraph);
+                if (this.splitByWords) {
+                    this.layoutInvalidated = true;
+                    this.splitRunsByWords(paragraph);
+                } else {
+                    this.splitRunsByPageBreaks(paragraph);
+                }
             }
         }
 
-        this.clearCollector();
+        this.layoutEnumerator = null;
+    }
 
-        // Visit any composites which are possibly split across pages and split them into separate nodes.
-        this.getDocument().accept(new SectionSplitter(this));
+    /// <summary>
+    /// Makes the finder keep the page numbers of the first layout for the nodes which were not split.
+    /// </summary>
+    void setReuseLayout(boolean reuseLayout) {
+        this.reuseLayout = reuseLayout;
+    }
+
+    /// <summary>
+    /// Gets the time spent on the first layout of the document.
+    /// </summary>
+    public long getFirstLayoutNanos() {
+        return this.firstLayoutNanos;
+    }
+
+    void setFirstLayoutNanos(long firstLayoutNanos) {
+        this.firstLayoutNanos = firstLayoutNanos;
+    }
+
+    /// <summary>
+    /// Gets the time spent on laying out the document again after runs were split, 0 if the first layout was reused.
+    /// </summary>
+    public long getRelayoutNanos() {
+        return this.relayoutNanos;
+    }
+
+    /// <summary>
+    /// Makes runs split at every word instead of only at the page breaks found in the layout.
+    /// </summary>
+    void setSplitByWords(boolean splitByWords) {
+        this.splitByWords = splitByWords;
+    }
+
+    /// <summary>
+    /// Gets the number of runs cloned while splitting runs across pages.
+    /// </summary>
+    long getRunCloneCount() {
+        return this.runCloneCount;
+    }
+
+    /// <summary>
+    /// Gets the number of characters copied while splitting runs across pages.
+    /// </summary>
+    long getCopiedCharCount() {
+        return this.copiedCharCount;
     }
 
     /// <summary>
@@ -261,36 +490,125 @@ class PageNumberFinder {
         }
     }
 
-    private static boolean isHeaderFooterType(Node node) {
+    static boolean isHeaderFooterType(Node node) {
         return node.getNodeType() == NodeType.HEADER_FOOTER || node.getAncestor(NodeType.HEADER_FOOTER) != null;
     }
 
     private void checkPageListsPopulated() throws Exception {
-        if (this.reversePageLookup != null) {
+        if (this.pageIndex != null) {
             return;
         }
 
-        this.reversePageLookup = new Hashtable();
+        this.pageIndex = PageNodeIndex.build(this);
+    }
 
-        // Add each node to a list which represent the nodes found on each page.
-        for (Node node : (Iterable<Node>) this.getDocument().getChildNodes(NodeType.ANY, true)) {
-            // Headers/Footers follow sections. They are not split by themselves.
-            if (isHeaderFooterType(node)) {
-                continue;
-            }
+    private void splitRunsByPageBreaks(Paragraph paragraph) throws Exception {
+        PageBreaks pageBreaks = this.findPageBreaks(paragraph);
+        if (pageBreaks == null) {
+            // The text of the layout could not be matched with the runs of the paragraph.
+            this.layoutInvalidated = true;
+            this.splitRunsByWords(paragraph);
+            return;
+        }
 
-            int startPage = this.getPage(node);
-            int endPage = this.getPageEnd(node);
-            for (int page = startPage; page <= endPage; page++) {
-                if (!this.reversePageLookup.containsKey(page)) {
-                    this.reversePageLookup.put(page, new ArrayList());
+        int[] breakOffsets = pageBreaks.offsets;
+        int runStart = 0;
+        for (Run run : paragraph.getRuns().toArray()) {
+            int runEnd = runStart + run.getText().length();
+            int runPage = pageBreaks.getPageAt(runStart);
+
+            // Cut from the last break, so the start of the run keeps its offsets.
+            boolean isSplit = false;
+            for (int i = breakOffsets.length - 1; i >= 0; i--) {
+                if (breakOffsets[i] > runStart && breakOffsets[i] < runEnd) {
+                    Run afterRun = this.splitRun(run, breakOffsets[i] - runStart);
+                    this.addPageNumbersForNode(afterRun, pageBreaks.pages[i], pageBreaks.pages[i]);
+                    isSplit = true;
                 }
+            }
 
-                ((ArrayList) this.reversePageLookup.get(page)).add(node);
+            if (isSplit) {
+                this.addPageNumbersForNode(run, runPage, runPage);
             }
+
+            runStart = runEnd;
         }
     }
 
+    /// <summary>
+    /// Finds the offsets in the paragraph text where a new page begins, from the lines of the paragraph layout.
+    /// Returns null if the text of the lines does not match the text of the paragraph runs.
+    /// </summary>
+    private PageBreaks findPageBreaks(Paragraph paragraph) throws Exception {
+        int textLength = 0;
+        for (Node child : (Iterable<Node>) paragraph.getChildNodes()) {
+            int childLength = child.getText().length();
+            if (childLength > 0 && child.getNodeType() != NodeType.RUN) {
+                return null;
+            }
+
+            textLength += childLength;
+        }
+
+        if (textLength == 0) {
+            return null;
+        }
+
+        // The collector returns the paragraph mark, which is on the last line of the paragraph.
+        LayoutEnumerator enumerator = this.getLayoutEnumerator();
+        enumerator.setCurrent(this.collector.getEntity(paragraph));
+        if (!enumerator.moveParent(LayoutEntityType.LINE)) {
+            return null;
+        }
+
+        // Walk back over the lines of the paragraph, the logical order moves across pages.
+        ArrayList<int[]> lines = new ArrayList<int[]>();
+        int layoutLength = 0;
+        do {
+            int lineLength = 0;
+            if (enumerator.moveFirstChild()) {
+                do {
+                    if (enumerator.getType() == LayoutEntityType.SPAN && !"PARAGRAPH".equals(enumerator.getKind())) {
+                        lineLength += enumerator.getText().length();
+                    }
+                } while (enumerator.moveNext());
+
+                enumerator.moveParent();
+            }
+
+            lines.add(new int[]{enumerator.getPageIndex(), lineLength});
+            layoutLength += lineLength;
+        } while (layoutLength < textLength && enumerator.movePreviousLogical());
+
+        if (layoutLength != textLength) {
+            return null;
+        }
+
+        ArrayList<int[]> breaks = new ArrayList<int[]>();
+        int offset = 0;
+        int firstPage = lines.get(lines.size() - 1)[0];
+        int page = firstPage;
+        for (int i = lines.size() - 1; i >= 0; i--) {
+            int[] line = lines.get(i);
+            if (line[0] != page) {
+                breaks.add(new int[]{offset, line[0]});
+                page = line[0];
+            }
+
+            offset += line[1];
+        }
+
+        return new PageBreaks(firstPage, breaks);
+    }
+
+    private LayoutEnumerator getLayoutEnumerator() throws Exception {
+        if (this.layoutEnumerator == null) {
+            this.layoutEnumerator = new LayoutEnumerator(this.getDocument());
+        }
+
+        return this.layoutEnumerator;
+    }
+
     private void splitRunsByWords(Paragraph paragraph) throws Exception {
         for (Run run : paragraph.getRuns()) {
             if (this.getPage(run) == this.getPageEnd(run)) {
@@ -303,14 +621,11 @@ class PageNumberFinder {
 
     private void splitRunByWords(Run run) {
         String[] words = run.getText().split(" ");
-        List<String> list = Arrays.asList(words);
-        Collections.reverse(list);
-        String[] reversedWords = (String[]) list.toArray();
 
-        for (String word : reversedWords) {
-            int pos = run.getText().length() - word.length() - 1;
+        for (int i = words.length - 1; i >= 0; i--) {
+            int pos = run.getText().length() - words[i].length() - 1;
             if (pos > 1) {
-                splitRun(run, run.getText().length() - word.length() - 1);
+                this.splitRun(run, pos);
             }
         }
     }
@@ -319,7 +634,10 @@ class PageNumberFinder {
     /// Splits text of the specified run into two runs.
     /// Inserts the new run just after the specified run.
     /// </summary>
-    private static Run splitRun(Run run, int position) {
+    private Run splitRun(Run run, int position) {
+        this.runCloneCount++;
+        this.copiedCharCount += run.getText().length();
+
         Run afterRun = (Run) run.deepClone(true);
         afterRun.setText(run.getText().substring(position));
         run.setText(run.getText().substring(0, position));
@@ -327,6 +645,34 @@ class PageNumberFinder {
         return afterRun;
     }
 
+    /// <summary>
+    /// Text offsets of a paragraph where a new page begins, with the page that begins there.
+    /// </summary>
+    private static class PageBreaks {
+        final int firstPage;
+        final int[] offsets;
+        final int[] pages;
+
+        PageBreaks(int firstPage, List<int[]> breaks) {
+            this.firstPage = firstPage;
+            this.offsets = new int[breaks.size()];
+            this.pages = new int[breaks.size()];
+            for (int i = 0; i < this.offsets.length; i++) {
+                this.offsets[i] = breaks.get(i)[0];
+                this.pages[i] = breaks.get(i)[1];
+            }
+        }
+
+        int getPageAt(int offset) {
+            int page = this.firstPage;
+            for (int i = 0; i < this.offsets.length && this.offsets[i] <= offset; i++) {
+                page = this.pages[i];
+            }
+
+            return page;
+        }
+    }
+
     private void clearCollector() throws Exception {
         this.collector.clear();
         this.getDocument().updatePageLayout();
@@ -336,15 +682,149 @@ class PageNumberFinder {
     }
 }
 
+/// <summary>
+/// Compact page index of the nodes of a document.
+/// Every node gets an ordinal in document order and each page stores the ordinals of its nodes as a contiguous
+/// int range, so a page range query touches only the nodes found on those pages.
+/// Instances are not thread safe, use one index per document.
+/// </summary>
+class PageNodeIndex {
+    // Node ordinal to node, in document order.
+    private final Node[] nodes;
+    // Ordinals of the nodes on page p are stored in pageOrdinals[pageOffsets[p - 1]..pageOffsets[p]).
+    private final int[] pageOffsets;
+    private final int[] pageOrdinals;
+    // Marks nodes already returned by the current query, so nodes spanning several pages are added once.
+    private final int[] queryStamps;
+    private int currentStamp;
+
+    private PageNodeIndex(Node[] nodes, int[] pageOffsets, int[] pageOrdinals) {
+        this.nodes = nodes;
+        this.pageOffsets = pageOffsets;
+        this.pageOrdinals = pageOrdinals;
+        this.queryStamps = new int[nodes.length];
+    }
+
+    /// <summary>
+    /// Builds the index in one pass over the page numbers reported by the finder.
+    /// </summary>
+    public static PageNodeIndex build(PageNumberFinder finder) throws Exception {
+        NodeCollection allNodes = finder.getDocument().getChildNodes(NodeType.ANY, true);
+        int capacity = allNodes.getCount();
+        Node[] nodes = new Node[capacity];
+        int[] startPages = new int[capacity];
+        int[] endPages = new int[capacity];
+        int count = 0;
+        int pageCount = 0;
+
+        for (Node node : (Iterable<Node>) allNodes) {
+            // Headers/Footers follow sections. They are not split by themselves.
+            if (PageNumberFinder.isHeaderFooterType(node)) {
+                continue;
+            }
+
+            nodes[count] = node;
+            // Nodes without layout report page 0, such nodes are not found on any page.
+            startPages[count] = Math.max(1, finder.getPage(node));
+            endPages[count] = finder.getPageEnd(node);
+            pageCount = Math.max(pageCount, endPages[count]);
+            count++;
+        }
+
+        // Count the nodes of every page, then turn the counts into range offsets.
+        int[] pageOffsets = new int[pageCount + 1];
+        for (int i = 0; i < count; i++) {
+            for (int page = startPages[i]; page <= endPages[i]; page++) {
+                pageOffsets[page]++;
+            }
+        }
+
+        for (int page = 1; page <= pageCount; page++) {
+            pageOffsets[page] += pageOffsets[page - 1];
+        }
+
+        // Fill the ranges in document order.
+        int[] fillPositions = Arrays.copyOf(pageOffsets, pageCount + 1);
+        int[] pageOrdinals = new int[pageOffsets[pageCount]];
+        for (int i = 0; i < count; i++) {
+            for (int page = startPages[i]; page <= endPages[i]; page++) {
+                pageOrdinals[fillPositions[page - 1]++] = i;
+            }
+        }
+
+        return new PageNodeIndex(Arrays.copyOf(nodes, count), pageOffsets, pageOrdinals);
+    }
+
+    /// <summary>
+    /// Gets the number of the last page which contains nodes.
+    /// </summary>
+    public int getPageCount() {
+        return this.pageOffsets.length - 1;
+    }
+
+    /// <summary>
+    /// Returns the nodes of the specified type found on the page range, in page and then document order.
+    /// </summary>
+    public ArrayList retrieveNodes(int startPage, int endPage, int nodeType) {
+        ArrayList pageNodes = new ArrayList();
+        int stamp = this.nextStamp();
+        int lastPage = Math.min(endPage, this.getPageCount());
+
+        for (int page = startPage; page <= lastPage; page++) {
+            // Some pages can be empty, their range is then empty as well.
+            for (int i = this.pageOffsets[page - 1]; i < this.pageOffsets[page]; i++) {
+                int ordinal = this.pageOrdinals[i];
+                if (this.queryStamps[ordinal] == stamp) {
+                    continue;
+                }
+
+                this.queryStamps[ordinal] = stamp;
+                Node node = this.nodes[ordinal];
+                if (node.getParentNode() != null
+                        && (nodeType == NodeType.ANY || node.getNodeType() == nodeType)) {
+                    pageNodes.add(node);
+                }
+            }
+        }
+
+        return pageNodes;
+    }
+
+    private int nextStamp() {
+        if (++this.currentStamp == Integer.MAX_VALUE) {
+            Arrays.fill(this.queryStamps, 0);
+            this.currentStamp = 1;
+        }
+
+        return this.currentStamp;
+    }
+}
+
 class PageNumberFinderFactory {
     /* Simulation of static class by using private constructor */
     private PageNumberFinderFactory() {
     }
 
     public static PageNumberFinder create(Document document) throws Exception {
+        return create(document, false);
+    }
+
+    /// <summary>
+    /// Lays out the document and splits its nodes across pages.
+    /// </summary>
+    /// <param name="document">The document to split.</param>
+    /// <param name="reuseLayout">
+    /// True to skip the second layout of the split document. Runs are cut only at the page breaks of the first layout,
+    /// so the page numbers of untouched nodes are still valid and the new runs get theirs from the break they start at.
+    /// The document is still laid out again if a paragraph had to be split by words.
+    /// </param>
+    public static PageNumberFinder create(Document document, boolean reuseLayout) throws Exception {
         LayoutCollector layoutCollector = new LayoutCollector(document);
+        long start = System.nanoTime();
         document.updatePageLayout();
         PageNumberFinder pageNumberFinder = new PageNumberFinder(layoutCollector);
+        pageNumberFinder.setFirstLayoutNanos(System.nanoTime() - start);
+        pageNumberFinder.setReuseLayout(reuseLayout);
         pageNumberFinder.splitNodesAcrossPages();
         return pageNumberFinder;
     }
@@ -0,0 +1,140 @@
+package com.aspose.words.examples.loading_saving;
+
+import com.aspose.words.*;
+
+import java.util.ArrayList;
+import java.util.Hashtable;
+
+/**
+ * Compares the page lookup used by the previous PageNumberFinder (Hashtable of per-page lists with
+ * ArrayList.contains de-duplication) with the PageNodeIndex used by DocumentPageSplitter now.
+ * Run it with "-Xmx4g", the 5,000 page document is built in memory.
+ */
+public class PageSplitterBenchmark {
+    private static final int[] PAGE_COUNTS = {100, 1000, 5000};
+    private static final int PARAGRAPHS_PER_PAGE = 10;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("pages\tlegacy build ms\tlegacy query ms\tindex build ms\tindex query ms");
+
+        for (int pageCount : PAGE_COUNTS) {
+            Document doc = buildDocument(pageCount);
+            LayoutCollector collector = new LayoutCollector(doc);
+            doc.updatePageLayout();
+            PageNumberFinder finder = new PageNumberFinder(collector);
+
+            // Both lookups read the same layout results, so collector access is warmed up for both of them.
+            long[] legacy = null;
+            long[] index = null;
+            for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+                long[] legacyRun = measureLegacy(finder, pageCount);
+                long[] indexRun = measureIndex(finder, pageCount);
+                if (i >= WARMUP_ITERATIONS) {
+                    legacy = accumulate(legacy, legacyRun);
+                    index = accumulate(index, indexRun);
+                }
+            }
+
+            System.out.println(pageCount
+                    + "\t" + toMillis(legacy[0]) + "\t" + toMillis(legacy[1])
+                    + "\t" + toMillis(index[0]) + "\t" + toMillis(index[1]));
+        }
+    }
+
+    private static Document buildDocument(int pageCount) throws Exception {
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+
+        for (int page = 1; page <= pageCount; page++) {
+            for (int paragraph = 0; paragraph < PARAGRAPHS_PER_PAGE; paragraph++) {
+                builder.writeln("Page " + page + ", clause " + paragraph + ". The parties agree to the terms set out below.");
+            }
+
+            if (page < pageCount) {
+                builder.insertBreak(BreakType.PAGE_BREAK);
+            }
+        }
+
+        return doc;
+    }
+
+    private static long[] measureLegacy(PageNumberFinder finder, int pageCount) throws Exception {
+        long start = System.nanoTime();
+        Hashtable reversePageLookup = new Hashtable();
+        for (Node node : (Iterable<Node>) finder.getDocument().getChildNodes(NodeType.ANY, true)) {
+            if (PageNumberFinder.isHeaderFooterType(node)) {
+                continue;
+            }
+
+            int startPage = finder.getPage(node);
+            int endPage = finder.getPageEnd(node);
+            for (int page = startPage; page <= endPage; page++) {
+                if (!reversePageLookup.containsKey(page)) {
+                    reversePageLookup.put(page, new ArrayList());
+                }
+
+                ((ArrayList) reversePageLookup.get(page)).add(node);
+            }
+        }
+        long built = System.nanoTime();
+
+        int found = 0;
+        for (int page = 1; page <= pageCount; page++) {
+            ArrayList pageNodes = new ArrayList();
+            if (!reversePageLookup.containsKey(page)) {
+                continue;
+            }
+
+            for (Node node : (Iterable<Node>) reversePageLookup.get(page)) {
+                if (node.getParentNode() != null && !pageNodes.contains(node)) {
+                    pageNodes.add(node);
+                }
+            }
+            found += pageNodes.size();
+        }
+        long queried = System.nanoTime();
+
+        checkFound(found);
+        return new long[]{built - start, queried - built};
+    }
+
+    private static long[] measureIndex(PageNumberFinder finder, int pageCount) throws Exception {
+        long start = System.nanoTime();
+        PageNodeIndex pageIndex = PageNodeIndex.build(finder);
+        long built = System.nanoTime();
+
+        int found = 0;
+        for (int page = 1; page <= pageCount; page++) {
+            found += pageIndex.retrieveNodes(page, page, NodeType.ANY).size();
+        }
+        long queried = System.nanoTime();
+
+        checkFound(found);
+        return new long[]{built - start, queried - built};
+    }
+
+    private static long[] accumulate(long[] total, long[] run) {
+        if (total == null) {
+            return run;
+        }
+
+        for (int i = 0; i < total.length; i++) {
+            total[i] += run[i];
+        }
+
+        return total;
+    }
+
+    private static String toMillis(long totalNanos) {
+        return String.format("%.2f", totalNanos / 1e6 / MEASURED_ITERATIONS);
+    }
+
+    private static void checkFound(int found) {
+        // Keeps the query results alive so the measured loops are not optimized away.
+        if (found == 0) {
+            throw new IllegalStateException("No nodes found on the pages of the benchmark document.");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.aspose.words.examples.loading_saving;
+
+import com.aspose.words.Document;
+import com.aspose.words.examples.Utils;
+
+import java.io.File;
+
+/**
+ * Prints, for every document of the PageSplitter data folder, the time of the first layout and of the layout
+ * done again after splitting, with and without reusing the first layout.
+ */
+public class PageSplitterLayoutBenchmark {
+    public static void main(String[] args) throws Exception {
+        String dataDir = Utils.getDataDir(PageSplitter.class);
+
+        System.out.println("document\treuse layout\tfirst layout ms\trelayout ms\ttotal split ms");
+        for (File file : new File(dataDir).listFiles()) {
+            if (!file.isFile()) {
+                continue;
+            }
+
+            for (boolean reuseLayout : new boolean[]{false, true}) {
+                Document doc = new Document(file.getAbsolutePath());
+
+                long start = System.nanoTime();
+                DocumentPageSplitter splitter = new DocumentPageSplitter(doc, reuseLayout);
+                long total = System.nanoTime() - start;
+
+                PageNumberFinder finder = splitter.getPageNumberFinder();
+                System.out.println(file.getName() + "\t" + reuseLayout
+                        + "\t" + toMillis(finder.getFirstLayoutNanos())
+                        + "\t" + toMillis(finder.getRelayoutNanos())
+                        + "\t" + toMillis(total));
+            }
+        }
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.1f", nanos / 1e6);
+    }
+}
@@ -0,0 +1,54 @@
+package com.aspose.words.examples.loading_saving;
+
+import com.aspose.words.examples.Utils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+
+/**
+ * Reports pages/sec and peak heap of PageSplitter.SplitAllDocumentsToPagesParallel for several thread counts,
+ * to size the batch nodes that split inbound documents.
+ */
+public class PageSplitterThroughput {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16};
+    private static final int FILE_CONCURRENCY = 2;
+
+    public static void main(String[] args) throws Exception {
+        String dataDir = Utils.getDataDir(PageSplitter.class);
+
+        System.out.println("threads\tpages\tseconds\tpages/sec\tpeak heap MB");
+        for (int threadCount : THREAD_COUNTS) {
+            System.gc();
+            resetPeakHeap();
+
+            long start = System.nanoTime();
+            int pages = PageSplitter.SplitAllDocumentsToPagesParallel(dataDir, FILE_CONCURRENCY, threadCount);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.println(threadCount + "\t" + pages + "\t" + String.format("%.2f", seconds)
+                    + "\t" + String.format("%.1f", pages / seconds)
+                    + "\t" + (getPeakHeap() / (1024 * 1024)));
+        }
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long getPeakHeap() {
+        // The sum of the pool peaks is an upper bound, the pools do not necessarily peak at the same moment.
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+
+        return peak;
+    }
+}
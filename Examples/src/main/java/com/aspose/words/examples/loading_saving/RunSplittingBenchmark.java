@@ -0,0 +1,83 @@
+package com.aspose.words.examples.loading_saving;
+
+import com.aspose.words.*;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Compares splitting runs at every word with cutting them only at the page breaks found in the layout,
+ * on paragraphs long enough to cross several pages. Reports time, cloned runs, copied characters
+ * and bytes allocated by the splitting thread.
+ */
+public class RunSplittingBenchmark {
+    private static final int[] WORDS_PER_PARAGRAPH = {1000, 5000, 20000};
+    private static final int PARAGRAPH_COUNT = 5;
+    private static final int WARMUP_ITERATIONS = 1;
+    private static final int MEASURED_ITERATIONS = 3;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("words/paragraph\tmode\tms\trun clones\tcopied chars\tallocated MB");
+
+        for (int wordCount : WORDS_PER_PARAGRAPH) {
+            Document template = buildDocument(wordCount);
+            measure(template, wordCount, true);
+            measure(template, wordCount, false);
+        }
+    }
+
+    private static void measure(Document template, int wordCount, boolean splitByWords) throws Exception {
+        long nanos = 0;
+        long clones = 0;
+        long copiedChars = 0;
+        long allocatedBytes = 0;
+
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+            Document doc = (Document) template.deepClone(true);
+            LayoutCollector collector = new LayoutCollector(doc);
+            doc.updatePageLayout();
+            PageNumberFinder finder = new PageNumberFinder(collector);
+            finder.setSplitByWords(splitByWords);
+
+            long startBytes = getAllocatedBytes();
+            long start = System.nanoTime();
+            finder.splitRunsAcrossPages();
+            long elapsed = System.nanoTime() - start;
+            long allocated = getAllocatedBytes() - startBytes;
+
+            if (i >= WARMUP_ITERATIONS) {
+                nanos += elapsed;
+                allocatedBytes += allocated;
+                clones += finder.getRunCloneCount();
+                copiedChars += finder.getCopiedCharCount();
+            }
+        }
+
+        System.out.println(wordCount + "\t" + (splitByWords ? "words" : "page breaks")
+                + "\t" + String.format("%.1f", nanos / 1e6 / MEASURED_ITERATIONS)
+                + "\t" + clones / MEASURED_ITERATIONS
+                + "\t" + copiedChars / MEASURED_ITERATIONS
+                + "\t" + String.format("%.1f", allocatedBytes / (1024.0 * 1024.0) / MEASURED_ITERATIONS));
+    }
+
+    private static Document buildDocument(int wordCount) throws Exception {
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+
+        StringBuilder text = new StringBuilder();
+        for (int word = 0; word < wordCount; word++) {
+            text.append("word").append(word % 100).append(' ');
+        }
+
+        // Each paragraph is a single run, the worst case for splitting by words.
+        for (int paragraph = 0; paragraph < PARAGRAPH_COUNT; paragraph++) {
+            builder.writeln(text.toString());
+        }
+
+        return doc;
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,223 @@
+package com.aspose.words.examples.mail_merge;
+
+import com.aspose.words.Document;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+//ExStart:MailMergeDocumentPipeline
+
+/**
+ * Produces one document per record of a ResultSet as a pipeline: the calling thread reads the rows
+ * and hands them over a bounded queue to worker threads which clone the template, execute mail merge
+ * and save the document. When the workers fall behind the queue fills up and the reader waits,
+ * so memory stays bounded however many records the query returns.
+ * <p>
+ * Every worker clones its documents from its own copy of the template, as a Document must not be
+ * used by several threads at once.
+ */
+public class MailMergeDocumentPipeline {
+    // Tells a worker that there are no more rows.
+    private static final Object[] END_OF_DATA = new Object[0];
+
+    private final Document mTemplate;
+    private final int mWorkerCount;
+    private final int mQueueCapacity;
+
+    /**
+     * @param template      The template document. It is only read, before the workers start.
+     * @param workerCount   The number of merge and save threads.
+     * @param queueCapacity The number of rows which can wait for a worker.
+     */
+    public MailMergeDocumentPipeline(Document template, int workerCount, int queueCapacity) {
+        mTemplate = template;
+        mWorkerCount = workerCount;
+        mQueueCapacity = queueCapacity;
+    }
+
+    /**
+     * Executes a query whose rows are fetched from the database in batches while they are read,
+     * instead of being loaded all at once. The statement is closed by run, otherwise close it
+     * with rs.getStatement().close().
+     */
+    public static ResultSet executeStreamingQuery(Connection connection, String query, int fetchSize) throws Exception {
+        Statement statement = connection.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(fetchSize);
+        return statement.executeQuery(query);
+    }
+
+    /**
+     * Merges every row of the ResultSet into a copy of the template and saves it.
+     *
+     * @param rs            The rows to merge. Column names are used as merge field names. The ResultSet
+     *                      and its statement are closed when the run ends.
+     * @param outputPattern The MessageFormat pattern of the output file names, {0} is the 1-based record number.
+     * @return Throughput and queue statistics of the run.
+     */
+    public Statistics run(ResultSet rs, final String outputPattern) throws Exception {
+        final Statistics statistics = new Statistics();
+        final BlockingQueue<Object[]> queue = new ArrayBlockingQueue<Object[]>(mQueueCapacity);
+        ExecutorService workers = Executors.newFixedThreadPool(mWorkerCount);
+        List<Future<Void>> results = new ArrayList<Future<Void>>();
+
+        // Column names are resolved once for the whole ResultSet.
+        ResultSetRowAdapter rows = new ResultSetRowAdapter(rs);
+        final String[] fieldNames = rows.getFieldNames();
+
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < mWorkerCount; i++) {
+                final Document workerTemplate = (Document) mTemplate.deepClone(true);
+                results.add(workers.submit(new Callable<Void>() {
+                    public Void call() throws Exception {
+                        runWorker(workerTemplate, fieldNames, queue, outputPattern, statistics);
+                        return null;
+                    }
+                }));
+            }
+
+            int counter = 0;
+            long readStart = System.nanoTime();
+            while (rows.moveNext()) {
+                // The values are copied as the adapter reuses its array, the record number is passed along in the last element.
+                Object[] row = new Object[fieldNames.length + 1];
+                System.arraycopy(rows.getValues(), 0, row, 0, fieldNames.length);
+                row[fieldNames.length] = ++counter;
+                statistics.mRowsRead.incrementAndGet();
+                statistics.mReadNanos.addAndGet(System.nanoTime() - readStart);
+
+                enqueue(queue, row, results, statistics);
+                readStart = System.nanoTime();
+            }
+
+            for (int i = 0; i < mWorkerCount; i++) {
+                enqueue(queue, END_OF_DATA, results, statistics);
+            }
+
+            for (Future<Void> result : results) {
+                getResult(result);
+            }
+        } finally {
+            workers.shutdownNow();
+            closeStatement(rs);
+        }
+
+        statistics.mElapsedNanos = System.nanoTime() - start;
+        return statistics;
+    }
+
+    private static void runWorker(Document template, String[] fieldNames, BlockingQueue<Object[]> queue,
+                                  String outputPattern, Statistics statistics) throws Exception {
+        Object[] values = new Object[fieldNames.length];
+        while (true) {
+            Object[] row = queue.take();
+            if (row == END_OF_DATA) {
+                return;
+            }
+
+            long mergeStart = System.nanoTime();
+            Document dstDoc = (Document) template.deepClone(true);
+            System.arraycopy(row, 0, values, 0, values.length);
+            dstDoc.getMailMerge().execute(fieldNames, values);
+            long saveStart = System.nanoTime();
+            statistics.mMergeNanos.addAndGet(saveStart - mergeStart);
+            statistics.mDocumentsMerged.incrementAndGet();
+
+            // The record number is formatted as a number, the same as in the sequential examples.
+            dstDoc.save(MessageFormat.format(outputPattern, row[fieldNames.length]));
+            statistics.mSaveNanos.addAndGet(System.nanoTime() - saveStart);
+            statistics.mDocumentsSaved.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits for room in the queue, and stops waiting if a worker failed.
+     */
+    private static void enqueue(BlockingQueue<Object[]> queue, Object[] row, List<Future<Void>> results,
+                                Statistics statistics) throws Exception {
+        int depth = queue.size();
+        statistics.mQueueDepthSum.addAndGet(depth);
+        statistics.mQueueDepthSamples.incrementAndGet();
+        if (depth > statistics.mMaxQueueDepth.get()) {
+            statistics.mMaxQueueDepth.set(depth);
+        }
+
+        while (!queue.offer(row, 100, TimeUnit.MILLISECONDS)) {
+            for (Future<Void> result : results) {
+                if (result.isDone()) {
+                    getResult(result);
+                }
+            }
+        }
+    }
+
+    private static void closeStatement(ResultSet rs) throws Exception {
+        Statement statement = rs.getStatement();
+        if (statement != null) {
+            // Closing the statement closes its ResultSet as well.
+            statement.close();
+        } else {
+            rs.close();
+        }
+    }
+
+    private static void getResult(Future<Void> result) throws Exception {
+        try {
+            result.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Per-stage throughput and queue depth of a pipeline run. Stage times are summed over the threads
+     * of the stage, so the merge and save throughput is per worker.
+     */
+    public static class Statistics {
+        private final AtomicLong mRowsRead = new AtomicLong();
+        private final AtomicLong mReadNanos = new AtomicLong();
+        private final AtomicLong mDocumentsMerged = new AtomicLong();
+        private final AtomicLong mMergeNanos = new AtomicLong();
+        private final AtomicLong mDocumentsSaved = new AtomicLong();
+        private final AtomicLong mSaveNanos = new AtomicLong();
+        private final AtomicLong mQueueDepthSum = new AtomicLong();
+        private final AtomicLong mQueueDepthSamples = new AtomicLong();
+        private final AtomicLong mMaxQueueDepth = new AtomicLong();
+        private long mElapsedNanos;
+
+        public long getDocumentsSaved() {
+            return mDocumentsSaved.get();
+        }
+
+        public double getDocumentsPerSecond() {
+            return mDocumentsSaved.get() / (mElapsedNanos / 1e9);
+        }
+
+        public double getAverageQueueDepth() {
+            return mQueueDepthSamples.get() == 0 ? 0 : (double) mQueueDepthSum.get() / mQueueDepthSamples.get();
+        }
+
+        public long getMaxQueueDepth() {
+            return mMaxQueueDepth.get();
+        }
+
+        public String toString() {
+            return "read: " + mRowsRead.get() + " rows, " + perSecond(mRowsRead, mReadNanos) + " rows/sec\n"
+                    + "merge: " + mDocumentsMerged.get() + " documents, " + perSecond(mDocumentsMerged, mMergeNanos) + " documents/sec per worker\n"
+                    + "save: " + mDocumentsSaved.get() + " documents, " + perSecond(mDocumentsSaved, mSaveNanos) + " documents/sec per worker\n"
+                    + "total: " + String.format("%.1f", getDocumentsPerSecond()) + " documents/sec\n"
+                    + "queue depth: average " + String.format("%.1f", getAverageQueueDepth()) + ", max " + getMaxQueueDepth();
+        }
+
+        private static String perSecond(AtomicLong count, AtomicLong nanos) {
+            return nanos.get() == 0 ? "-" : String.format("%.1f", count.get() / (nanos.get() / 1e9));
+        }
+    }
+}
+//ExEnd:MailMergeDocumentPipeline
@@ -0,0 +1,86 @@
+package com.aspose.words.examples.mail_merge;
+
+import com.aspose.words.Document;
+import com.aspose.words.DocumentBuilder;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Runs MailMergeDocumentPipeline against an in-memory HSQLDB database (the engine UCanAccess is built on)
+ * filled with generated customers, and prints the statistics of each run. It checks that one document
+ * is saved per row whatever the number of workers.
+ */
+public class MailMergePipelineStandIn {
+    private static final int ROW_COUNT = 20000;
+    private static final int[] WORKER_COUNTS = {1, 2, 4, 8};
+    private static final int FETCH_SIZE = 500;
+
+    public static void main(String[] args) throws Exception {
+        Class.forName("org.hsqldb.jdbc.JDBCDriver");
+        Connection connection = DriverManager.getConnection("jdbc:hsqldb:mem:customers", "SA", "");
+        createCustomers(connection);
+
+        Document template = createTemplate();
+        File outDir = new File(System.getProperty("java.io.tmpdir"), "MailMergePipeline");
+        outDir.mkdirs();
+
+        for (int workerCount : WORKER_COUNTS) {
+            ResultSet rs = MailMergeDocumentPipeline.executeStreamingQuery(connection, "SELECT * FROM Customers", FETCH_SIZE);
+            MailMergeDocumentPipeline pipeline = new MailMergeDocumentPipeline(template, workerCount, workerCount * 4);
+            MailMergeDocumentPipeline.Statistics statistics = pipeline.run(rs, outDir.getPath() + File.separator + "Letter {0}.docx");
+
+            if (statistics.getDocumentsSaved() != ROW_COUNT) {
+                throw new IllegalStateException("Expected " + ROW_COUNT + " documents, saved " + statistics.getDocumentsSaved());
+            }
+
+            System.out.println("workers: " + workerCount);
+            System.out.println(statistics);
+            System.out.println();
+        }
+
+        connection.close();
+    }
+
+    private static void createCustomers(Connection connection) throws Exception {
+        Statement statement = connection.createStatement();
+        statement.execute("CREATE TABLE Customers (CustomerID INTEGER PRIMARY KEY, FullName VARCHAR(100), Address VARCHAR(200), City VARCHAR(50))");
+        statement.close();
+
+        PreparedStatement insert = connection.prepareStatement("INSERT INTO Customers VALUES (?, ?, ?, ?)");
+        for (int i = 1; i <= ROW_COUNT; i++) {
+            insert.setInt(1, i);
+            insert.setString(2, "Customer " + i);
+            insert.setString(3, i + " Main Street");
+            insert.setString(4, "City " + (i % 100));
+            insert.addBatch();
+            if (i % 1000 == 0) {
+                insert.executeBatch();
+            }
+        }
+        insert.executeBatch();
+        insert.close();
+    }
+
+    private static Document createTemplate() throws Exception {
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+        builder.insertField("MERGEFIELD FullName");
+        builder.writeln();
+        builder.insertField("MERGEFIELD Address");
+        builder.writeln();
+        builder.insertField("MERGEFIELD City");
+        builder.writeln();
+        builder.writeln();
+        builder.write("Dear ");
+        builder.insertField("MERGEFIELD FullName");
+        builder.writeln(", your customer number is ");
+        builder.insertField("MERGEFIELD CustomerID");
+        builder.writeln(".");
+        return doc;
+    }
+}
@@ -5,7 +5,6 @@ import com.aspose.words.examples.Utils;
 
 import java.sql.*;
 import java.text.MessageFormat;
-import java.util.Hashtable;
 
 
 public class MultipleDocsInMailMerge {
@@ -30,16 +29,16 @@ public class MultipleDocsInMailMerge {
         // A record of how many documents that have been generated so far.
         int counter = 1;
 
+        // Column names are resolved once, each row is read into the same array.
+        ResultSetRowAdapter rows = new ResultSetRowAdapter(rs);
+
         // Loop though all records in the data source.
-        while (rs.next()) {
+        while (rows.moveNext()) {
             // Clone the template instead of loading it from disk (for speed).
             Document dstDoc = (Document) doc.deepClone(true);
 
-            // Extract the data from the current row of the ResultSet into a Hashtable.
-            Hashtable dataMap = getRowData(rs);
-
-            // Execute mail merge.
-            dstDoc.getMailMerge().execute(keySetToArray(dataMap), dataMap.values().toArray());
+            // Execute mail merge with the values of the current row.
+            dstDoc.getMailMerge().execute(rows.getCurrentRecord());
 
             // Save the document.
             dstDoc.save(MessageFormat.format(dataDir + "TestFile Out {0}.doc", counter++));
@@ -47,24 +46,22 @@ public class MultipleDocsInMailMerge {
     }
 
     /**
-     * Creates a Hashtable from the name and value of each column in the current row of the ResultSet.
+     * Produces the same documents as produceMultipleDocuments, with rows streamed from the database
+     * by one thread and merged and saved by several worker threads.
      */
-    public static Hashtable getRowData(ResultSet rs) throws Exception {
-        ResultSetMetaData metaData = rs.getMetaData();
-        Hashtable values = new Hashtable();
+    public static void produceMultipleDocumentsPipelined(String dataDir, String srcDoc, int workerCount) throws Exception {
+        // Create a connection to the database
+        createConnection(dataDir);
 
-        for (int i = 1; i <= metaData.getColumnCount(); i++) {
-            values.put(metaData.getColumnName(i), rs.getObject(i));
-        }
+        // Fetch the rows in batches while they are merged, instead of loading them all.
+        ResultSet rs = MailMergeDocumentPipeline.executeStreamingQuery(mConnection, "SELECT * FROM Customers", 500);
 
-        return values;
-    }
+        // Open the template document.
+        Document doc = new Document(dataDir + srcDoc);
 
-    /**
-     * Utility function that returns the keys of a Hashtable as an array of Strings.
-     */
-    public static String[] keySetToArray(Hashtable table) {
-        return (String[]) table.keySet().toArray(new String[table.size()]);
+        MailMergeDocumentPipeline pipeline = new MailMergeDocumentPipeline(doc, workerCount, workerCount * 4);
+        MailMergeDocumentPipeline.Statistics statistics = pipeline.run(rs, dataDir + "TestFile Out {0}.doc");
+        System.out.println(statistics);
     }
 
     /**
@@ -5,7 +5,6 @@ import com.aspose.words.examples.Utils;
 
 import java.sql.*;
 import java.text.MessageFormat;
-import java.util.Hashtable;
 
 //ExStart: ProduceMultipleDocumentsDuringMailMerge
 public class ProduceMultipleDocumentsDuringMailMerge {
@@ -27,16 +26,16 @@ public class ProduceMultipleDocumentsDuringMailMerge {
         // A record of how many documents that have been generated so far.
         int counter = 1;
 
+        // Column names are resolved once, each row is read into the same array.
+        ResultSetRowAdapter rows = new ResultSetRowAdapter(rs);
+
         // Loop though all records in the data source.
-        while (rs.next()) {
+        while (rows.moveNext()) {
             // Clone the template instead of loading it from disk (for speed).
             Document dstDoc = (Document) doc.deepClone(true);
 
-            // Extract the data from the current row of the ResultSet into a Hashtable.
-            Hashtable dataMap = getRowData(rs);
-
-            // Execute mail merge.
-            dstDoc.getMailMerge().execute(keySetToArray(dataMap), dataMap.values().toArray());
+            // Execute mail merge with the values of the current row.
+            dstDoc.getMailMerge().execute(rows.getCurrentRecord());
 
             // Save the document.
             dstDoc.save(MessageFormat.format(dataDir + "TestFile Out {0}.doc", counter++));
@@ -44,29 +43,6 @@ public class ProduceMultipleDocumentsDuringMailMerge {
         }
     }
 
-    /**
-     * Creates a Hashtable from the name and value of each column in the current
-     * row of the ResultSet.
-     */
-    public static Hashtable getRowData(ResultSet rs) throws Exception {
-        ResultSetMetaData metaData = rs.getMetaData();
-        Hashtable values = new Hashtable();
-
-        for (int i = 1; i <= metaData.getColumnCount(); i++) {
-            values.put(metaData.getColumnName(i), rs.getObject(i));
-        }
-
-        return values;
-    }
-
-    /**
-     * Utility function that returns the keys of a Hashtable as an array of
-     * Strings.
-     */
-    public static String[] keySetToArray(Hashtable table) {
-        return (String[]) table.keySet().toArray(new String[table.size()]);
-    }
-
     /**
      * Utility function that creates a connection to the Database.
      */
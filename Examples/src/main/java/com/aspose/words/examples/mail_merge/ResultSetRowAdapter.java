@@ -0,0 +1,148 @@
+package com.aspose.words.examples.mail_merge;
+
+import com.aspose.words.IMailMergeDataSource;
+import com.aspose.words.ref.Ref;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.HashMap;
+
+//ExStart:ResultSetRowAdapter
+
+/**
+ * Reads the rows of a ResultSet for mail merge without building a map per row. Column names are
+ * resolved once, when the adapter is created, and every row is read into the same preallocated array,
+ * so getFieldNames()[i] is always the name of getValues()[i].
+ * <p>
+ * The adapter is a data source for all the rows of the ResultSet, and getCurrentRecord() is a data
+ * source for the current row only, for producing one document per row.
+ */
+public class ResultSetRowAdapter implements IMailMergeDataSource {
+    private final ResultSet mResultSet;
+    private final String mTableName;
+    private final String[] mFieldNames;
+    private final Object[] mValues;
+    private final HashMap<String, Integer> mFieldIndices = new HashMap<String, Integer>();
+    private final CurrentRecord mCurrentRecord = new CurrentRecord();
+
+    public ResultSetRowAdapter(ResultSet resultSet) throws Exception {
+        this(resultSet, "");
+    }
+
+    /**
+     * @param resultSet The rows to read, positioned before the first row.
+     * @param tableName The name of the mail merge region the rows are merged into.
+     */
+    public ResultSetRowAdapter(ResultSet resultSet, String tableName) throws Exception {
+        mResultSet = resultSet;
+        mTableName = tableName;
+
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        mFieldNames = new String[metaData.getColumnCount()];
+        mValues = new Object[mFieldNames.length];
+        for (int i = 0; i < mFieldNames.length; i++) {
+            mFieldNames[i] = metaData.getColumnName(i + 1);
+            mFieldIndices.put(mFieldNames[i], i);
+        }
+    }
+
+    /**
+     * Gets the column names, in column order.
+     */
+    public String[] getFieldNames() {
+        return mFieldNames;
+    }
+
+    /**
+     * Gets the values of the current row, in column order. The array is overwritten by the next row.
+     */
+    public Object[] getValues() {
+        return mValues;
+    }
+
+    /**
+     * Gets a data source which returns only the current row. The same instance is returned for every row.
+     */
+    public IMailMergeDataSource getCurrentRecord() {
+        mCurrentRecord.mIsRead = false;
+        return mCurrentRecord;
+    }
+
+    public String getTableName() {
+        return mTableName;
+    }
+
+    /**
+     * Moves to the next row of the ResultSet and reads its values.
+     */
+    public boolean moveNext() throws Exception {
+        if (!mResultSet.next()) {
+            return false;
+        }
+
+        for (int i = 0; i < mValues.length; i++) {
+            mValues[i] = mResultSet.getObject(i + 1);
+        }
+
+        return true;
+    }
+
+    public boolean getValue(String fieldName, Ref<Object> fieldValue) {
+        int index = getFieldIndex(fieldName);
+        if (index < 0) {
+            return false;
+        }
+
+        fieldValue.set(mValues[index]);
+        return true;
+    }
+
+    public IMailMergeDataSource getChildDataSource(String tableName) {
+        return null;
+    }
+
+    /**
+     * Returns the column index of a merge field. Merge field names are not case sensitive,
+     * so a name which is not found as is gets compared with every column name.
+     */
+    private int getFieldIndex(String fieldName) {
+        Integer index = mFieldIndices.get(fieldName);
+        if (index != null) {
+            return index;
+        }
+
+        for (int i = 0; i < mFieldNames.length; i++) {
+            if (mFieldNames[i].equalsIgnoreCase(fieldName)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private class CurrentRecord implements IMailMergeDataSource {
+        private boolean mIsRead;
+
+        public String getTableName() {
+            return mTableName;
+        }
+
+        public boolean moveNext() {
+            if (mIsRead) {
+                return false;
+            }
+
+            mIsRead = true;
+            return true;
+        }
+
+        public boolean getValue(String fieldName, Ref<Object> fieldValue) {
+            return ResultSetRowAdapter.this.getValue(fieldName, fieldValue);
+        }
+
+        public IMailMergeDataSource getChildDataSource(String tableName) {
+            return null;
+        }
+    }
+}
+//ExEnd:ResultSetRowAdapter
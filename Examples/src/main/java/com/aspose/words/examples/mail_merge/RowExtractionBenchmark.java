@@ -0,0 +1,132 @@
+package com.aspose.words.examples.mail_merge;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.util.Hashtable;
+
+/**
+ * Compares the bytes allocated per row by the previous row extraction (a Hashtable per row, then its keys and
+ * values copied to arrays) with ResultSetRowAdapter. Rows come from an in-memory HSQLDB database, and the
+ * allocations of reading the ResultSet itself are measured separately and subtracted.
+ */
+public class RowExtractionBenchmark {
+    private static final int ROW_COUNT = 100000;
+    private static final int COLUMN_COUNT = 12;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    public static void main(String[] args) throws Exception {
+        Class.forName("org.hsqldb.jdbc.JDBCDriver");
+        Connection connection = DriverManager.getConnection("jdbc:hsqldb:mem:rows", "SA", "");
+        createRows(connection);
+
+        long baseline = 0;
+        long hashtable = 0;
+        long adapter = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+            long baselineBytes = measure(connection, 0);
+            long hashtableBytes = measure(connection, 1);
+            long adapterBytes = measure(connection, 2);
+            if (i >= WARMUP_ITERATIONS) {
+                baseline += baselineBytes;
+                hashtable += hashtableBytes;
+                adapter += adapterBytes;
+            }
+        }
+
+        long rows = (long) ROW_COUNT * MEASURED_ITERATIONS;
+        System.out.println("ResultSet only: " + baseline / rows + " bytes/row");
+        System.out.println("Hashtable per row: " + (hashtable - baseline) / rows + " bytes/row over ResultSet");
+        System.out.println("ResultSetRowAdapter: " + (adapter - baseline) / rows + " bytes/row over ResultSet");
+        connection.close();
+    }
+
+    /**
+     * Reads all the rows with the specified method and returns the bytes allocated by this thread.
+     */
+    private static long measure(Connection connection, int method) throws Exception {
+        ResultSet rs = MailMergeDocumentPipeline.executeStreamingQuery(connection, "SELECT * FROM Rows", 1000);
+        long checksum = 0;
+        long start = getAllocatedBytes();
+
+        if (method == 0) {
+            int columnCount = rs.getMetaData().getColumnCount();
+            while (rs.next()) {
+                for (int i = 1; i <= columnCount; i++) {
+                    checksum += rs.getObject(i) != null ? 1 : 0;
+                }
+            }
+        } else if (method == 1) {
+            while (rs.next()) {
+                Hashtable dataMap = getRowData(rs);
+                String[] names = (String[]) dataMap.keySet().toArray(new String[dataMap.size()]);
+                Object[] values = dataMap.values().toArray();
+                checksum += names.length + values.length;
+            }
+        } else {
+            ResultSetRowAdapter rows = new ResultSetRowAdapter(rs);
+            while (rows.moveNext()) {
+                checksum += rows.getFieldNames().length + rows.getValues().length;
+            }
+        }
+
+        long allocated = getAllocatedBytes() - start;
+        rs.getStatement().close();
+        if (checksum == 0) {
+            throw new IllegalStateException("No rows were read.");
+        }
+
+        return allocated;
+    }
+
+    /**
+     * The previous row extraction of the mail merge examples.
+     */
+    private static Hashtable getRowData(ResultSet rs) throws Exception {
+        ResultSetMetaData metaData = rs.getMetaData();
+        Hashtable values = new Hashtable();
+
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            values.put(metaData.getColumnName(i), rs.getObject(i));
+        }
+
+        return values;
+    }
+
+    private static void createRows(Connection connection) throws Exception {
+        StringBuilder create = new StringBuilder("CREATE TABLE Rows (Id INTEGER PRIMARY KEY");
+        StringBuilder insertSql = new StringBuilder("INSERT INTO Rows VALUES (?");
+        for (int column = 1; column < COLUMN_COUNT; column++) {
+            create.append(", Field").append(column).append(" VARCHAR(50)");
+            insertSql.append(", ?");
+        }
+
+        Statement statement = connection.createStatement();
+        statement.execute(create.append(")").toString());
+        statement.close();
+
+        PreparedStatement insert = connection.prepareStatement(insertSql.append(")").toString());
+        for (int row = 1; row <= ROW_COUNT; row++) {
+            insert.setInt(1, row);
+            for (int column = 1; column < COLUMN_COUNT; column++) {
+                insert.setString(column + 1, "Value " + row + "." + column);
+            }
+            insert.addBatch();
+            if (row % 1000 == 0) {
+                insert.executeBatch();
+            }
+        }
+        insert.executeBatch();
+        insert.close();
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
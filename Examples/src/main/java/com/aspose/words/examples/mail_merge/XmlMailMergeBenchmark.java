@@ -0,0 +1,154 @@
+package com.aspose.words.examples.mail_merge;
+
+import com.aspose.words.IMailMergeDataSource;
+import com.aspose.words.ref.Ref;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathFactory;
+import java.util.HashMap;
+
+/**
+ * Compares the indexed XmlMailMergeDataTable with the previous implementation, which evaluated
+ * an XPath expression for every field of every record. Both data sources are driven the way the
+ * mail merge engine drives them: moveNext for each record, then getValue for each merge field.
+ */
+public class XmlMailMergeBenchmark {
+    private static final int[] RECORD_COUNTS = {10000, 200000};
+    private static final String[] FIELD_NAMES = {"Id", "FirstName", "LastName", "Street", "City", "Zip", "Country", "Phone", "type", "Missing"};
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("records\tXPath ms\tindexed ms");
+
+        for (int recordCount : RECORD_COUNTS) {
+            org.w3c.dom.Document xmlData = createData(recordCount);
+            long xpath = 0;
+            long indexed = 0;
+
+            for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+                long start = System.nanoTime();
+                int xpathValues = readAll(new XPathMailMergeDataTable(xmlData, "customer"));
+                long middle = System.nanoTime();
+                int indexedValues = readAll(new XmlMailMergeDataTable(xmlData, "customer"));
+                long end = System.nanoTime();
+
+                if (xpathValues != indexedValues) {
+                    throw new IllegalStateException("The data sources returned different values.");
+                }
+
+                if (i >= WARMUP_ITERATIONS) {
+                    xpath += middle - start;
+                    indexed += end - middle;
+                }
+            }
+
+            System.out.println(recordCount + "\t" + xpath / 1000000 / MEASURED_ITERATIONS + "\t" + indexed / 1000000 / MEASURED_ITERATIONS);
+        }
+    }
+
+    /**
+     * Reads every field of every record and returns a checksum of the values found.
+     */
+    private static int readAll(IMailMergeDataSource dataSource) throws Exception {
+        Ref<Object> value = new Ref<Object>(null);
+        int checksum = 0;
+        while (dataSource.moveNext()) {
+            for (String fieldName : FIELD_NAMES) {
+                if (dataSource.getValue(fieldName, value)) {
+                    checksum = 31 * checksum + value.get().hashCode();
+                }
+            }
+        }
+
+        return checksum;
+    }
+
+    private static org.w3c.dom.Document createData(int recordCount) throws Exception {
+        org.w3c.dom.Document xmlData = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        Element root = xmlData.createElement("customers");
+        xmlData.appendChild(root);
+
+        for (int i = 0; i < recordCount; i++) {
+            Element customer = xmlData.createElement("customer");
+            customer.setAttribute("type", i % 3 == 0 ? "business" : "private");
+            for (int field = 0; field < FIELD_NAMES.length - 2; field++) {
+                Element value = xmlData.createElement(FIELD_NAMES[field]);
+                value.setTextContent(FIELD_NAMES[field] + " " + i);
+                customer.appendChild(value);
+            }
+
+            root.appendChild(customer);
+        }
+
+        return xmlData;
+    }
+
+    /**
+     * The previous XmlMailMergeDataTable, without child data sources.
+     */
+    private static class XPathMailMergeDataTable implements IMailMergeDataSource {
+        private Node mCurrentNode;
+        private boolean mIsFirstRecord = true;
+        private final String mTableName;
+        private final HashMap<String, XPathExpression> mExpressionSet = new HashMap<String, XPathExpression>();
+        private final XPath mXPath = XPathFactory.newInstance().newXPath();
+
+        XPathMailMergeDataTable(org.w3c.dom.Document xmlDoc, String tableName) throws Exception {
+            mTableName = tableName;
+            mCurrentNode = (Node) retrieveExpression("./" + tableName).evaluate(xmlDoc.getDocumentElement(), XPathConstants.NODE);
+        }
+
+        public String getTableName() {
+            return mTableName;
+        }
+
+        public boolean getValue(String fieldName, Ref<Object> fieldValue) throws Exception {
+            Node value = (Node) retrieveExpression(fieldName).evaluate(mCurrentNode, XPathConstants.NODE);
+            Element nodeAsElement = (Element) mCurrentNode;
+
+            if (value != null) {
+                fieldValue.set(value.getTextContent());
+                return true;
+            } else if (nodeAsElement.hasAttribute(fieldName)) {
+                fieldValue.set(nodeAsElement.getAttribute(fieldName));
+                return true;
+            } else {
+                return false;
+            }
+        }
+
+        public boolean moveNext() {
+            if (mCurrentNode != null) {
+                if (!mIsFirstRecord) {
+                    do {
+                        mCurrentNode = mCurrentNode.getNextSibling();
+                    }
+                    while ((mCurrentNode != null) && !(mCurrentNode.getNodeName().equals(mTableName) && (mCurrentNode.getNodeType() == Node.ELEMENT_NODE)));
+                } else {
+                    mIsFirstRecord = false;
+                }
+            }
+
+            return mCurrentNode != null;
+        }
+
+        public IMailMergeDataSource getChildDataSource(String tableName) {
+            return null;
+        }
+
+        private XPathExpression retrieveExpression(String path) throws Exception {
+            XPathExpression expression = mExpressionSet.get(path);
+            if (expression == null) {
+                expression = mXPath.compile(path);
+                mExpressionSet.put(path, expression);
+            }
+            return expression;
+        }
+    }
+}
@@ -16,9 +16,11 @@ public class XmlMailMergeDataSet implements IMailMergeDataSourceRoot {
     }
 
     public IMailMergeDataSource getDataSource(String tableName) throws Exception {
-        return new XmlMailMergeDataTable(mXmlDoc, tableName);
+        return new XmlMailMergeDataTable(mXmlDoc, tableName, mExpressionCache);
     }
 
     private org.w3c.dom.Document mXmlDoc;
+    // Compiled XPath expressions shared by all the tables of the data set.
+    private final XmlMailMergeDataTable.ExpressionCache mExpressionCache = new XmlMailMergeDataTable.ExpressionCache();
 }
 //ExEnd:
\ No newline at end of file
@@ -3,13 +3,17 @@ package com.aspose.words.examples.mail_merge;
 import com.aspose.words.IMailMergeDataSource;
 import com.aspose.words.ref.Ref;
 import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 //ExStart:
 
@@ -22,6 +26,10 @@ import java.util.HashMap;
  * An instance of this class represents a single table in the data source and in
  * the template. Note: We are using the Document and Node class from the
  * org.w3c.dom package here and not from Aspose.Words.
+ * <p>
+ * Field values are read from an index of the child elements and attributes of the
+ * current record, built in one pass over the record when its first field is requested.
+ * Only field names which are not plain element names are evaluated as XPath.
  */
 public class XmlMailMergeDataTable implements IMailMergeDataSource {
     /**
@@ -33,17 +41,30 @@ public class XmlMailMergeDataTable implements IMailMergeDataSource {
      *                  the region is extracted from.
      */
     public XmlMailMergeDataTable(org.w3c.dom.Document xmlDoc, String tableName) throws Exception {
-        this(xmlDoc.getDocumentElement(), tableName);
+        this(xmlDoc.getDocumentElement(), tableName, new ExpressionCache());
+    }
+
+    /**
+     * Creates a new XmlMailMergeDataSource which shares the compiled XPath expressions
+     * of the specified cache, e.g. with the other tables of a data set.
+     */
+    XmlMailMergeDataTable(org.w3c.dom.Document xmlDoc, String tableName, ExpressionCache expressionCache) throws Exception {
+        this(xmlDoc.getDocumentElement(), tableName, expressionCache);
     }
 
     /**
      * Private constructor that is also called by GetChildDataSource.
      */
-    private XmlMailMergeDataTable(Node rootNode, String tableName) throws Exception {
+    private XmlMailMergeDataTable(Node rootNode, String tableName, ExpressionCache expressionCache) throws Exception {
         mTableName = tableName;
+        mExpressionCache = expressionCache;
 
         // Get the first element on this level matching the table name.
-        mCurrentNode = (Node) retrieveExpression("./" + tableName).evaluate(rootNode, XPathConstants.NODE);
+        if (isElementName(tableName)) {
+            mCurrentNode = findElement(rootNode.getFirstChild(), tableName);
+        } else {
+            mCurrentNode = mExpressionCache.evaluate("./" + tableName, rootNode);
+        }
     }
 
     /**
@@ -58,21 +79,23 @@ public class XmlMailMergeDataTable implements IMailMergeDataSource {
      * Aspose.Words calls this method to get a value for every data field.
      */
     public boolean getValue(String fieldName, Ref<Object> fieldValue) throws Exception {
-        // Attempt to retrieve the child node matching the field name by using XPath.
-        Node value = (Node) retrieveExpression(fieldName).evaluate(mCurrentNode, XPathConstants.NODE);
-        // We also look for the field name in attributes of the element node.
-        Element nodeAsElement = (Element) mCurrentNode;
+        Node value;
+        if (isElementName(fieldName)) {
+            // Look up the first child element matching the field name, or else the attribute of the element node.
+            value = getRecordFields().get(fieldName);
+        } else {
+            // Field names such as paths are evaluated by XPath against the record, then looked up as attributes.
+            value = mExpressionCache.evaluate(fieldName, mCurrentNode);
+            if (value == null) {
+                value = ((Element) mCurrentNode).getAttributeNode(fieldName);
+            }
+        }
 
         if (value != null) {
-            // Field exists in the data source as a child node, pass the value and return true.
+            // Field exists in the data source as a child node or an attribute, pass the value and return true.
             // This merges the data into the document.
             fieldValue.set(value.getTextContent());
             return true;
-        } else if (nodeAsElement.hasAttribute(fieldName)) {
-            // Field exists in the data source as an attribute of the current node, pass the value and return true.
-            // This merges the data into the document.
-            fieldValue.set(nodeAsElement.getAttribute(fieldName));
-            return true;
         } else {
             // Field does not exist in the data source, return false.
             // No value will be merged for this field and it is left over in the document.
@@ -91,10 +114,9 @@ public class XmlMailMergeDataTable implements IMailMergeDataSource {
             if (!mIsFirstRecord) {
                 // Find the next node which is an element and matches the table name represented by this class.
                 // This skips any text nodes and any elements which belong to a different table.
-                do {
-                    mCurrentNode = mCurrentNode.getNextSibling();
-                }
-                while ((mCurrentNode != null) && !(mCurrentNode.getNodeName().equals(mTableName) && (mCurrentNode.getNodeType() == Node.ELEMENT_NODE)));
+                mCurrentNode = findElement(mCurrentNode.getNextSibling(), mTableName);
+                mRecordFields.clear();
+                mIsRecordIndexed = false;
             } else {
                 mIsFirstRecord = false;
             }
@@ -118,7 +140,7 @@ public class XmlMailMergeDataTable implements IMailMergeDataSource {
      * </Tables>
      */
     public IMailMergeDataSource getChildDataSource(String tableName) throws Exception {
-        return new XmlMailMergeDataTable(mCurrentNode, tableName);
+        return new XmlMailMergeDataTable(mCurrentNode, tableName, mExpressionCache);
     }
 
     private boolean isEof() {
@@ -126,28 +148,89 @@ public class XmlMailMergeDataTable implements IMailMergeDataSource {
     }
 
     /**
-     * Returns a cached version of a compiled XPathExpression if available,
-     * otherwise creates a new expression.
+     * Returns the fields of the current record, indexing its child elements and
+     * attributes on first use. A child element takes precedence over an attribute
+     * of the same name, and the first of several child elements is used, as with XPath.
      */
-    private XPathExpression retrieveExpression(String path) throws Exception {
-        XPathExpression expression;
+    private HashMap<String, Node> getRecordFields() {
+        if (!mIsRecordIndexed) {
+            for (Node child = mCurrentNode.getFirstChild(); child != null; child = child.getNextSibling()) {
+                if (child.getNodeType() == Node.ELEMENT_NODE && !mRecordFields.containsKey(child.getNodeName())) {
+                    mRecordFields.put(child.getNodeName(), child);
+                }
+            }
 
-        if (mExpressionSet.containsKey(path)) {
-            expression = (XPathExpression) mExpressionSet.get(path);
-        } else {
-            expression = mXPath.compile(path);
-            mExpressionSet.put(path, expression);
+            NamedNodeMap attributes = mCurrentNode.getAttributes();
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Node attribute = attributes.item(i);
+                if (!mRecordFields.containsKey(attribute.getNodeName())) {
+                    mRecordFields.put(attribute.getNodeName(), attribute);
+                }
+            }
+
+            mIsRecordIndexed = true;
+        }
+
+        return mRecordFields;
+    }
+
+    /**
+     * Returns the first element with the specified name, starting from the specified node and
+     * moving over its following siblings.
+     */
+    private static Node findElement(Node node, String name) {
+        while ((node != null) && !((node.getNodeType() == Node.ELEMENT_NODE) && node.getNodeName().equals(name))) {
+            node = node.getNextSibling();
         }
-        return expression;
+
+        return node;
     }
 
+    /**
+     * Returns true if the name selects child elements by name when used as XPath.
+     */
+    private static boolean isElementName(String name) {
+        return ELEMENT_NAME.matcher(name).matches();
+    }
+
+    /**
+     * Compiled XPath expressions shared by the tables of a data source. It can be used
+     * from several threads: expressions are compiled once and evaluated one thread at a time,
+     * as XPath objects are not thread safe.
+     */
+    static final class ExpressionCache {
+        private final ConcurrentHashMap<String, XPathExpression> mExpressions = new ConcurrentHashMap<String, XPathExpression>();
+        private final XPath mXPath = XPathFactory.newInstance().newXPath();
+
+        Node evaluate(String path, Node context) throws XPathExpressionException {
+            XPathExpression expression = mExpressions.get(path);
+            if (expression == null) {
+                synchronized (mXPath) {
+                    expression = mXPath.compile(path);
+                }
+
+                XPathExpression existing = mExpressions.putIfAbsent(path, expression);
+                if (existing != null) {
+                    expression = existing;
+                }
+            }
+
+            synchronized (expression) {
+                return (Node) expression.evaluate(context, XPathConstants.NODE);
+            }
+        }
+    }
+
+    private static final Pattern ELEMENT_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_.\\-]*");
+
     /**
      * Instance variables.
      */
     private Node mCurrentNode;
     private boolean mIsFirstRecord = true;
+    private boolean mIsRecordIndexed;
     private final String mTableName;
-    private final HashMap mExpressionSet = new HashMap();
-    private final XPath mXPath = XPathFactory.newInstance().newXPath();
+    private final HashMap<String, Node> mRecordFields = new HashMap<String, Node>();
+    private final ExpressionCache mExpressionCache;
 }
-//ExEnd:
\ No newline at end of file
+//ExEnd:
@@ -0,0 +1,122 @@
+package com.aspose.words.examples.programming_documents.find_replace;
+
+import com.aspose.words.*;
+
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the per match ReplaceEvaluatorFindAndHighlight callback with BulkFindAndHighlighter on generated
+ * documents with 1k, 10k and 100k matches. Every paragraph holds several matches and some of them cross a
+ * formatting change, so runs are cut in the middle of a match as well as around it.
+ * Run it with "-Xmx2g".
+ */
+public class FindAndHighlightBenchmark {
+    private static final int[] MATCH_COUNTS = {1000, 10000, 100000};
+    private static final int MATCHES_PER_PARAGRAPH = 5;
+    private static final int WARMUP_ITERATIONS = 1;
+    private static final int MEASURED_ITERATIONS = 3;
+
+    public static void main(String[] args) throws Exception {
+        Pattern regex = Pattern.compile("your document", Pattern.CASE_INSENSITIVE);
+
+        System.out.println("matches\tlegacy ms\tlegacy MB allocated\tbulk ms\tbulk MB allocated");
+
+        for (int matchCount : MATCH_COUNTS) {
+            Document master = buildDocument(matchCount / MATCHES_PER_PARAGRAPH);
+
+            // Both highlighters must leave the same text highlighted.
+            Document legacyResult = highlightLegacy(master.deepClone(), regex);
+            Document bulkResult = master.deepClone();
+            int found = new BulkFindAndHighlighter(Color.YELLOW).highlight(bulkResult, regex);
+            if (found != matchCount || !highlightedText(legacyResult).equals(highlightedText(bulkResult)))
+                throw new IllegalStateException("The highlighters disagree for " + matchCount + " matches.");
+
+            long legacyNanos = 0;
+            long legacyBytes = 0;
+            long bulkNanos = 0;
+            long bulkBytes = 0;
+            for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+                Document doc = master.deepClone();
+                long allocatedBefore = getAllocatedBytes();
+                long start = System.nanoTime();
+                highlightLegacy(doc, regex);
+                long legacy = System.nanoTime() - start;
+                long legacyAllocated = getAllocatedBytes() - allocatedBefore;
+
+                doc = master.deepClone();
+                allocatedBefore = getAllocatedBytes();
+                start = System.nanoTime();
+                new BulkFindAndHighlighter(Color.YELLOW).highlight(doc, regex);
+                long bulk = System.nanoTime() - start;
+                long bulkAllocated = getAllocatedBytes() - allocatedBefore;
+
+                if (i >= WARMUP_ITERATIONS) {
+                    legacyNanos += legacy;
+                    legacyBytes += legacyAllocated;
+                    bulkNanos += bulk;
+                    bulkBytes += bulkAllocated;
+                }
+            }
+
+            System.out.println(matchCount
+                    + "\t" + legacyNanos / MEASURED_ITERATIONS / 1000000
+                    + "\t" + legacyBytes / MEASURED_ITERATIONS / (1024 * 1024)
+                    + "\t" + bulkNanos / MEASURED_ITERATIONS / 1000000
+                    + "\t" + bulkBytes / MEASURED_ITERATIONS / (1024 * 1024));
+        }
+    }
+
+    private static Document highlightLegacy(Document doc, Pattern regex) throws Exception {
+        FindReplaceOptions options = new FindReplaceOptions();
+        options.setReplacingCallback(new ReplaceEvaluatorFindAndHighlight());
+        options.setDirection(FindReplaceDirection.BACKWARD);
+        doc.getRange().replace(regex, "", options);
+        return doc;
+    }
+
+    private static Document buildDocument(int paragraphCount) throws Exception {
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+
+        for (int paragraph = 0; paragraph < paragraphCount; paragraph++) {
+            builder.write("Open your document, then save your document. ");
+            builder.write("Print your ");
+            // The third match crosses a formatting change.
+            builder.getFont().setBold(true);
+            builder.write("document and close");
+            builder.getFont().setBold(false);
+            builder.writeln(" it. Keep your document safe and share your document later.");
+        }
+
+        return doc;
+    }
+
+    /**
+     * The highlighted text of every paragraph, with the pieces of a paragraph separated by a tab.
+     */
+    private static String highlightedText(Document doc) {
+        StringBuilder text = new StringBuilder();
+        for (Paragraph paragraph : (Iterable<Paragraph>) doc.getChildNodes(NodeType.PARAGRAPH, true)) {
+            boolean previousHighlighted = false;
+            for (Run run : paragraph.getRuns()) {
+                boolean highlighted = Color.YELLOW.equals(run.getFont().getHighlightColor());
+                if (highlighted) {
+                    text.append(run.getText());
+                } else if (previousHighlighted) {
+                    text.append('\t');
+                }
+                previousHighlighted = highlighted;
+            }
+            text.append('\n');
+        }
+
+        return text.toString();
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
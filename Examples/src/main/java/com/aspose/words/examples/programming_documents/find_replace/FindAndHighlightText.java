@@ -5,6 +5,8 @@ import com.aspose.words.examples.Utils;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.regex.Pattern;
 
 public class FindAndHighlightText {
@@ -27,6 +29,17 @@ public class FindAndHighlightText {
         // Save the output document.
         doc.save(dataDir + "TestFile_out.doc");
         //ExEnd:FindAndHighlightText
+
+        //ExStart:BulkFindAndHighlightText
+        Document bulkDoc = new Document(dataDir + "TestFile.doc");
+
+        // Collect all the matches first and then split every run once, which scales to documents with
+        // many thousands of matches.
+        int matchCount = new BulkFindAndHighlighter(Color.YELLOW).highlight(bulkDoc, regex);
+
+        bulkDoc.save(dataDir + "TestFile.BulkHighlight_out.doc");
+        //ExEnd:BulkFindAndHighlightText
+        System.out.println(matchCount + " matches highlighted.");
     }
 }
 
@@ -89,3 +102,183 @@ class ReplaceEvaluatorFindAndHighlight implements IReplacingCallback {
     }
 //ExEnd:ReplaceEvaluatorFindAndHighlight
 }
+
+/**
+ * Highlights all the matches of a pattern in a document.
+ * <p>
+ * The find and replace engine is only used to collect the matches. The runs are split afterwards, one parent
+ * node at a time: the match offsets are turned into positions within the text of the runs of the parent and
+ * every run is cut once at all the match boundaries that fall inside it. Highlighted pieces of a run are cloned
+ * from the first highlighted piece, so the highlight color is set once per run.
+ */
+class BulkFindAndHighlighter {
+    BulkFindAndHighlighter(Color color) {
+        mColor = color;
+    }
+
+    /**
+     * Highlights the matches and returns their number.
+     */
+    int highlight(Document doc, Pattern pattern) throws Exception {
+        MatchCollector collector = new MatchCollector();
+
+        FindReplaceOptions options = new FindReplaceOptions();
+        options.setReplacingCallback(collector);
+        options.setDirection(FindReplaceDirection.FORWARD);
+        doc.getRange().replace(pattern, "", options);
+
+        // Matches are grouped by the node that holds their runs, since runs are only followed through siblings.
+        IdentityHashMap<Node, Integer> groupOfParent = new IdentityHashMap<Node, Integer>();
+        ArrayList<int[]> groups = new ArrayList<int[]>();
+        int[] groupSizes = new int[16];
+
+        for (int match = 0; match < collector.mCount; match++) {
+            Node parent = collector.mRuns.get(match).getParentNode();
+            Integer group = groupOfParent.get(parent);
+            if (group == null) {
+                group = groups.size();
+                groupOfParent.put(parent, group);
+                groups.add(new int[4]);
+                if (group == groupSizes.length)
+                    groupSizes = Arrays.copyOf(groupSizes, group * 2);
+            }
+
+            int[] members = groups.get(group);
+            if (groupSizes[group] == members.length) {
+                members = Arrays.copyOf(members, members.length * 2);
+                groups.set(group, members);
+            }
+            members[groupSizes[group]++] = match;
+        }
+
+        for (int group = 0; group < groups.size(); group++)
+            highlightGroup(collector, groups.get(group), groupSizes[group]);
+
+        return collector.mCount;
+    }
+
+    private void highlightGroup(MatchCollector collector, int[] members, int memberCount) throws Exception {
+        CompositeNode parent = collector.mRuns.get(members[0]).getParentNode();
+
+        ArrayList<Run> runs = new ArrayList<Run>();
+        int[] runStarts = new int[8];
+        int length = 0;
+        for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeType() != NodeType.RUN)
+                continue;
+
+            if (runs.size() == runStarts.length)
+                runStarts = Arrays.copyOf(runStarts, runStarts.length * 2);
+
+            runStarts[runs.size()] = length;
+            runs.add((Run) node);
+            length += ((Run) node).getText().length();
+        }
+
+        // Turn the matches into intervals of the text of the runs. Matches arrive in document order and do not
+        // overlap, so the intervals are sorted.
+        int[] starts = new int[memberCount];
+        int[] ends = new int[memberCount];
+        int runIndex = 0;
+        for (int i = 0; i < memberCount; i++) {
+            int match = members[i];
+            while (runs.get(runIndex) != collector.mRuns.get(match))
+                runIndex++;
+
+            starts[i] = runStarts[runIndex] + collector.mOffsets[match];
+            ends[i] = Math.min(starts[i] + collector.mLengths[match], length);
+        }
+
+        int interval = 0;
+        for (int i = 0; i < runs.size() && interval < memberCount; i++) {
+            int runStart = runStarts[i];
+            int runEnd = runStart + runs.get(i).getText().length();
+            interval = splitRun(runs.get(i), runStart, runEnd, starts, ends, memberCount, interval);
+        }
+    }
+
+    /**
+     * Cuts the run at all the interval boundaries inside it and highlights the pieces inside the intervals.
+     * Returns the first interval that may still affect the following runs.
+     */
+    private int splitRun(Run run, int runStart, int runEnd, int[] starts, int[] ends, int count, int interval)
+            throws Exception {
+        String text = run.getText();
+        Node previous = run;
+        Run highlightedSource = null;
+        String firstText = null;
+        boolean firstHighlighted = false;
+
+        int position = runStart;
+        while (position < runEnd) {
+            while (interval < count && ends[interval] <= position)
+                interval++;
+
+            boolean inside = interval < count && starts[interval] <= position;
+            int next = inside ? Math.min(ends[interval], runEnd)
+                    : (interval < count ? Math.min(starts[interval], runEnd) : runEnd);
+
+            if (position == runStart) {
+                if (next == runEnd) {
+                    // The run is not cut.
+                    if (inside)
+                        run.getFont().setHighlightColor(mColor);
+                    return interval;
+                }
+
+                // The run itself becomes the first piece once all the other pieces are cloned from it.
+                firstText = text.substring(0, next - runStart);
+                firstHighlighted = inside;
+            } else {
+                Run piece;
+                if (!inside) {
+                    piece = (Run) run.deepClone(true);
+                } else if (highlightedSource == null) {
+                    piece = (Run) run.deepClone(true);
+                    piece.getFont().setHighlightColor(mColor);
+                    highlightedSource = piece;
+                } else {
+                    piece = (Run) highlightedSource.deepClone(true);
+                }
+
+                piece.setText(text.substring(position - runStart, next - runStart));
+                run.getParentNode().insertAfter(piece, previous);
+                previous = piece;
+            }
+
+            position = next;
+        }
+
+        run.setText(firstText);
+        if (firstHighlighted)
+            run.getFont().setHighlightColor(mColor);
+
+        return interval;
+    }
+
+    /**
+     * Records the run, offset and length of every match and leaves the document unchanged.
+     */
+    private static class MatchCollector implements IReplacingCallback {
+        public int replacing(ReplacingArgs e) {
+            if (mCount == mOffsets.length) {
+                mOffsets = Arrays.copyOf(mOffsets, mCount * 2);
+                mLengths = Arrays.copyOf(mLengths, mCount * 2);
+            }
+
+            mRuns.add((Run) e.getMatchNode());
+            mOffsets[mCount] = e.getMatchOffset();
+            mLengths[mCount] = e.getMatch().group().length();
+            mCount++;
+
+            return ReplaceAction.SKIP;
+        }
+
+        private final ArrayList<Run> mRuns = new ArrayList<Run>();
+        private int[] mOffsets = new int[64];
+        private int[] mLengths = new int[64];
+        private int mCount;
+    }
+
+    private final Color mColor;
+}
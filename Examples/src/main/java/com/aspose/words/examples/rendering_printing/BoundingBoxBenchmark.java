@@ -0,0 +1,120 @@
+package com.aspose.words.examples.rendering_printing;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Compares RenderShapes.FindBoundingBoxAroundNode with the previous column by column getRGB scan, on a
+ * transparent letter size render at 300 and 600 dpi with a node drawn in the middle. The PNG round trip that
+ * RenderNode used to make before cropping is timed as well, since the raw render now skips it.
+ * Run it with "-Xmx2g".
+ */
+public class BoundingBoxBenchmark {
+    private static final int[] RESOLUTIONS = {300, 600};
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASURED_ITERATIONS = 10;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("dpi\tsize\tlegacy ms\trow scan ms\trow scan KB allocated\tpng round trip ms");
+
+        for (int dpi : RESOLUTIONS) {
+            BufferedImage image = createRender(dpi);
+            Rectangle expected = legacyBoundingBox(image);
+            if (!expected.equals(RenderShapes.FindBoundingBoxAroundNode(image))) {
+                throw new IllegalStateException("Bounding boxes differ at " + dpi + " dpi.");
+            }
+
+            long legacyNanos = 0;
+            long rowScanNanos = 0;
+            long rowScanBytes = 0;
+            for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+                long start = System.nanoTime();
+                legacyBoundingBox(image);
+                long legacy = System.nanoTime() - start;
+
+                long allocatedBefore = getAllocatedBytes();
+                start = System.nanoTime();
+                RenderShapes.FindBoundingBoxAroundNode(image);
+                long rowScan = System.nanoTime() - start;
+                long allocated = getAllocatedBytes() - allocatedBefore;
+
+                if (i >= WARMUP_ITERATIONS) {
+                    legacyNanos += legacy;
+                    rowScanNanos += rowScan;
+                    rowScanBytes += allocated;
+                }
+            }
+
+            // The round trip is slow, so it is timed once after a warm-up run.
+            roundTrip(image);
+            long start = System.nanoTime();
+            roundTrip(image);
+            long roundTripNanos = System.nanoTime() - start;
+
+            System.out.println(dpi
+                    + "\t" + image.getWidth() + "x" + image.getHeight()
+                    + "\t" + legacyNanos / MEASURED_ITERATIONS / 1000000.0
+                    + "\t" + rowScanNanos / MEASURED_ITERATIONS / 1000000.0
+                    + "\t" + rowScanBytes / MEASURED_ITERATIONS / 1024
+                    + "\t" + roundTripNanos / 1000000);
+        }
+    }
+
+    /**
+     * A transparent page with an opaque block and some text in the middle, like a rendered table cell.
+     */
+    private static BufferedImage createRender(int dpi) {
+        int width = (int) (8.5 * dpi);
+        int height = 11 * dpi;
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(new Color(255, 182, 193));
+            g.fillRect(width / 4, height / 3, width / 2, height / 6);
+            g.setColor(Color.black);
+            g.setFont(new Font(Font.SERIF, Font.PLAIN, dpi / 6));
+            g.drawString("Quarterly figures", width / 4 + dpi / 10, height / 3 + dpi / 4);
+        } finally {
+            g.dispose();
+        }
+
+        return image;
+    }
+
+    /**
+     * The scan as it was done before: getRGB for every pixel, column by column.
+     */
+    private static Rectangle legacyBoundingBox(BufferedImage originalBitmap) {
+        Point min = new Point(Integer.MAX_VALUE, Integer.MAX_VALUE);
+        Point max = new Point(Integer.MIN_VALUE, Integer.MIN_VALUE);
+
+        for (int x = 0; x < originalBitmap.getWidth(); ++x) {
+            for (int y = 0; y < originalBitmap.getHeight(); ++y) {
+                if (originalBitmap.getRGB(x, y) != 0) {
+                    min.x = Math.min(x, min.x);
+                    min.y = Math.min(y, min.y);
+                    max.x = Math.max(x, max.x);
+                    max.y = Math.max(y, max.y);
+                }
+            }
+        }
+
+        return new Rectangle(min.x, min.y, (max.x - min.x) + 1, (max.y - min.y) + 1);
+    }
+
+    private static BufferedImage roundTrip(BufferedImage image) throws Exception {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", stream);
+        return ImageIO.read(new ByteArrayInputStream(stream.toByteArray()));
+    }
+
+    private static long getAllocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,446 @@
+package com.aspose.words.examples.rendering_printing;
+
+import com.aspose.words.*;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A process-wide registry of the fonts in a set of folders, shared by all the documents of the process.
+ * <p>
+ * Creating a FontSettings with folder font sources for every document makes Aspose.Words read every font file
+ * in those folders again. The registry reads the folders once, keeps an index of font families to font files
+ * and gives all documents the same FontSettings with a file font source for every indexed font. Since all the
+ * fonts are available, the substitution rules and the glyph fallback find their target fonts as they would with
+ * folder font sources.
+ * <p>
+ * The index is saved to disk, and on the next start only files that were added or changed since then are read.
+ * When watching is enabled, changes in the folders are picked up in the background. A refresh publishes a new
+ * index, documents that already have their FontSettings keep using the previous one.
+ */
+public final class FontRegistry {
+    /**
+     * The fonts picked for a document.
+     */
+    public static final class Resolution {
+        Resolution(FontSettings fontSettings, int resolvedFontCount, List<String> missingFontNames) {
+            mFontSettings = fontSettings;
+            mResolvedFontCount = resolvedFontCount;
+            mMissingFontNames = missingFontNames;
+        }
+
+        public FontSettings getFontSettings() {
+            return mFontSettings;
+        }
+
+        /**
+         * Gets the number of fonts of the document that were found in the registry.
+         */
+        public int getResolvedFontCount() {
+            return mResolvedFontCount;
+        }
+
+        /**
+         * Gets the names of the fonts of the document that are not in the registry. These are substituted.
+         */
+        public List<String> getMissingFontNames() {
+            return mMissingFontNames;
+        }
+
+        private final FontSettings mFontSettings;
+        private final int mResolvedFontCount;
+        private final List<String> mMissingFontNames;
+    }
+
+    /**
+     * Creates the process-wide registry. Must be called before the first call to getInstance.
+     *
+     * @param folders      The folders to read fonts from, including their subfolders.
+     * @param indexFile    The file the index is saved to and loaded from, or null to keep it in memory only.
+     * @param watchFolders Whether changes in the folders are picked up in the background.
+     */
+    public static synchronized FontRegistry initialize(String[] folders, File indexFile, boolean watchFolders) throws Exception {
+        if (sInstance != null)
+            throw new IllegalStateException("The font registry is initialized already.");
+
+        sInstance = new FontRegistry(folders, indexFile);
+        if (watchFolders)
+            sInstance.startWatching();
+
+        return sInstance;
+    }
+
+    /**
+     * Returns the process-wide registry. Unless it was initialized otherwise, it reads the system font folders,
+     * keeps its index in the temporary directory and watches the folders.
+     */
+    public static synchronized FontRegistry getInstance() throws Exception {
+        if (sInstance == null)
+            initialize(SystemFontSource.getSystemFontFolders(),
+                    new File(System.getProperty("java.io.tmpdir"), "aspose-words-font-index.txt"), true);
+
+        return sInstance;
+    }
+
+    private FontRegistry(String[] folders, File indexFile) throws Exception {
+        mFolders = folders.clone();
+        mIndexFile = indexFile;
+
+        Map<String, FontFile> indexed = indexFile != null && indexFile.isFile()
+                ? loadIndex(indexFile) : new HashMap<String, FontFile>();
+        mSnapshot = scan(indexed);
+    }
+
+    /**
+     * Picks the fonts of the document from the registry.
+     */
+    public Resolution resolve(Document doc) throws Exception {
+        Snapshot snapshot = mSnapshot;
+
+        List<String> missing = new ArrayList<String>();
+        int resolved = 0;
+
+        for (FontInfo fontInfo : (Iterable<FontInfo>) doc.getFontInfos()) {
+            if (snapshot.mFamilies.containsKey(fontInfo.getName().toLowerCase()))
+                resolved++;
+            else
+                missing.add(fontInfo.getName());
+        }
+
+        mResolvedDocumentCount.incrementAndGet();
+        mResolvedFontCount.addAndGet(resolved);
+        return new Resolution(snapshot.mFontSettings, resolved, missing);
+    }
+
+    /**
+     * Returns the FontSettings for the document. Same as resolve(doc).getFontSettings().
+     */
+    public FontSettings getFontSettings(Document doc) throws Exception {
+        return resolve(doc).getFontSettings();
+    }
+
+    /**
+     * Reads the folders again. Only files that were added or changed are parsed.
+     */
+    public void refresh() throws Exception {
+        synchronized (mScanLock) {
+            mSnapshot = scan(mSnapshot.mFiles);
+        }
+    }
+
+    /**
+     * Gets the number of font files in the registry.
+     */
+    public int getFontFileCount() {
+        return mSnapshot.mFiles.size();
+    }
+
+    /**
+     * Gets the number of font families in the registry.
+     */
+    public int getFontFamilyCount() {
+        return mSnapshot.mFamilies.size();
+    }
+
+    /**
+     * Gets the time the last scan of the folders took, in milliseconds.
+     */
+    public long getLastScanMillis() {
+        return mLastScanNanos / 1000000;
+    }
+
+    /**
+     * Gets the number of font files that were parsed by the last scan. The other files were taken from the index.
+     */
+    public int getLastParsedFileCount() {
+        return mLastParsedFileCount;
+    }
+
+    public long getResolvedDocumentCount() {
+        return mResolvedDocumentCount.get();
+    }
+
+    /**
+     * Gets the average number of fonts found in the registry per resolved document.
+     */
+    public double getAverageResolvedFontCount() {
+        long documents = mResolvedDocumentCount.get();
+        return documents == 0 ? 0 : (double) mResolvedFontCount.get() / documents;
+    }
+
+    private Snapshot scan(Map<String, FontFile> known) throws Exception {
+        long start = System.nanoTime();
+        final Map<String, FontFile> files = new HashMap<String, FontFile>();
+        int parsed = 0;
+
+        for (Path fontPath : listFontFiles()) {
+            File file = fontPath.toFile();
+            String path = file.getAbsolutePath();
+            FontFile previous = known.get(path);
+
+            if (previous != null && previous.mLength == file.length() && previous.mLastModified == file.lastModified()) {
+                files.put(path, previous);
+                continue;
+            }
+
+            files.put(path, new FontFile(path, file.length(), file.lastModified(), readFamilies(path)));
+            parsed++;
+        }
+
+        Snapshot snapshot = new Snapshot(files);
+        mLastScanNanos = System.nanoTime() - start;
+        mLastParsedFileCount = parsed;
+
+        if (mIndexFile != null && (parsed > 0 || files.size() != known.size())) {
+            try {
+                saveIndex(files, mIndexFile);
+            } catch (IOException e) {
+                // The registry works without a saved index, the next start just parses more files.
+            }
+        }
+
+        return snapshot;
+    }
+
+    private List<Path> listFontFiles() throws IOException {
+        final List<Path> fontFiles = new ArrayList<Path>();
+
+        for (String folder : mFolders) {
+            Path root = Paths.get(folder);
+            if (!Files.isDirectory(root))
+                continue;
+
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    String name = file.getFileName().toString().toLowerCase();
+                    if (name.endsWith(".ttf") || name.endsWith(".otf") || name.endsWith(".ttc") || name.endsWith(".otc"))
+                        fontFiles.add(file);
+
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    // Unreadable files and folders are left out of the registry.
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+
+        return fontFiles;
+    }
+
+    private static String[] readFamilies(String path) {
+        try {
+            Set<String> families = new LinkedHashSet<String>();
+            for (PhysicalFontInfo fontInfo : (Iterable<PhysicalFontInfo>) new FileFontSource(path).getAvailableFonts())
+                families.add(fontInfo.getFontFamilyName());
+
+            return families.toArray(new String[families.size()]);
+        } catch (Exception e) {
+            // A file that is not a valid font is kept in the index without families, so it is not parsed again.
+            return new String[0];
+        }
+    }
+
+    private static Map<String, FontFile> loadIndex(File indexFile) throws IOException {
+        Map<String, FontFile> files = new HashMap<String, FontFile>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(indexFile), UTF_8));
+        try {
+            String line = reader.readLine();
+            if (!INDEX_HEADER.equals(line))
+                return files;
+
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t", -1);
+                if (fields.length != 4)
+                    continue;
+
+                String[] families = fields[3].isEmpty() ? new String[0] : fields[3].split("\\|");
+                files.put(fields[0], new FontFile(fields[0], Long.parseLong(fields[1]), Long.parseLong(fields[2]), families));
+            }
+        } catch (NumberFormatException e) {
+            // A damaged index is ignored, the folders are read from scratch.
+            files.clear();
+        } finally {
+            reader.close();
+        }
+
+        return files;
+    }
+
+    private static void saveIndex(Map<String, FontFile> files, File indexFile) throws IOException {
+        // A temporary file of its own in the folder of the index, so processes that share the index do not write
+        // to the same file and the move below stays within one file system.
+        File tempFile = File.createTempFile(indexFile.getName(), ".tmp", indexFile.getAbsoluteFile().getParentFile());
+        try {
+            writeIndex(files, tempFile);
+
+            // Readers never see a half written index.
+            try {
+                Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            // Only left over if the index could not be written or moved.
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    private static void writeIndex(Map<String, FontFile> files, File target) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(target), UTF_8));
+        try {
+            writer.write(INDEX_HEADER);
+            writer.write('\n');
+            for (FontFile file : files.values()) {
+                writer.write(file.mPath + '\t' + file.mLength + '\t' + file.mLastModified + '\t');
+                for (int i = 0; i < file.mFamilies.length; i++) {
+                    if (i > 0)
+                        writer.write('|');
+                    writer.write(file.mFamilies[i]);
+                }
+                writer.write('\n');
+            }
+        } finally {
+            writer.close();
+        }
+    }
+
+    private void startWatching() throws IOException {
+        final WatchService watchService = FileSystems.getDefault().newWatchService();
+        registerFolders(watchService);
+
+        Thread watcher = new Thread(new Runnable() {
+            public void run() {
+                try {
+                    while (true) {
+                        WatchKey key = watchService.take();
+                        key.pollEvents();
+                        key.reset();
+
+                        // Copying a set of fonts raises many events, wait until they settle and refresh once.
+                        while ((key = watchService.poll(REFRESH_DELAY_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                            key.pollEvents();
+                            key.reset();
+                        }
+
+                        try {
+                            refresh();
+                            registerFolders(watchService);
+                        } catch (Exception e) {
+                            // The previous index stays in use, the next change triggers another attempt.
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ClosedWatchServiceException e) {
+                    // The process is shutting down.
+                }
+            }
+        }, "font-registry-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Registers the folders and all their subfolders. Registering a folder twice has no effect, so new subfolders
+     * are picked up by calling this again after a refresh.
+     */
+    private void registerFolders(final WatchService watchService) throws IOException {
+        for (String folder : mFolders) {
+            Path root = Paths.get(folder);
+            if (!Files.isDirectory(root))
+                continue;
+
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                            StandardWatchEventKinds.ENTRY_MODIFY);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+    }
+
+    private static final class FontFile {
+        FontFile(String path, long length, long lastModified, String[] families) {
+            mPath = path;
+            mLength = length;
+            mLastModified = lastModified;
+            mFamilies = families;
+        }
+
+        final String mPath;
+        final long mLength;
+        final long mLastModified;
+        final String[] mFamilies;
+    }
+
+    /**
+     * An immutable view of the registry, replaced as a whole on refresh.
+     */
+    private static final class Snapshot {
+        Snapshot(Map<String, FontFile> files) {
+            mFiles = Collections.unmodifiableMap(files);
+
+            Map<String, List<String>> families = new HashMap<String, List<String>>();
+            for (FontFile file : files.values()) {
+                for (String family : file.mFamilies) {
+                    String key = family.toLowerCase();
+                    List<String> paths = families.get(key);
+                    if (paths == null) {
+                        paths = new ArrayList<String>();
+                        families.put(key, paths);
+                    }
+                    paths.add(file.mPath);
+                }
+            }
+            mFamilies = families;
+
+            // Files without families are not valid fonts and are left out.
+            List<FontSourceBase> sources = new ArrayList<FontSourceBase>();
+            for (FontFile file : files.values()) {
+                if (file.mFamilies.length > 0)
+                    sources.add(new FileFontSource(file.mPath));
+            }
+
+            mFontSettings = new FontSettings();
+            mFontSettings.setFontsSources(sources.toArray(new FontSourceBase[sources.size()]));
+            mFontSettings.getSubstitutionSettings().getDefaultFontSubstitution().setDefaultFontName(DEFAULT_FONT_NAME);
+        }
+
+        final Map<String, FontFile> mFiles;
+        final Map<String, List<String>> mFamilies;
+        final FontSettings mFontSettings;
+    }
+
+    private static final String DEFAULT_FONT_NAME = "Times New Roman";
+    private static final String INDEX_HEADER = "# font index 1";
+    private static final long REFRESH_DELAY_MILLIS = 500;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private static FontRegistry sInstance;
+
+    private final String[] mFolders;
+    private final File mIndexFile;
+    private final Object mScanLock = new Object();
+    private volatile Snapshot mSnapshot;
+    private volatile long mLastScanNanos;
+    private volatile int mLastParsedFileCount;
+    private final AtomicLong mResolvedDocumentCount = new AtomicLong();
+    private final AtomicLong mResolvedFontCount = new AtomicLong();
+}
@@ -0,0 +1,891 @@
+package com.aspose.words.examples.rendering_printing;
+
+import com.aspose.words.*;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Collection;
+
+/**
+ * Provides the base class for rendered elements of a document.
+ */
+public class LayoutEntity {
+    protected LayoutEntity() {
+    }
+
+    /**
+     * Gets the 1-based index of a page which contains the rendered entity.
+     */
+    public final int getPageIndex() {
+        return mPageIndex;
+    }
+
+    /**
+     * Returns bounding rectangle of the entity relative to the page top left corner (in points).
+     */
+    public final Rectangle2D getRectangle() {
+        return mRectangle;
+    }
+
+    /**
+     * Gets the type of this layout entity.
+     */
+    public final int getType() //LayoutEntityType
+    {
+        return mType;
+    }
+
+    /**
+     * Exports the contents of the entity into a string in plain text format.
+     */
+    public String getText() {
+        StringBuilder builder = new StringBuilder();
+        for (LayoutEntity entity : mChildEntities) {
+            builder.append(entity.getText());
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Gets the immediate parent of this entity.
+     */
+    public final LayoutEntity getParent() {
+        return mParent;
+    }
+
+    /**
+     * Returns the node that corresponds to this layout entity.
+     * <p>
+     * This property may return null for spans that originate from Run nodes or nodes that are inside the header or footer.
+     */
+    public Node getParentNode() {
+        return mParentNode;
+    }
+
+    public void setParentNode(Node value) {
+        mParentNode = value;
+    }
+
+    /**
+     * Reserved for internal use.
+     */
+    private Object privateLayoutObject;
+
+    public final Object getLayoutObject() {
+        return privateLayoutObject;
+    }
+
+    public final void setLayoutObject(Object value) {
+        privateLayoutObject = value;
+    }
+
+    /**
+     * Reserved for internal use.
+     *
+     * @throws Exception
+     */
+    public final LayoutEntity AddChildEntity(LayoutEnumerator it) throws Exception {
+        return AddChildEntity(it, null);
+    }
+
+    /**
+     * Reserved for internal use.
+     *
+     * @param interner Shares the text of spans, may be null to keep every span text as it is.
+     * @throws Exception
+     */
+    public final LayoutEntity AddChildEntity(LayoutEnumerator it, SpanTextInterner interner) throws Exception {
+        LayoutEntity child = CreateLayoutEntityFromType(it, interner);
+        mChildEntities.add(child);
+
+        return child;
+    }
+
+
+    LayoutEntity CreateLayoutEntityFromType(LayoutEnumerator it, SpanTextInterner interner) throws Exception {
+        LayoutEntity childEntity;
+        switch (it.getType()) {
+            case LayoutEntityType.CELL:
+                childEntity = new RenderedCell();
+                break;
+            case LayoutEntityType.COLUMN:
+                childEntity = new RenderedColumn();
+                break;
+            case LayoutEntityType.COMMENT:
+                childEntity = new RenderedComment();
+                break;
+            case LayoutEntityType.ENDNOTE:
+                childEntity = new RenderedEndnote();
+                break;
+            case LayoutEntityType.FOOTNOTE:
+                childEntity = new RenderedFootnote();
+                break;
+            case LayoutEntityType.HEADER_FOOTER:
+                childEntity = new RenderedHeaderFooter();
+                break;
+            case LayoutEntityType.LINE:
+                childEntity = new RenderedLine();
+                break;
+            case LayoutEntityType.NOTE_SEPARATOR:
+                childEntity = new RenderedNoteSeparator();
+                break;
+            case LayoutEntityType.PAGE:
+                childEntity = new RenderedPage();
+                break;
+            case LayoutEntityType.ROW:
+                childEntity = new RenderedRow();
+                break;
+            case LayoutEntityType.SPAN:
+                childEntity = new RenderedSpan(interner == null ? it.getText() : interner.intern(it.getText()));
+                break;
+            case LayoutEntityType.TEXT_BOX:
+                childEntity = new RenderedTextBox();
+                break;
+            default:
+                throw new UnsupportedOperationException("Unknown layout type");
+        }
+
+        childEntity.mKind = it.getKind();
+        childEntity.mPageIndex = it.getPageIndex();
+        childEntity.mRectangle = it.getRectangle();
+        childEntity.mType = it.getType();
+        childEntity.setLayoutObject(it.getCurrent());
+        childEntity.mParent = this;
+
+        return childEntity;
+    }
+
+    public static <E> Collection<E> makeCollection(Iterable<E> iter) {
+        Collection<E> list = new java.util.ArrayList<E>();
+        for (E item : iter) {
+            list.add(item);
+        }
+        return list;
+    }
+
+    /**
+     * Returns a collection of child entities which match the specified type.
+     */
+    public LayoutCollection<LayoutEntity> GetChildEntities(int type, boolean isDeep) {
+        java.util.ArrayList<LayoutEntity> childList = new java.util.ArrayList<LayoutEntity>();
+
+        // Once the tree has been flattened a deep query is a single scan over the subtree range of this entity.
+        if (isDeep && mStore != null) {
+            mStore.collectDescendants(mStoreIndex, type, childList);
+        } else {
+            collectChildEntities(type, isDeep, childList);
+        }
+
+        return new LayoutCollection<LayoutEntity>(childList);
+    }
+
+    private void collectChildEntities(int type, boolean isDeep, java.util.ArrayList<LayoutEntity> childList) {
+        for (LayoutEntity entity : mChildEntities) {
+            if ((entity.getType() & type) == entity.getType()) {
+                childList.add(entity);
+            }
+
+            if (isDeep) {
+                entity.collectChildEntities(type, true, childList);
+            }
+        }
+    }
+
+
+    @SuppressWarnings("unchecked")
+    public <T extends LayoutEntity> LayoutCollection<T> GetChildNodes(T t) //<T> T GetChildNodes(String name) //<T extends LayoutEntity> LayoutCollection<T> GetChildNodes(T t)
+    {
+        T obj = t;
+
+        java.util.ArrayList<T> childList = new java.util.ArrayList<T>();
+
+        for (LayoutEntity entity : mChildEntities) {
+            if (entity.getClass() == obj.getClass()) {
+                childList.add((T) entity);
+            }
+        }
+
+        return (LayoutCollection<T>) new LayoutCollection(childList);
+    }
+
+
+    protected String mKind;
+    protected int mPageIndex;
+    protected Node mParentNode;
+    protected Rectangle2D mRectangle;
+    protected int mType; //LayoutEntityType
+    protected LayoutEntity mParent;
+    protected java.util.ArrayList<LayoutEntity> mChildEntities = new java.util.ArrayList<LayoutEntity>();
+    LayoutStore mStore;
+    int mStoreIndex = -1;
+}
+
+
+//////////////////////////////////////
+
+/**
+ * Represents a generic collection of layout entity types.
+ */
+class LayoutCollection<T> implements Iterable<T> // extends LayoutEntity>
+{
+    /**
+     * Reserved for internal use.
+     */
+    public LayoutCollection(java.util.ArrayList<T> baseList) {
+        mBaseList = baseList;
+    }
+
+    /**
+     * Provides a simple "foreach" style iteration over the collection of nodes.
+     */
+    public final java.util.Iterator GetEnumerator() {
+        return mBaseList.iterator();
+    }
+
+    /**
+     * Provides a simple "foreach" style iteration over the collection of nodes.
+     */
+    public final java.util.Iterator<T> iterator() {
+        return mBaseList.iterator();
+    }
+
+    /**
+     * Returns the first entity in the collection.
+     */
+    public final T getFirst() {
+        if (mBaseList.size() > 0) {
+            return mBaseList.get(0);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the last entity in the collection.
+     */
+    public final T getLast() {
+        if (mBaseList.size() > 0) {
+            return mBaseList.get(mBaseList.size() - 1);
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves the entity at the given index.
+     * <p>
+     * <p>The index is zero-based.</p>
+     * <p>If index is greater than or equal to the number of items in the list, this returns a null reference.</p>
+     */
+    public final T getItem(int index) {
+        return mBaseList.get(index);
+    }
+
+    /**
+     * Gets the number of entities in the collection.
+     */
+    public final int getCount() {
+        return mBaseList.size();
+    }
+
+    private java.util.ArrayList<T> mBaseList;
+}
+
+/**
+ * Flat, array-backed copy of a layout tree.
+ * <p>
+ * Entities are stored in document (pre-)order, so the descendants of the entity at index i occupy the
+ * range [i + 1, getSubtreeEnd(i)) and its children are found by jumping from one subtree end to the next.
+ * The store also keeps a node to entity index in compressed form: the entities of a node are listed in
+ * mNodeEntities between mNodeOffsets[slot] and mNodeOffsets[slot + 1].
+ */
+final class LayoutStore {
+    private LayoutStore(java.util.ArrayList<LayoutEntity> entities, int[] parents) {
+        int count = entities.size();
+        mEntities = entities.toArray(new LayoutEntity[count]);
+        mParents = parents;
+        mTypes = new int[count];
+        mSubtreeEnds = new int[count];
+
+        int[] lastChildren = new int[count];
+        java.util.Arrays.fill(lastChildren, -1);
+        for (int i = 0; i < count; i++) {
+            mTypes[i] = mEntities[i].getType();
+            if (parents[i] >= 0) {
+                lastChildren[parents[i]] = i;
+            }
+        }
+
+        // The subtree of an entity ends where the subtree of its last child ends.
+        for (int i = count - 1; i >= 0; i--) {
+            mSubtreeEnds[i] = lastChildren[i] < 0 ? i + 1 : mSubtreeEnds[lastChildren[i]];
+        }
+    }
+
+    /**
+     * Flattens the tree under the specified root and attaches the store to every entity of it.
+     */
+    static LayoutStore build(LayoutEntity root) {
+        java.util.ArrayList<LayoutEntity> entities = new java.util.ArrayList<LayoutEntity>();
+        int[] parents = new int[64];
+
+        // Children are pushed in reverse order so they are popped, and numbered, in document order.
+        java.util.ArrayDeque<LayoutEntity> pending = new java.util.ArrayDeque<LayoutEntity>();
+        java.util.ArrayDeque<Integer> pendingParents = new java.util.ArrayDeque<Integer>();
+        pending.push(root);
+        pendingParents.push(-1);
+
+        while (!pending.isEmpty()) {
+            LayoutEntity entity = pending.pop();
+            int index = entities.size();
+            if (index == parents.length) {
+                parents = java.util.Arrays.copyOf(parents, index * 2);
+            }
+
+            entities.add(entity);
+            parents[index] = pendingParents.pop();
+
+            java.util.ArrayList<LayoutEntity> children = entity.mChildEntities;
+            for (int i = children.size() - 1; i >= 0; i--) {
+                pending.push(children.get(i));
+                pendingParents.push(index);
+            }
+        }
+
+        LayoutStore store = new LayoutStore(entities, java.util.Arrays.copyOf(parents, entities.size()));
+        for (int i = 0; i < store.mEntities.length; i++) {
+            store.mEntities[i].mStore = store;
+            store.mEntities[i].mStoreIndex = i;
+        }
+
+        return store;
+    }
+
+    /**
+     * Gets the number of entities in the store, including the root.
+     */
+    public int getCount() {
+        return mEntities.length;
+    }
+
+    public LayoutEntity getEntity(int index) {
+        return mEntities[index];
+    }
+
+    /**
+     * Returns the index of the parent entity, or -1 for the root.
+     */
+    public int getParentIndex(int index) {
+        return mParents[index];
+    }
+
+    /**
+     * Returns the index just past the last descendant of the entity.
+     */
+    public int getSubtreeEnd(int index) {
+        return mSubtreeEnds[index];
+    }
+
+    /**
+     * Adds all the descendants of the entity which match the specified type to the list, in document order.
+     */
+    void collectDescendants(int index, int type, java.util.ArrayList<LayoutEntity> into) {
+        int end = mSubtreeEnds[index];
+        for (int i = index + 1; i < end; i++) {
+            if ((mTypes[i] & type) == mTypes[i]) {
+                into.add(mEntities[i]);
+            }
+        }
+    }
+
+    /**
+     * Builds the node to entity index. Must be called after parent nodes have been assigned to lines and spans,
+     * since the parent nodes of the other entities are derived from them.
+     */
+    void indexParentNodes() {
+        int count = mEntities.length;
+        Node[] owners = new Node[count];
+        Node[] tables = new Node[count];
+        java.util.IdentityHashMap<Node, Integer> slots = new java.util.IdentityHashMap<Node, Integer>();
+        int[] sizes = new int[64];
+
+        for (int i = 0; i < count; i++) {
+            owners[i] = resolveParentNode(mEntities[i]);
+            if (owners[i] == null) {
+                continue;
+            }
+
+            sizes = countEntity(slots, sizes, owners[i]);
+            if (mTypes[i] == LayoutEntityType.ROW) {
+                // Rows are reported for their table as well as for the row itself.
+                tables[i] = ((Row) owners[i]).getParentTable();
+                if (tables[i] != null) {
+                    sizes = countEntity(slots, sizes, tables[i]);
+                }
+            }
+        }
+
+        int slotCount = slots.size();
+        int[] offsets = new int[slotCount + 1];
+        for (int slot = 0; slot < slotCount; slot++) {
+            offsets[slot + 1] = offsets[slot] + sizes[slot];
+        }
+
+        int[] cursors = java.util.Arrays.copyOf(offsets, slotCount);
+        int[] nodeEntities = new int[offsets[slotCount]];
+        for (int i = 0; i < count; i++) {
+            if (owners[i] != null) {
+                nodeEntities[cursors[slots.get(owners[i])]++] = i;
+            }
+
+            if (tables[i] != null) {
+                nodeEntities[cursors[slots.get(tables[i])]++] = i;
+            }
+        }
+
+        mNodeSlots = slots;
+        mNodeOffsets = offsets;
+        mNodeEntities = nodeEntities;
+    }
+
+    /**
+     * Returns the entities that correspond to the node in document order.
+     */
+    java.util.ArrayList<LayoutEntity> getEntitiesOfNode(Node node) {
+        java.util.ArrayList<LayoutEntity> entities = new java.util.ArrayList<LayoutEntity>();
+        Integer slot = mNodeSlots.get(node);
+
+        if (slot != null) {
+            for (int i = mNodeOffsets[slot]; i < mNodeOffsets[slot + 1]; i++) {
+                entities.add(mEntities[mNodeEntities[i]]);
+            }
+        }
+
+        return entities;
+    }
+
+    private static int[] countEntity(java.util.IdentityHashMap<Node, Integer> slots, int[] sizes, Node node) {
+        Integer slot = slots.get(node);
+        if (slot == null) {
+            slot = slots.size();
+            slots.put(node, slot);
+            if (slot == sizes.length) {
+                sizes = java.util.Arrays.copyOf(sizes, slot * 2);
+            }
+        }
+
+        sizes[slot]++;
+        return sizes;
+    }
+
+    private static Node resolveParentNode(LayoutEntity entity) {
+        // Containers resolve their node through their first line, which has no paragraph
+        // inside headers and footers. Such entities cannot be looked up by node.
+        if (entity instanceof RenderedPage || entity instanceof RenderedRow
+                || (entity instanceof StoryLayoutEntity && !(entity instanceof RenderedHeaderFooter))) {
+            RenderedLine firstLine = getFirstLine(entity);
+            if (firstLine == null || firstLine.getParagraph() == null) {
+                return null;
+            }
+        }
+
+        return entity.getParentNode();
+    }
+
+    /**
+     * Returns the line the container resolves its node through, or null if the container has no lines.
+     */
+    private static RenderedLine getFirstLine(LayoutEntity container) {
+        StoryLayoutEntity story;
+        if (container instanceof RenderedPage) {
+            story = ((RenderedPage) container).getColumns().getFirst();
+        } else if (container instanceof RenderedRow) {
+            story = ((RenderedRow) container).getCells().getFirst();
+        } else {
+            story = (StoryLayoutEntity) container;
+        }
+
+        return story == null ? null : story.getLines().getFirst();
+    }
+
+    private final LayoutEntity[] mEntities;
+    private final int[] mTypes;
+    private final int[] mParents;
+    private final int[] mSubtreeEnds;
+    private java.util.IdentityHashMap<Node, Integer> mNodeSlots = new java.util.IdentityHashMap<Node, Integer>();
+    private int[] mNodeOffsets = new int[1];
+    private int[] mNodeEntities = new int[0];
+}
+
+/**
+ * Represents an entity that contains lines and rows.
+ */
+class StoryLayoutEntity extends LayoutEntity {
+    /**
+     * Provides access to the lines of a story.
+     */
+    public final LayoutCollection<RenderedLine> getLines() {
+        return GetChildNodes(new RenderedLine());
+    }
+
+    /**
+     * Provides access to the row entities of a table.
+     */
+    public final LayoutCollection<RenderedRow> getRows() {
+        return GetChildNodes(new RenderedRow());
+    }
+}
+
+/**
+ * Represents line of characters of text and inline objects.
+ */
+class RenderedLine extends LayoutEntity {
+    /**
+     * Exports the contents of the entity into a string in plain text format.
+     * <p>
+     * The spans of a line do not change once it is built, so the text is only put together once.
+     */
+    @Override
+    public String getText() {
+        if (mText == null) {
+            mText = super.getText() + "\n";
+        }
+
+        return mText;
+    }
+
+    /**
+     * Returns the paragraph that corresponds to the layout entity.
+     * <p>
+     * This property may return null for some lines such as those inside the header or footer.
+     */
+    public final Paragraph getParagraph() {
+        return (Paragraph) getParentNode();
+    }
+
+    /**
+     * Provides access to the spans of the line.
+     */
+    public final LayoutCollection<RenderedSpan> getSpans() {
+        return GetChildNodes(new RenderedSpan());
+    }
+
+    private String mText;
+}
+
+/**
+ * Represents one or more characters in a line.
+ * This include special characters like field start/end markers, bookmarks and comments.
+ */
+class RenderedSpan extends LayoutEntity {
+    public RenderedSpan() {
+    }
+
+    public RenderedSpan(String text) {
+        mText = text;
+    }
+
+    /**
+     * Gets kind of the span. This cannot be null.
+     * <p>
+     * This is a more specific type of the current entity, e.g. bookmark span has Span type and
+     * may have either a BOOKMARKSTART or BOOKMARKEND kind.
+     */
+    public final String getKind() {
+        return mKind;
+    }
+
+    /**
+     * Exports the contents of the entity into a string in plain text format.
+     */
+    @Override
+    public String getText() {
+        return mText;
+    }
+
+    /**
+     * Returns the node that corresponds to this layout entity.
+     * <p>
+     * This property returns null for spans that originate from Run nodes or nodes that are inside the header or footer.
+     */
+    @Override
+    public Node getParentNode() {
+        return mParentNode;
+    }
+
+    private String mText;
+}
+
+/**
+ * Represents the header/footer content on a page.
+ */
+class RenderedHeaderFooter extends StoryLayoutEntity {
+    /**
+     * Returns the type of the header or footer.
+     */
+    public final String getKind() {
+        return mKind;
+    }
+}
+
+/**
+ * Represents page of a document.
+ */
+class RenderedPage extends LayoutEntity {
+    /**
+     * Exports the contents of the entity into a string in plain text format.
+     * <p>
+     * A page is fully built before it is handed out, so the text is only put together once.
+     */
+    @Override
+    public String getText() {
+        if (mText == null) {
+            mText = super.getText();
+        }
+
+        return mText;
+    }
+
+    /**
+     * Provides access to the columns of the page.
+     */
+    public final LayoutCollection<RenderedColumn> getColumns() {
+        return GetChildNodes(new RenderedColumn());
+    }
+
+    /**
+     * Provides access to the header and footers of the page.
+     */
+    public final LayoutCollection<RenderedHeaderFooter> getHeaderFooters() {
+        return GetChildNodes(new RenderedHeaderFooter());
+    }
+
+    /**
+     * Provides access to the comments of the page.
+     */
+    public final LayoutCollection<RenderedComment> getComments() {
+        return GetChildNodes(new RenderedComment());
+    }
+
+    /**
+     * Returns the section that corresponds to the layout entity.
+     */
+    public final Section getSection() {
+        return (Section) getParentNode();
+    }
+
+    /**
+     * Returns the node that corresponds to this layout entity.
+     */
+    @Override
+    public Node getParentNode() {
+        return getColumns().getFirst().getLines().getFirst().getParagraph().getParentSection();
+    }
+
+    private String mText;
+}
+
+/**
+ * Represents a table row.
+ */
+class RenderedRow extends LayoutEntity {
+    /**
+     * Provides access to the cells of the row.
+     */
+    public final LayoutCollection<RenderedCell> getCells() {
+        return GetChildNodes(new RenderedCell());
+    }
+
+    /**
+     * Returns the row that corresponds to the layout entity.
+     * <p>
+     * This property may return null for some rows such as those inside the header or footer.
+     */
+    public final Row getRow() {
+        return (Row) getParentNode();
+    }
+
+    /**
+     * Returns the table that corresponds to the layout entity.
+     * <p>
+     * This property may return null for some tables such as those inside the header or footer.
+     */
+    public final Table getTable() {
+        return getRow().getParentTable();
+    }
+
+    /**
+     * Returns the node that corresponds to this layout entity.
+     * <p>
+     * This property may return null for nodes that are inside the header or footer.
+     */
+    @Override
+    public Node getParentNode() {
+        return getCells().getFirst().getLines().getFirst().getParagraph().getAncestor(NodeType.ROW);
+    }
+}
+
+/**
+ * Represents a column of text on a page.
+ */
+class RenderedColumn extends StoryLayoutEntity {
+    /**
+     * Provides access to the footnotes of the page.
+     */
+    public final LayoutCollection<RenderedFootnote> getFootnotes() {
+        return GetChildNodes(new RenderedFootnote());
+    }
+
+    /**
+     * Provides access to the endnotes of the page.
+     */
+    public final LayoutCollection<RenderedEndnote> getEndnotes() {
+        return GetChildNodes(new RenderedEndnote());
+    }
+
+    /**
+     * Provides access to the note separators of the page.
+     */
+    public final LayoutCollection<RenderedNoteSeparator> getNoteSeparators() {
+        return GetChildNodes(new RenderedNoteSeparator());
+    }
+
+    /**
+     * Returns the body that corresponds to the layout entity.
+     */
+    public final Body getBody() {
+        return (Body) getParentNode();
+    }
+
+    /**
+     * Returns the node that corresponds to this layout entity.
+     */
+    @Override
+    public Node getParentNode() {
+        return getLines().getFirst().getParagraph().getParentSection().getBody();
+    }
+}
+
+/**
+ * Represents a table cell.
+ */
+class RenderedCell extends StoryLayoutEntity {
+    /**
+     * Returns the cell that corresponds to the layout entity.
+     * <p>
+     * This property may return null for some cells such as those inside the header or footer.
+     */
+    public final Cell getCell() {
+        return (Cell) getParentNode();
+    }
+
+    /**
+     * Returns the node that corresponds to this layout entity.
+     * <p>
+     * This property may return null for nodes that are inside the header or footer.
+     */
+    @Override
+    public Node getParentNode() {
+        return getLines().getFirst().getParagraph().getAncestor(NodeType.CELL);
+    }
+}
+
+/**
+ * Represents placeholder for footnote content.
+ */
+class RenderedFootnote extends StoryLayoutEntity {
+    /**
+     * Returns the footnote that corresponds to the layout entity.
+     */
+    public final Footnote getFootnote() {
+        return (Footnote) getParentNode();
+    }
+
+    /**
+     * Returns the node that corresponds to this layout entity.
+     */
+    @Override
+    public Node getParentNode() {
+        return getLines().getFirst().getParagraph().getAncestor(NodeType.FOOTNOTE);
+    }
+}
+
+/**
+ * Represents placeholder for endnote content.
+ */
+class RenderedEndnote extends StoryLayoutEntity {
+    /**
+     * Returns the endnote that corresponds to the layout entity.
+     */
+    public final Footnote getEndnote() {
+        return (Footnote) getParentNode();
+    }
+
+    /**
+     * Returns the node that corresponds to this layout entity.
+     */
+    @Override
+    public Node getParentNode() {
+        return getLines().getFirst().getParagraph().getAncestor(NodeType.FOOTNOTE);
+    }
+}
+
+/**
+ * Represents text area inside of a shape.
+ */
+class RenderedTextBox extends StoryLayoutEntity {
+    /**
+     * Returns the Shape or DrawingML that corresponds to the layout entity.
+     * <p>
+     * This property may return null for some Shapes or DrawingML such as those inside the header or footer.
+     */
+    @Override
+    public Node getParentNode() {
+        Node shape = getLines().getFirst().getParagraph().getAncestor(NodeType.SHAPE);
+
+        if (shape != null) {
+            return shape;
+        } else
+            return null;
+    }
+}
+
+/**
+ * Represents placeholder for comment content.
+ */
+class RenderedComment extends StoryLayoutEntity {
+    /**
+     * Returns the comment that corresponds to the layout entity.
+     */
+    public final Comment getComment() {
+        return (Comment) getParentNode();
+    }
+
+    /**
+     * Returns the node that corresponds to this layout entity.
+     */
+    @Override
+    public Node getParentNode() {
+        return getLines().getFirst().getParagraph().getAncestor(NodeType.COMMENT);
+    }
+}
+
+/**
+ * Represents footnote/endnote separator.
+ */
+class RenderedNoteSeparator extends StoryLayoutEntity {
+    /**
+     * Returns the footnote/endnote that corresponds to the layout entity.
+     */
+    public final Footnote getFootnote() {
+        return (Footnote) getParentNode();
+    }
+
+    /**
+     * Returns the node that corresponds to this layout entity.
+     */
+    @Override
+    public Node getParentNode() {
+        return getLines().getFirst().getParagraph().getAncestor(NodeType.FOOTNOTE);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.aspose.words.examples.rendering_printing;
+
+import com.aspose.words.*;
+
+/**
+ * Compares the eager RenderedDocument with the page-windowed one when only the first pages are inspected.
+ * For both it reports the time to open the document and read the text of pages 1-3, and the heap that is
+ * still retained afterwards. The retained heap is measured after a full collection, so run it with a single
+ * collector such as "-XX:+UseSerialGC -Xmx4g" for stable numbers.
+ */
+public class LazyRenderedDocumentBenchmark {
+    private static final int[] PAGE_COUNTS = {100, 1000};
+    private static final int PARAGRAPHS_PER_PAGE = 10;
+    private static final int INSPECTED_PAGES = 3;
+    private static final int PAGE_WINDOW_SIZE = 3;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("pages\tmode\topen+inspect ms\tretained KB\tmaterialized pages");
+
+        for (int pageCount : PAGE_COUNTS) {
+            Document doc = buildDocument(pageCount);
+            doc.updatePageLayout();
+
+            verify(doc);
+
+            long baseline = usedHeap();
+            long start = System.nanoTime();
+            RenderedDocument eager = new RenderedDocument(doc);
+            inspect(eager);
+            long eagerNanos = System.nanoTime() - start;
+            long eagerRetained = usedHeap() - baseline;
+            System.out.println(pageCount + "\teager\t" + eagerNanos / 1000000 + "\t" + eagerRetained / 1024 + "\t" + eager.getPageCount());
+            eager = null;
+
+            baseline = usedHeap();
+            start = System.nanoTime();
+            RenderedDocument lazy = new RenderedDocument(doc, PAGE_WINDOW_SIZE);
+            inspect(lazy);
+            long lazyNanos = System.nanoTime() - start;
+            long lazyRetained = usedHeap() - baseline;
+            System.out.println(pageCount + "\tlazy\t" + lazyNanos / 1000000 + "\t" + lazyRetained / 1024 + "\t" + lazy.getPageMaterializationCount());
+        }
+    }
+
+    private static Document buildDocument(int pageCount) throws Exception {
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+
+        for (int page = 1; page <= pageCount; page++) {
+            for (int paragraph = 0; paragraph < PARAGRAPHS_PER_PAGE; paragraph++) {
+                builder.writeln("Page " + page + ", clause " + paragraph + ". The parties agree to the terms set out below.");
+            }
+
+            if (page < pageCount) {
+                builder.insertBreak(BreakType.PAGE_BREAK);
+            }
+        }
+
+        return doc;
+    }
+
+    private static int inspect(RenderedDocument layoutDoc) throws Exception {
+        int length = 0;
+        for (int pageIndex = 1; pageIndex <= INSPECTED_PAGES; pageIndex++) {
+            length += layoutDoc.getPage(pageIndex).getText().length();
+        }
+
+        return length;
+    }
+
+    /**
+     * Checks that a page built on demand has the same text and paragraphs as the page built by the eager constructor.
+     */
+    private static void verify(Document doc) throws Exception {
+        RenderedDocument eager = new RenderedDocument(doc);
+        RenderedDocument lazy = new RenderedDocument(doc, 1);
+
+        for (int pageIndex = 1; pageIndex <= INSPECTED_PAGES; pageIndex++) {
+            LayoutCollection<LayoutEntity> eagerLines = eager.getPage(pageIndex).GetChildEntities(LayoutEntityType.LINE, true);
+            LayoutCollection<LayoutEntity> lazyLines = lazy.getPage(pageIndex).GetChildEntities(LayoutEntityType.LINE, true);
+
+            if (eagerLines.getCount() != lazyLines.getCount()) {
+                throw new IllegalStateException("Line count differs on page " + pageIndex);
+            }
+
+            for (int i = 0; i < eagerLines.getCount(); i++) {
+                LayoutEntity eagerLine = eagerLines.getItem(i);
+                LayoutEntity lazyLine = lazyLines.getItem(i);
+                if (!eagerLine.getText().equals(lazyLine.getText()) || eagerLine.getParentNode() != lazyLine.getParentNode()) {
+                    throw new IllegalStateException("Line " + i + " differs on page " + pageIndex);
+                }
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -16,9 +16,20 @@ public class MultipagePrintDocument implements Printable {
 	private int mPagesPerSheet;
 	private boolean mPrintPageBorders;
 	private AttributeSet mAttributeSet;
+	private PageTileRenderer mTileRenderer;
 
 	public MultipagePrintDocument(Document document, int pagesPerSheet, boolean printPageBorders,
 			AttributeSet attributes) {
+		this(document, pagesPerSheet, printPageBorders, attributes, null);
+	}
+
+	/**
+	 * Creates a print document which renders the thumbnails into tiles on the worker threads of the tile
+	 * renderer and draws the tiles onto the sheet. The pages of the next sheet are rendered while the current
+	 * sheet is printed. Pass the same instance to the print preview and the print job to reuse the tiles.
+	 */
+	public MultipagePrintDocument(Document document, int pagesPerSheet, boolean printPageBorders,
+			AttributeSet attributes, PageTileRenderer tileRenderer) {
 		if (document == null)
 			throw new IllegalArgumentException("document");
 
@@ -26,6 +37,7 @@ public class MultipagePrintDocument implements Printable {
 		mPagesPerSheet = pagesPerSheet;
 		mPrintPageBorders = printPageBorders;
 		mAttributeSet = attributes;
+		mTileRenderer = tileRenderer;
 	}
 
 	public int print(Graphics g, PageFormat pf, int page) {
@@ -52,7 +64,14 @@ public class MultipagePrintDocument implements Printable {
 		int startPage = pagesOnCurrentSheet + fromPage;
 
 		// Select the number of the last page to be printed on this sheet of paper.
-		int pageTo = Math.max(startPage + mPagesPerSheet - 1, toPage);
+		int pageTo = Math.min(startPage + mPagesPerSheet - 1, toPage);
+
+		if (mTileRenderer != null) {
+			// Queue the pages of this sheet first and then the pages of the next one, so the workers
+			// render ahead while the tiles of this sheet are drawn.
+			for (int pageIndex = startPage; pageIndex <= Math.min(pageTo + mPagesPerSheet, toPage); pageIndex++)
+				mTileRenderer.requestTile(pageIndex, thumbSize.x, thumbSize.y);
+		}
 
 		// Loop through the selected pages from the stored current page to calculated
 		// last page.
@@ -71,17 +90,29 @@ public class MultipagePrintDocument implements Printable {
 				int leftPos = (int) (thumbLeft + pf.getImageableX());
 				int topPos = (int) (thumbTop + pf.getImageableY());
 
-				// Render the document page to the Graphics object using calculated coordinates
-				// and thumbnail placeholder size.
-				// The useful return value is the scale at which the page was rendered.
-				float scale = mDocument.renderToSize(pageIndex, (Graphics2D) g, leftPos, topPos, (int) thumbSize.x,
-						(int) thumbSize.y);
+				float scale;
+				Point2D.Float pageSize;
+				if (mTileRenderer != null) {
+					// Draw the pre-rendered tile scaled down to the thumbnail placeholder size.
+					PageTileRenderer.PageTile tile = mTileRenderer.getTile(pageIndex, thumbSize.x, thumbSize.y);
+					g.drawImage(tile.getImage(), leftPos, topPos, (int) thumbSize.x, (int) thumbSize.y, null);
+					scale = tile.getScale() * thumbSize.x / tile.getImage().getWidth();
+					pageSize = tile.getPageSize();
+				} else {
+					// Render the document page to the Graphics object using calculated coordinates
+					// and thumbnail placeholder size.
+					// The useful return value is the scale at which the page was rendered.
+					scale = mDocument.renderToSize(pageIndex, (Graphics2D) g, leftPos, topPos, (int) thumbSize.x,
+							(int) thumbSize.y);
+					pageSize = null;
+				}
 
 				// Draw the page borders (the page thumbnail could be smaller than the thumbnail
 				// placeholder size).
 				if (mPrintPageBorders) {
 					// Get the real 100% size of the page in points.
-					Point2D.Float pageSize = mDocument.getPageInfo(pageIndex).getSizeInPoints();
+					if (pageSize == null)
+						pageSize = mDocument.getPageInfo(pageIndex).getSizeInPoints();
 					// Draw the border around the scaled page using the known scale factor.
 					g.setColor(Color.black);
 					g.drawRect(leftPos, topPos, (int) (pageSize.x * scale), (int) (pageSize.y * scale));
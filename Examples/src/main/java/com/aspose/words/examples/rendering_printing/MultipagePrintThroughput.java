@@ -0,0 +1,108 @@
+package com.aspose.words.examples.rendering_printing;
+
+import com.aspose.words.BreakType;
+import com.aspose.words.Document;
+import com.aspose.words.DocumentBuilder;
+
+import javax.print.attribute.HashPrintRequestAttributeSet;
+import javax.print.attribute.PrintRequestAttributeSet;
+import javax.print.attribute.standard.PageRanges;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.print.PageFormat;
+import java.awt.print.Printable;
+
+/**
+ * Prints a 300 page document four pages per sheet onto off-screen sheets, once serially and once with the tile
+ * renderer on 4, 8 and 16 worker threads. Each tiled run prints the document twice, the way a print preview
+ * followed by the print job does, and the second pass reads the cached tiles.
+ * Run it with "-Xmx2g", every tile of the document is kept for the second pass.
+ */
+public class MultipagePrintThroughput {
+    private static final int PAGE_COUNT = 300;
+    private static final int PAGES_PER_SHEET = 4;
+    private static final int[] THREAD_COUNTS = {4, 8, 16};
+    private static final float SHEET_RESOLUTION = 150;
+    private static final float TILE_RESOLUTION = 96;
+
+    public static void main(String[] args) throws Exception {
+        Document doc = buildDocument(PAGE_COUNT);
+        doc.updatePageLayout();
+
+        PrintRequestAttributeSet attributes = new HashPrintRequestAttributeSet();
+        attributes.add(new PageRanges(1, doc.getPageCount()));
+        PageFormat format = new PageFormat();
+
+        System.out.println("mode\tthreads\tpreview pages/s\tprint pages/s\ttiles rendered\tcache hits");
+
+        long serialNanos = printAllSheets(new MultipagePrintDocument(doc, PAGES_PER_SHEET, true, attributes), format);
+        System.out.println("serial\t1\t" + pagesPerSecond(doc.getPageCount(), serialNanos) + "\t-\t-\t-");
+
+        for (int threadCount : THREAD_COUNTS) {
+            PageTileRenderer tileRenderer = new PageTileRenderer(doc, threadCount, TILE_RESOLUTION, doc.getPageCount());
+            try {
+                MultipagePrintDocument printDoc = new MultipagePrintDocument(doc, PAGES_PER_SHEET, true, attributes, tileRenderer);
+                long previewNanos = printAllSheets(printDoc, format);
+                long printNanos = printAllSheets(printDoc, format);
+
+                System.out.println("tiles\t" + threadCount
+                        + "\t" + pagesPerSecond(doc.getPageCount(), previewNanos)
+                        + "\t" + pagesPerSecond(doc.getPageCount(), printNanos)
+                        + "\t" + tileRenderer.getRenderedTileCount()
+                        + "\t" + tileRenderer.getCacheHitCount());
+            } finally {
+                tileRenderer.shutdown();
+            }
+        }
+    }
+
+    private static long printAllSheets(Printable printable, PageFormat format) throws Exception {
+        int width = (int) (format.getWidth() * SHEET_RESOLUTION / 72);
+        int height = (int) (format.getHeight() * SHEET_RESOLUTION / 72);
+
+        long start = System.nanoTime();
+        for (int sheet = 0; ; sheet++) {
+            BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = image.createGraphics();
+            try {
+                g.setColor(Color.white);
+                g.fillRect(0, 0, width, height);
+                // Printer graphics work in points.
+                g.scale(SHEET_RESOLUTION / 72, SHEET_RESOLUTION / 72);
+
+                if (printable.print(g, format, sheet) == Printable.NO_SUCH_PAGE) {
+                    break;
+                }
+            } finally {
+                g.dispose();
+            }
+        }
+
+        return System.nanoTime() - start;
+    }
+
+    private static Document buildDocument(int pageCount) throws Exception {
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+
+        for (int page = 1; page <= pageCount; page++) {
+            builder.getFont().setSize(24);
+            builder.writeln("Page " + page);
+            builder.getFont().setSize(11);
+            for (int paragraph = 0; paragraph < 12; paragraph++) {
+                builder.writeln("Clause " + paragraph + ". The parties agree to the terms set out below, "
+                        + "including the schedule of payments and the conditions for early termination.");
+            }
+
+            if (page < pageCount) {
+                builder.insertBreak(BreakType.PAGE_BREAK);
+            }
+        }
+
+        return doc;
+    }
+
+    private static long pagesPerSecond(int pageCount, long nanos) {
+        return Math.round(pageCount * 1e9 / nanos);
+    }
+}
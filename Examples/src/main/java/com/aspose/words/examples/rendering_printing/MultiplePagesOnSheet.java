@@ -24,13 +24,20 @@ public class MultiplePagesOnSheet {
         PrintRequestAttributeSet attributes = new HashPrintRequestAttributeSet();
         attributes.add(new PageRanges(1, doc.getPageCount()));
 
-        // Pass the printer settings along with the other parameters to the print document.
-        MultipagePrintDocument awPrintDoc = new MultipagePrintDocument(doc, 4, true, attributes);
+        // Render the thumbnails on one worker thread per core, at 150 dpi, keeping the tiles of a few sheets.
+        PageTileRenderer tileRenderer = new PageTileRenderer(doc, Runtime.getRuntime().availableProcessors(), 150, 64);
 
-        // Pass the document to be printed using the print job.
-        pj.setPrintable(awPrintDoc);
+        try {
+            // Pass the printer settings along with the other parameters to the print document.
+            MultipagePrintDocument awPrintDoc = new MultipagePrintDocument(doc, 4, true, attributes, tileRenderer);
 
-        pj.print();
+            // Pass the document to be printed using the print job.
+            pj.setPrintable(awPrintDoc);
+
+            pj.print();
+        } finally {
+            tileRenderer.shutdown();
+        }
         //ExEnd: MultiplePagesOnSheet
     }
 
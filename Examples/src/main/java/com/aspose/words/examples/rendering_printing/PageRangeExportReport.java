@@ -0,0 +1,135 @@
+package com.aspose.words.examples.rendering_printing;
+
+import com.aspose.words.*;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+
+/**
+ * Reports pages/sec and peak resident set size for saving a document as TIFF or JPEG, either with single save
+ * calls or with PageRangeImageExporter.
+ * <p>
+ * The peak RSS of a process only grows, so every configuration is measured in its own JVM:
+ * <pre>
+ * PageRangeExportReport tiff single
+ * PageRangeExportReport tiff ranges 4 25
+ * PageRangeExportReport jpeg single
+ * PageRangeExportReport jpeg ranges 8 10
+ * </pre>
+ * The optional fifth argument is the document to save, a 300 page document is generated otherwise.
+ * Peak RSS is read from /proc/self/status, so it is only reported on Linux.
+ */
+public class PageRangeExportReport {
+    private static final int GENERATED_PAGE_COUNT = 300;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Usage: PageRangeExportReport tiff|jpeg single|ranges [threads] [pagesPerRange] [document]");
+            return;
+        }
+
+        boolean tiff = args[0].equals("tiff");
+        boolean ranges = args[1].equals("ranges");
+        int threadCount = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        int pagesPerRange = args.length > 3 ? Integer.parseInt(args[3]) : 25;
+        Document doc = args.length > 4 ? new Document(args[4]) : buildDocument(GENERATED_PAGE_COUNT);
+
+        File outputDir = new File(System.getProperty("java.io.tmpdir"), "page-range-export");
+        outputDir.mkdirs();
+
+        ImageSaveOptions options = new ImageSaveOptions(tiff ? SaveFormat.TIFF : SaveFormat.JPEG);
+        options.setResolution(150);
+        if (tiff) {
+            options.setTiffCompression(TiffCompression.CCITT_4);
+        }
+
+        // The layout is built before timing starts in both modes.
+        int pageCount = doc.getPageCount();
+
+        long start = System.nanoTime();
+        if (ranges) {
+            PageRangeImageExporter exporter = new PageRangeImageExporter(doc, threadCount, pagesPerRange);
+            try {
+                if (tiff) {
+                    exporter.saveTiff(options, new File(outputDir, "document.tiff"));
+                } else {
+                    exporter.saveJpegPages(options, outputDir, "document");
+                }
+            } finally {
+                exporter.shutdown();
+            }
+        } else if (tiff) {
+            options.setPageIndex(0);
+            options.setPageCount(pageCount);
+            doc.save(new File(outputDir, "document.tiff").getPath(), options);
+        } else {
+            // JPEG holds one page per file, so the single call path is one save per page.
+            options.setPageCount(1);
+            for (int pageIndex = 0; pageIndex < pageCount; pageIndex++) {
+                options.setPageIndex(pageIndex);
+                doc.save(new File(outputDir, "document_" + (pageIndex + 1) + ".jpg").getPath(), options);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long peakRss = peakResidentSetKilobytes();
+
+        System.out.println("format\tmode\tthreads\tpages per range\tpages\tpages/s\tpeak RSS MB");
+        System.out.println(args[0]
+                + "\t" + args[1]
+                + "\t" + (ranges ? threadCount : 1)
+                + "\t" + (ranges ? pagesPerRange : pageCount)
+                + "\t" + pageCount
+                + "\t" + Math.round(pageCount * 1e9 / elapsed)
+                + "\t" + (peakRss < 0 ? "-" : Long.toString(peakRss / 1024)));
+    }
+
+    private static Document buildDocument(int pageCount) throws Exception {
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+
+        for (int page = 1; page <= pageCount; page++) {
+            builder.getFont().setSize(24);
+            builder.writeln("Page " + page);
+            builder.getFont().setSize(11);
+            for (int paragraph = 0; paragraph < 12; paragraph++) {
+                builder.writeln("Clause " + paragraph + ". The parties agree to the terms set out below, "
+                        + "including the schedule of payments and the conditions for early termination.");
+            }
+
+            if (page < pageCount) {
+                builder.insertBreak(BreakType.PAGE_BREAK);
+            }
+        }
+
+        return doc;
+    }
+
+    /**
+     * Returns the VmHWM value of the process, or -1 when it cannot be read.
+     */
+    private static long peakResidentSetKilobytes() {
+        File status = new File("/proc/self/status");
+        if (!status.exists()) {
+            return -1;
+        }
+
+        try {
+            BufferedReader reader = new BufferedReader(new FileReader(status));
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith("VmHWM:")) {
+                        return Long.parseLong(line.substring("VmHWM:".length()).replace("kB", "").trim());
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (Exception e) {
+            // Reported as unknown below.
+        }
+
+        return -1;
+    }
+}
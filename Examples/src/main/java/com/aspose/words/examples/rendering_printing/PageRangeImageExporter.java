@@ -0,0 +1,299 @@
+package com.aspose.words.examples.rendering_printing;
+
+import com.aspose.words.Document;
+import com.aspose.words.ImageSaveOptions;
+import com.aspose.words.SaveFormat;
+import com.aspose.words.TiffCompression;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Saves the pages of a document as images by splitting them into ranges which are rendered concurrently.
+ * <p>
+ * A Document must not be saved from several threads at once, so every worker saves from its own copy of the
+ * document. The copies are taken at the start of each save call and dropped at its end, so a call always saves the
+ * document as it is when the call starts. For TIFF every range is saved to a temporary multipage file, and the frames of those files are then
+ * copied into the output one at a time, in page order, so only one decoded frame is held in memory. Stitching
+ * needs a TIFF plugin for Image I/O, which is built in from Java 9 and provided by jai-imageio before that.
+ */
+public class PageRangeImageExporter {
+    /**
+     * @param document      The document to save. It is only read while the worker copies are created, and must not
+     *                      be changed while a save call is running.
+     * @param threadCount   The number of ranges that are rendered at the same time.
+     * @param pagesPerRange The number of pages saved by one save call.
+     */
+    public PageRangeImageExporter(Document document, int threadCount, int pagesPerRange) {
+        if (document == null)
+            throw new IllegalArgumentException("document");
+        if (pagesPerRange < 1)
+            throw new IllegalArgumentException("pagesPerRange");
+
+        mDocument = document;
+        mPagesPerRange = pagesPerRange;
+        mExecutor = Executors.newFixedThreadPool(threadCount);
+    }
+
+    /**
+     * Saves all the pages of the document into one multipage TIFF file.
+     *
+     * @param options Options with the TIFF save format. The page index and count are ignored.
+     */
+    public void saveTiff(ImageSaveOptions options, File outputFile) throws Exception {
+        if (options.getSaveFormat() != SaveFormat.TIFF)
+            throw new IllegalArgumentException("The options must have the TIFF save format.");
+
+        ImageWriter writer = getTiffWriter();
+        WorkerDocuments workerDocuments = new WorkerDocuments();
+        List<Future<File>> ranges = new ArrayList<Future<File>>();
+        try {
+            int pageCount = mDocument.getPageCount();
+            for (int pageIndex = 0; pageIndex < pageCount; pageIndex += mPagesPerRange) {
+                ranges.add(mExecutor.submit(saveRangeToTempFile(workerDocuments, options, pageIndex,
+                        Math.min(mPagesPerRange, pageCount - pageIndex))));
+            }
+
+            // The image output stream writes over an existing file without truncating it.
+            outputFile.delete();
+            ImageOutputStream output = ImageIO.createImageOutputStream(outputFile);
+            try {
+                writer.setOutput(output);
+                writer.prepareWriteSequence(null);
+                ImageWriteParam param = createWriteParam(writer, options.getTiffCompression());
+
+                // Ranges are appended in page order as soon as they are ready, while later ranges are still rendering.
+                for (Future<File> range : ranges) {
+                    File rangeFile = getResult(range);
+                    try {
+                        appendFrames(rangeFile, writer, param);
+                    } finally {
+                        rangeFile.delete();
+                    }
+                }
+
+                writer.endWriteSequence();
+            } finally {
+                output.close();
+            }
+        } finally {
+            writer.dispose();
+            deleteRemainingRanges(ranges);
+        }
+    }
+
+    /**
+     * Saves every page of the document into its own JPEG file named baseName_pageNumber.jpg.
+     *
+     * @param options Options with the JPEG save format. The page index and count are ignored.
+     * @return The files in page order.
+     */
+    public List<File> saveJpegPages(ImageSaveOptions options, File directory, String baseName) throws Exception {
+        if (options.getSaveFormat() != SaveFormat.JPEG)
+            throw new IllegalArgumentException("The options must have the JPEG save format.");
+
+        int pageCount = mDocument.getPageCount();
+        List<File> files = new ArrayList<File>();
+        for (int pageIndex = 0; pageIndex < pageCount; pageIndex++)
+            files.add(new File(directory, baseName + "_" + (pageIndex + 1) + ".jpg"));
+
+        WorkerDocuments workerDocuments = new WorkerDocuments();
+        List<Future<Void>> ranges = new ArrayList<Future<Void>>();
+        for (int pageIndex = 0; pageIndex < pageCount; pageIndex += mPagesPerRange) {
+            ranges.add(mExecutor.submit(saveRangeToFiles(workerDocuments, options, pageIndex,
+                    Math.min(mPagesPerRange, pageCount - pageIndex), files)));
+        }
+
+        for (Future<Void> range : ranges)
+            getResult(range);
+
+        return files;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    public void shutdown() {
+        mExecutor.shutdown();
+    }
+
+    private static Callable<File> saveRangeToTempFile(final WorkerDocuments workerDocuments, final ImageSaveOptions options,
+                                                      final int pageIndex, final int pageCount) {
+        return new Callable<File>() {
+            public File call() throws Exception {
+                ImageSaveOptions rangeOptions = options.deepClone();
+                rangeOptions.setPageIndex(pageIndex);
+                rangeOptions.setPageCount(pageCount);
+
+                File rangeFile = File.createTempFile("pages-" + pageIndex + "-", ".tiff");
+                Document document = workerDocuments.take();
+                try {
+                    document.save(rangeFile.getPath(), rangeOptions);
+                } catch (Exception e) {
+                    rangeFile.delete();
+                    throw e;
+                } finally {
+                    workerDocuments.release(document);
+                }
+
+                return rangeFile;
+            }
+        };
+    }
+
+    private static Callable<Void> saveRangeToFiles(final WorkerDocuments workerDocuments, final ImageSaveOptions options,
+                                                   final int pageIndex, final int pageCount, final List<File> files) {
+        return new Callable<Void>() {
+            public Void call() throws Exception {
+                // A JPEG file holds a single page, so the range is saved page by page from the same copy.
+                ImageSaveOptions pageOptions = options.deepClone();
+                pageOptions.setPageCount(1);
+
+                Document document = workerDocuments.take();
+                try {
+                    for (int i = pageIndex; i < pageIndex + pageCount; i++) {
+                        pageOptions.setPageIndex(i);
+                        OutputStream stream = new BufferedOutputStream(new FileOutputStream(files.get(i)));
+                        try {
+                            document.save(stream, pageOptions);
+                        } finally {
+                            stream.close();
+                        }
+                    }
+                } finally {
+                    workerDocuments.release(document);
+                }
+
+                return null;
+            }
+        };
+    }
+
+    private static void appendFrames(File rangeFile, ImageWriter writer, ImageWriteParam param) throws Exception {
+        ImageInputStream input = ImageIO.createImageInputStream(rangeFile);
+        try {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext())
+                throw new IllegalStateException("No TIFF reader is available for Image I/O.");
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                int frameCount = reader.getNumImages(true);
+                for (int frame = 0; frame < frameCount; frame++) {
+                    // The frame metadata carries the resolution of the page, without it the writer's default is used.
+                    BufferedImage image = reader.read(frame);
+                    IIOMetadata metadata = writer.convertImageMetadata(reader.getImageMetadata(frame),
+                            ImageTypeSpecifier.createFromRenderedImage(image), param);
+                    writer.writeToSequence(new IIOImage(image, null, metadata), param);
+                }
+            } finally {
+                reader.dispose();
+            }
+        } finally {
+            input.close();
+        }
+    }
+
+    private static ImageWriter getTiffWriter() {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("tiff");
+        if (!writers.hasNext())
+            throw new IllegalStateException("No TIFF writer is available for Image I/O.");
+
+        return writers.next();
+    }
+
+    /**
+     * Keeps the compression of the rendered frames when they are written to the output. Other compressions are
+     * copied from the metadata of the frames.
+     */
+    private static ImageWriteParam createWriteParam(ImageWriter writer, int tiffCompression) {
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        String compressionType;
+        switch (tiffCompression) {
+            case TiffCompression.CCITT_3:
+                compressionType = "CCITT T.4";
+                break;
+            case TiffCompression.CCITT_4:
+                compressionType = "CCITT T.6";
+                break;
+            case TiffCompression.RLE:
+                compressionType = "CCITT RLE";
+                break;
+            case TiffCompression.LZW:
+                compressionType = "LZW";
+                break;
+            default:
+                return param;
+        }
+
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionType(compressionType);
+        return param;
+    }
+
+    private static <T> T getResult(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Removes the temporary files of ranges that were not stitched because saving failed part way.
+     */
+    private static void deleteRemainingRanges(List<Future<File>> ranges) {
+        for (Future<File> range : ranges) {
+            try {
+                File rangeFile = range.get();
+                rangeFile.delete();
+            } catch (Exception e) {
+                // The range failed or was deleted already.
+            }
+        }
+    }
+
+    /**
+     * The copies of the document used by the workers of one save call. A range takes a free copy or creates one
+     * and gives it back when it is saved, so no more copies are made than ranges are saved at the same time.
+     */
+    private final class WorkerDocuments {
+        Document take() throws Exception {
+            Document document = mFree.poll();
+            if (document != null)
+                return document;
+
+            // Copies are taken one at a time, so the original document is never read concurrently.
+            synchronized (mDocument) {
+                return mDocument.deepClone();
+            }
+        }
+
+        void release(Document document) {
+            mFree.offer(document);
+        }
+
+        private final ConcurrentLinkedQueue<Document> mFree = new ConcurrentLinkedQueue<Document>();
+    }
+
+    private final Document mDocument;
+    private final int mPagesPerRange;
+    private final ExecutorService mExecutor;
+}
@@ -0,0 +1,212 @@
+package com.aspose.words.examples.rendering_printing;
+
+import com.aspose.words.Document;
+
+import java.awt.*;
+import java.awt.geom.Point2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Renders document pages into off-screen tiles on a pool of worker threads and keeps the most recently used tiles.
+ * <p>
+ * A Document must not be rendered from several threads at once, so every worker renders from its own copy of the
+ * document. Tiles are keyed by page and pixel size, which means a print preview and the print job that follows it
+ * share the tiles as long as they use the same page format.
+ */
+public class PageTileRenderer {
+    /**
+     * A rendered page thumbnail.
+     */
+    public static final class PageTile {
+        PageTile(BufferedImage image, float scale, Point2D.Float pageSize) {
+            mImage = image;
+            mScale = scale;
+            mPageSize = pageSize;
+        }
+
+        public BufferedImage getImage() {
+            return mImage;
+        }
+
+        /**
+         * Gets the scale at which the page was rendered, in tile pixels per point.
+         */
+        public float getScale() {
+            return mScale;
+        }
+
+        /**
+         * Gets the 100% size of the page in points.
+         */
+        public Point2D.Float getPageSize() {
+            return mPageSize;
+        }
+
+        private final BufferedImage mImage;
+        private final float mScale;
+        private final Point2D.Float mPageSize;
+    }
+
+    /**
+     * @param document       The document to render. It is only read while the worker copies are created.
+     * @param threadCount    The number of worker threads.
+     * @param tileResolution The resolution of the tiles in dots per inch.
+     * @param maxCachedTiles The number of tiles kept after they were rendered.
+     */
+    public PageTileRenderer(Document document, int threadCount, float tileResolution, final int maxCachedTiles) {
+        if (document == null)
+            throw new IllegalArgumentException("document");
+
+        mDocument = document;
+        mTileResolution = tileResolution;
+        mExecutor = Executors.newFixedThreadPool(threadCount);
+        mTiles = new LinkedHashMap<TileKey, Future<PageTile>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TileKey, Future<PageTile>> eldest) {
+                return size() > maxCachedTiles;
+            }
+        };
+    }
+
+    /**
+     * Starts rendering the page into a tile of the specified size in points, unless the tile is cached already.
+     */
+    public Future<PageTile> requestTile(final int pageIndex, float width, float height) {
+        final int widthPx = Math.max(1, Math.round(width * mTileResolution / 72f));
+        final int heightPx = Math.max(1, Math.round(height * mTileResolution / 72f));
+        final TileKey key = new TileKey(pageIndex, widthPx, heightPx);
+
+        synchronized (mTiles) {
+            Future<PageTile> tile = mTiles.get(key);
+            if (tile != null) {
+                mCacheHitCount.incrementAndGet();
+                return tile;
+            }
+
+            FutureTask<PageTile> task = new FutureTask<PageTile>(new Callable<PageTile>() {
+                public PageTile call() throws Exception {
+                    return renderTile(pageIndex, widthPx, heightPx);
+                }
+            }) {
+                @Override
+                protected void setException(Throwable t) {
+                    // A failed tile is not cached, so the next request renders it again. It is removed before the
+                    // failure is reported, so a caller that retries at once does not get the failed tile back.
+                    evictTile(key, this);
+                    super.setException(t);
+                }
+            };
+            // A rejected task is not cached. A failure cannot be evicted before the task is cached, as that needs the lock.
+            mExecutor.execute(task);
+            mTiles.put(key, task);
+            return task;
+        }
+    }
+
+    /**
+     * Returns the tile of the page, rendering it if it is not cached.
+     */
+    public PageTile getTile(int pageIndex, float width, float height) throws Exception {
+        try {
+            return requestTile(pageIndex, width, height).get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    public int getRenderedTileCount() {
+        return mRenderedTileCount.get();
+    }
+
+    public int getCacheHitCount() {
+        return mCacheHitCount.get();
+    }
+
+    /**
+     * Stops the worker threads. Tiles that are being rendered are still completed.
+     */
+    public void shutdown() {
+        mExecutor.shutdown();
+    }
+
+    private void evictTile(TileKey key, Future<PageTile> tile) {
+        synchronized (mTiles) {
+            // The tile may have been evicted already and the key taken by a newer request.
+            if (mTiles.get(key) == tile)
+                mTiles.remove(key);
+        }
+    }
+
+    private PageTile renderTile(int pageIndex, int widthPx, int heightPx) throws Exception {
+        Document document = mWorkerDocument.get();
+
+        BufferedImage image = new BufferedImage(widthPx, heightPx, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(Color.white);
+            g.fillRect(0, 0, widthPx, heightPx);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+
+            float scale = document.renderToSize(pageIndex, g, 0, 0, widthPx, heightPx);
+            mRenderedTileCount.incrementAndGet();
+            return new PageTile(image, scale, document.getPageInfo(pageIndex).getSizeInPoints());
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private Document cloneDocument() throws Exception {
+        // Copies are taken one at a time, so the original document is never read concurrently.
+        synchronized (mDocument) {
+            return mDocument.deepClone();
+        }
+    }
+
+    private static final class TileKey {
+        TileKey(int pageIndex, int width, int height) {
+            mPageIndex = pageIndex;
+            mWidth = width;
+            mHeight = height;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof TileKey))
+                return false;
+
+            TileKey other = (TileKey) obj;
+            return mPageIndex == other.mPageIndex && mWidth == other.mWidth && mHeight == other.mHeight;
+        }
+
+        @Override
+        public int hashCode() {
+            return (mPageIndex * 31 + mWidth) * 31 + mHeight;
+        }
+
+        private final int mPageIndex;
+        private final int mWidth;
+        private final int mHeight;
+    }
+
+    private final Document mDocument;
+    private final float mTileResolution;
+    private final ExecutorService mExecutor;
+    private final LinkedHashMap<TileKey, Future<PageTile>> mTiles;
+    private final AtomicInteger mRenderedTileCount = new AtomicInteger();
+    private final AtomicInteger mCacheHitCount = new AtomicInteger();
+    private final ThreadLocal<Document> mWorkerDocument = new ThreadLocal<Document>() {
+        @Override
+        protected Document initialValue() {
+            try {
+                return cloneDocument();
+            } catch (Exception e) {
+                throw new IllegalStateException("The document could not be copied for rendering.", e);
+            }
+        }
+    };
+}
@@ -16,6 +16,9 @@ import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -276,56 +279,198 @@ public class RenderShapes {
 		shape.appendChild(node.deepClone(true));
 		parentSection.getBody().getFirstParagraph().appendChild(shape);
 
-		// Render the shape to stream so we can take advantage of the effects of the
-		// ImageSaveOptions class.
-		// Retrieve the rendered image and remove the shape from the document.
-		ByteArrayOutputStream stream = new ByteArrayOutputStream();
-		shape.getShapeRenderer().save(stream, imageOptions);
+		// Render the shape straight into a transparent bitmap. Only when the options ask for
+		// more than a scale and a resolution, render the shape to stream so we can take
+		// advantage of all the options of the ImageSaveOptions class and load the image back.
+		// Then remove the shape from the document.
+		BufferedImage renderedImage;
+		if (!canRenderToBitmap(imageOptions)) {
+			ByteArrayOutputStream stream = new ByteArrayOutputStream();
+			shape.getShapeRenderer().save(stream, imageOptions);
+			renderedImage = ImageIO.read(new ByteArrayInputStream(stream.toByteArray()));
+		} else {
+			renderedImage = renderToBitmap(shape.getShapeRenderer(), imageOptions);
+		}
 		shape.remove();
 
-		// Load the image into a new bitmap.
-		BufferedImage renderedImage = ImageIO.read(new ByteArrayInputStream(stream.toByteArray()));
-
 		// Extract the actual content of the image by cropping transparent space around
 		// the rendered shape.
 		Rectangle cropRectangle = FindBoundingBoxAroundNode(renderedImage);
 
-		BufferedImage croppedImage = new BufferedImage(cropRectangle.width, cropRectangle.height,
-				BufferedImage.TYPE_INT_RGB);
+		// A node with no visible content renders fully transparent and has an empty bounding box.
+		// Save a single pixel of the paper color for it, an image cannot be created with no size.
+		boolean isEmpty = cropRectangle.width == 0 || cropRectangle.height == 0;
+		BufferedImage croppedImage = new BufferedImage(isEmpty ? 1 : cropRectangle.width,
+				isEmpty ? 1 : cropRectangle.height, BufferedImage.TYPE_INT_RGB);
 
 		// Create the final image with the proper background color.
 		Graphics2D g = croppedImage.createGraphics();
 		g.setBackground(savePaperColor);
 		g.clearRect(0, 0, croppedImage.getWidth(), croppedImage.getHeight());
-		g.drawImage(renderedImage, 0, 0, croppedImage.getWidth(), croppedImage.getHeight(), cropRectangle.x,
-				cropRectangle.y, cropRectangle.x + cropRectangle.width, cropRectangle.y + cropRectangle.height, null);
+		if (!isEmpty)
+			g.drawImage(renderedImage, 0, 0, croppedImage.getWidth(), croppedImage.getHeight(), cropRectangle.x,
+					cropRectangle.y, cropRectangle.x + cropRectangle.width, cropRectangle.y + cropRectangle.height,
+					null);
 
 		ImageIO.write(croppedImage, "png", new File(filePath));
 	}
+
+	/// <summary>
+	/// Renders the shape into a new transparent ARGB bitmap at the scale and resolution of the
+	/// image options. No other option is applied, check the options with canRenderToBitmap first.
+	/// </summary>
+	static BufferedImage renderToBitmap(ShapeRenderer renderer, ImageSaveOptions imageOptions) throws Exception {
+		Dimension size = renderer.getSizeInPixels(imageOptions.getScale(), imageOptions.getResolution());
+		BufferedImage image = new BufferedImage(Math.max(1, size.width), Math.max(1, size.height),
+				BufferedImage.TYPE_INT_ARGB);
+
+		Graphics2D g = image.createGraphics();
+		try {
+			renderer.renderToSize(g, 0, 0, image.getWidth(), image.getHeight());
+		} finally {
+			g.dispose();
+		}
+
+		return image;
+	}
+
+	/// <summary>
+	/// Returns true if renderToBitmap gives the same image as saving the shape with the options.
+	/// That is the case when the options set only the scale and a single resolution, and leave
+	/// the colors and the rendering quality at the defaults of their save format.
+	/// </summary>
+	static boolean canRenderToBitmap(ImageSaveOptions imageOptions) {
+		ImageSaveOptions defaults = new ImageSaveOptions(imageOptions.getSaveFormat());
+		return imageOptions.getHorizontalResolution() == imageOptions.getVerticalResolution()
+				&& imageOptions.getImageColorMode() == defaults.getImageColorMode()
+				&& imageOptions.getImageBrightness() == defaults.getImageBrightness()
+				&& imageOptions.getImageContrast() == defaults.getImageContrast()
+				&& imageOptions.getPixelFormat() == defaults.getPixelFormat()
+				&& imageOptions.getUseAntiAliasing() == defaults.getUseAntiAliasing()
+				&& imageOptions.getUseHighQualityRendering() == defaults.getUseHighQualityRendering();
+	}
 	// ExEnd:RenderNode
 
 	// ExStart:FindBoundingBoxAroundNode
 	/// <summary>
 	/// Finds the minimum bounding box around non-transparent pixels in a Bitmap.
+	/// The image is read one row at a time, in the order it is laid out in memory. The top and
+	/// bottom edges are found by scanning rows inwards until a row with content is met, and the
+	/// left and right edges by scanning each remaining row only up to the edge found so far.
+	/// Returns an empty rectangle if the image is fully transparent.
 	/// </summary>
 	public static Rectangle FindBoundingBoxAroundNode(BufferedImage originalBitmap) {
-		Point min = new Point(Integer.MAX_VALUE, Integer.MAX_VALUE);
-		Point max = new Point(Integer.MIN_VALUE, Integer.MIN_VALUE);
-
-		for (int x = 0; x < originalBitmap.getWidth(); ++x) {
-			for (int y = 0; y < originalBitmap.getHeight(); ++y) {
-				// For each pixel that is not transparent calculate the bounding box around it.
-				if (originalBitmap.getRGB(x, y) != 0) {
-					min.x = Math.min(x, min.x);
-					min.y = Math.min(y, min.y);
-					max.x = Math.max(x, max.x);
-					max.y = Math.max(y, max.y);
-				}
+		RowReader rows = new RowReader(originalBitmap);
+		int width = originalBitmap.getWidth();
+		int height = originalBitmap.getHeight();
+
+		int top = 0;
+		while (top < height && rows.firstPixel(top, 0, width) < 0)
+			top++;
+
+		if (top == height)
+			return new Rectangle(0, 0, 0, 0);
+
+		int bottom = height - 1;
+		while (rows.firstPixel(bottom, 0, width) < 0)
+			bottom--;
+
+		int left = width;
+		int right = -1;
+		for (int y = top; y <= bottom; y++) {
+			// Only the pixels outside of the box found so far can move its edges.
+			if (left > 0) {
+				int x = rows.firstPixel(y, 0, left);
+				if (x >= 0)
+					left = x;
+			}
+
+			if (right < width - 1) {
+				int x = rows.lastPixel(y, right + 1, width);
+				if (x >= 0)
+					right = x;
 			}
 		}
 
 		// Add one pixel to the width and height to avoid clipping.
-		return new Rectangle(min.x, min.y, (max.x - min.x) + 1, (max.y - min.y) + 1);
+		return new Rectangle(left, top, (right - left) + 1, (bottom - top) + 1);
+	}
+
+	/// <summary>
+	/// Reads the pixels of a row. For ARGB images backed by an int buffer the buffer is read
+	/// directly, for other images a row is converted with getRGB.
+	/// </summary>
+	private static final class RowReader {
+		RowReader(BufferedImage image) {
+			mImage = image;
+			Raster raster = image.getRaster();
+
+			if (image.getType() == BufferedImage.TYPE_INT_ARGB && raster.getDataBuffer() instanceof DataBufferInt
+					&& raster.getSampleModel() instanceof SinglePixelPackedSampleModel) {
+				SinglePixelPackedSampleModel sampleModel = (SinglePixelPackedSampleModel) raster.getSampleModel();
+				mData = ((DataBufferInt) raster.getDataBuffer()).getData();
+				mStride = sampleModel.getScanlineStride();
+				mOffset = raster.getDataBuffer().getOffset()
+						- raster.getSampleModelTranslateY() * mStride - raster.getSampleModelTranslateX();
+				mRow = null;
+			} else {
+				mData = null;
+				mStride = 0;
+				mOffset = 0;
+				mRow = new int[image.getWidth()];
+			}
+		}
+
+		/// <summary>
+		/// Returns the first x in [from, to) of a pixel with content, or -1.
+		/// </summary>
+		int firstPixel(int y, int from, int to) {
+			int[] data = row(y);
+			int base = rowStart(y);
+			for (int x = from; x < to; x++) {
+				if (data[base + x] != 0)
+					return x;
+			}
+
+			return -1;
+		}
+
+		/// <summary>
+		/// Returns the last x in [from, to) of a pixel with content, or -1.
+		/// </summary>
+		int lastPixel(int y, int from, int to) {
+			int[] data = row(y);
+			int base = rowStart(y);
+			for (int x = to - 1; x >= from; x--) {
+				if (data[base + x] != 0)
+					return x;
+			}
+
+			return -1;
+		}
+
+		private int[] row(int y) {
+			if (mData != null)
+				return mData;
+
+			if (y != mRowY) {
+				mImage.getRGB(0, y, mRow.length, 1, mRow, 0, mRow.length);
+				mRowY = y;
+			}
+
+			return mRow;
+		}
+
+		private int rowStart(int y) {
+			return mData != null ? mOffset + y * mStride : 0;
+		}
+
+		private final BufferedImage mImage;
+		private final int[] mData;
+		private final int mStride;
+		private final int mOffset;
+		private final int[] mRow;
+		private int mRowY = -1;
 	}
 	// ExEnd:FindBoundingBoxAroundNode
 
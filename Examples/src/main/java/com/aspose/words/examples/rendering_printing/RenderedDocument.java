@@ -12,72 +12,395 @@ public class RenderedDocument extends LayoutEntity {
      * @throws Exception
      */
     public RenderedDocument(Document doc) throws Exception {
+        this(doc, new SpanTextPool());
+    }
+
+    /**
+     * Creates a new instance from the supplied Aspose.Words.Document class.
+     *
+     * @param document A document whose page layout model to enumerate.
+     * @param interner Shares the text of equal spans, or null to keep a separate text for every span.
+     * @throws Exception
+     */
+    public RenderedDocument(Document doc, SpanTextInterner interner) throws Exception {
+        mTextInterner = interner;
         mLayoutCollector = new LayoutCollector(doc);
         mEnumerator = new LayoutEnumerator(doc);
         ProcessLayoutElements(this);
+        // Attaches the store to the document and to every entity of its layout tree.
+        LayoutStore.build(this);
         CollectLinesAndAddToMarkers();
         LinkLayoutMarkersToNodes(doc);
     }
 
+    /**
+     * Creates a new instance which builds the entities of a page only when the page is requested.
+     * <p>
+     * Only the positions of the pages are read up front. At most pageWindowSize pages are kept materialized,
+     * the least recently used page is dropped when another one is requested. Use {@link #getPage(int)} to access
+     * pages, {@link #getPages()} is not available in this mode.
+     *
+     * @param document       A document whose page layout model to enumerate.
+     * @param pageWindowSize The maximum number of pages that are kept materialized.
+     * @throws Exception
+     */
+    public RenderedDocument(Document doc, int pageWindowSize) throws Exception {
+        this(doc, pageWindowSize, new SpanTextPool());
+    }
+
+    /**
+     * Creates a new instance which builds the entities of a page only when the page is requested.
+     *
+     * @param document       A document whose page layout model to enumerate.
+     * @param pageWindowSize The maximum number of pages that are kept materialized.
+     * @param interner       Shares the text of equal spans, or null to keep a separate text for every span.
+     *                       The interner is used for every page that is built, including pages built again after
+     *                       they left the window.
+     * @throws Exception
+     */
+    public RenderedDocument(Document doc, final int pageWindowSize, SpanTextInterner interner) throws Exception {
+        if (pageWindowSize < 1) {
+            throw new IllegalArgumentException("The page window must hold at least one page.");
+        }
+
+        mTextInterner = interner;
+        mLayoutCollector = new LayoutCollector(doc);
+        mEnumerator = new LayoutEnumerator(doc);
+        mPageWindowSize = pageWindowSize;
+        mPageWindow = new java.util.LinkedHashMap<Integer, RenderedPage>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(java.util.Map.Entry<Integer, RenderedPage> eldest) {
+                return size() > pageWindowSize;
+            }
+        };
+
+        do {
+            mPageLayoutObjects.add(mEnumerator.getCurrent());
+        } while (mEnumerator.moveNext());
+    }
+
     /**
      * Provides access to the pages of a document.
      */
     public final LayoutCollection<RenderedPage> getPages() {
+        checkNotPageWindowed();
+
         return GetChildNodes(new RenderedPage());
     }
 
+    /**
+     * Gets the number of pages in the document.
+     */
+    public final int getPageCount() {
+        // The top level entities of the layout are always pages.
+        return isLazy() ? mPageLayoutObjects.size() : mChildEntities.size();
+    }
+
+    /**
+     * Returns the page with the specified 1-based index.
+     * <p>
+     * For a page-windowed document the page is built from the layout enumerator if it is not in the window.
+     *
+     * @throws Exception
+     */
+    public final RenderedPage getPage(int pageIndex) throws Exception {
+        if (pageIndex < 1 || pageIndex > getPageCount()) {
+            throw new IllegalArgumentException("Page index is out of range: " + pageIndex);
+        }
+
+        if (!isLazy()) {
+            return (RenderedPage) mChildEntities.get(pageIndex - 1);
+        }
+
+        RenderedPage page = mPageWindow.get(pageIndex);
+        if (page == null) {
+            page = MaterializePage(pageIndex);
+            mPageWindow.put(pageIndex, page);
+        }
+
+        return page;
+    }
+
+    /**
+     * Gets the number of times a page was built from the layout enumerator in page-windowed mode.
+     */
+    public final int getPageMaterializationCount() {
+        return mPageMaterializationCount;
+    }
+
     /**
      * Returns all the layout entities of the specified node.
      * <p>
      * Note that this method does not work with Run nodes or nodes in the header or footer.
+     * For a page-windowed document only the pages the node spans are materialized, and the entities of the
+     * document node itself, which are all its pages, are not available.
+     *
+     * @throws Exception
      */
-    public final LayoutCollection<LayoutEntity> GetLayoutEntitiesOfNode(Node node) {
+    public final LayoutCollection<LayoutEntity> GetLayoutEntitiesOfNode(Node node) throws Exception {
         if (mLayoutCollector.getDocument() != node.getDocument()) {
             throw new IllegalArgumentException("Node does not belong to the same document which was rendered.");
         }
 
         if (node.getNodeType() == NodeType.DOCUMENT) {
+            checkNotPageWindowed();
+
             return new LayoutCollection<LayoutEntity>(mChildEntities);
         }
 
+        if (!isLazy()) {
+            return new LayoutCollection<LayoutEntity>(mStore.getEntitiesOfNode(node));
+        }
+
         java.util.ArrayList<LayoutEntity> entities = new java.util.ArrayList<LayoutEntity>();
-        for (LayoutEntity entity : GetChildEntities(~LayoutEntityType.NONE, true)) {
-            try {
-                // Retrieve all entities from the layout document (inversion of LayoutEntityType.None).
+        int startPage = mLayoutCollector.getStartPageIndex(node);
+        int endPage = mLayoutCollector.getEndPageIndex(node);
+
+        // Nodes without layout, such as nodes in headers and footers, report a zero page index.
+        if (startPage > 0) {
+            for (int pageIndex = startPage; pageIndex <= endPage; pageIndex++) {
+                entities.addAll(getPage(pageIndex).mStore.getEntitiesOfNode(node));
+            }
+        }
 
-                if (entity.getParentNode() == node) {
-                    entities.add(entity);
+        return new LayoutCollection<LayoutEntity>(entities);
+    }
+
+    /**
+     * Gets the interner that shares the text of spans, or null when span texts are not shared.
+     */
+    public final SpanTextInterner getTextInterner() {
+        return mTextInterner;
+    }
+
+    /**
+     * Gets the text of all the pages. Not available for a page-windowed document.
+     */
+    @Override
+    public String getText() {
+        checkNotPageWindowed();
+        return super.getText();
+    }
+
+    /**
+     * Returns a collection of child entities which match the specified type. Not available for a page-windowed
+     * document, whose pages are not children of the document.
+     */
+    @Override
+    public LayoutCollection<LayoutEntity> GetChildEntities(int type, boolean isDeep) {
+        checkNotPageWindowed();
+        return super.GetChildEntities(type, isDeep);
+    }
+
+    /**
+     * Returns the flattened layout tree of the document.
+     */
+    final LayoutStore getLayoutStore() {
+        return mStore;
+    }
+
+    private boolean isLazy() {
+        return mPageWindowSize > 0;
+    }
+
+    /**
+     * Fails for a page-windowed document, whose child entities are never filled, instead of giving empty results.
+     */
+    private void checkNotPageWindowed() {
+        if (isLazy()) {
+            throw new IllegalStateException("Pages of a page-windowed document are accessed one by one with getPage.");
+        }
+    }
+
+    private void ProcessLayoutElements(LayoutEntity current) throws Exception {
+        do {
+            LayoutEntity page = current.AddChildEntity(mEnumerator, mTextInterner);
+            ProcessChildElements(page);
+        } while (mEnumerator.moveNext());
+    }
+
+    /**
+     * Creates the entities of all the descendants of the enumerator's current element, which corresponds to
+     * the specified entity. The enumerator is left on that element.
+     * <p>
+     * The parent links of the entities being built act as the stack, so deeply nested layouts do not
+     * consume the Java call stack.
+     */
+    private void ProcessChildElements(LayoutEntity entity) throws Exception {
+        if (!mEnumerator.moveFirstChild()) {
+            return;
+        }
+
+        LayoutEntity current = entity;
+        while (true) {
+            LayoutEntity child = current.AddChildEntity(mEnumerator, mTextInterner);
+
+            if (mEnumerator.moveFirstChild()) {
+                current = child;
+                continue;
+            }
+
+            while (!mEnumerator.moveNext()) {
+                mEnumerator.moveParent();
+                if (current == entity) {
+                    return;
                 }
 
-                if (entity.getType() == LayoutEntityType.ROW) {
-                    RenderedRow row = (RenderedRow) entity;
-                    if (row.getTable() == node) {
-                        entities.add(entity);
+                current = current.getParent();
+            }
+        }
+    }
+
+    private RenderedPage MaterializePage(int pageIndex) throws Exception {
+        mEnumerator.setCurrent(mPageLayoutObjects.get(pageIndex - 1));
+
+        // The page is not added to the child entities of the document, only the window holds on to it.
+        RenderedPage page = (RenderedPage) CreateLayoutEntityFromType(mEnumerator, mTextInterner);
+        ProcessChildElements(page);
+
+        LayoutStore store = LayoutStore.build(page);
+        LinkPageMarkersToNodes(page, pageIndex);
+        store.indexParentNodes();
+
+        mPageMaterializationCount++;
+        return page;
+    }
+
+    /**
+     * Assigns parent nodes to the lines and spans of a single page, the same way the eager constructor does
+     * for the whole document.
+     */
+    private void LinkPageMarkersToNodes(RenderedPage page, int pageIndex) throws Exception {
+        java.util.HashMap<Object, Node> nodes = GetNodesOfLayoutObjects();
+
+        for (int type : new int[]{LayoutEntityType.COLUMN, LayoutEntityType.COMMENT}) {
+            java.util.ArrayList<RenderedLine> lines = new java.util.ArrayList<RenderedLine>();
+
+            for (LayoutEntity story : page.GetChildEntities(type, false)) {
+                for (LayoutEntity le : story.GetChildEntities(LayoutEntityType.LINE, true)) {
+                    RenderedLine line = (RenderedLine) le;
+                    lines.add(line);
+                    for (RenderedSpan span : line.getSpans()) {
+                        if (IsMarkerKind(span.getKind())) {
+                            LinkLinesToNode(lines, nodes.get(span.getLayoutObject()));
+                            lines = new java.util.ArrayList<RenderedLine>();
+                        } else {
+                            Node node = nodes.get(span.getLayoutObject());
+                            if (node != null) {
+                                span.setParentNode(node);
+                            }
+                        }
                     }
                 }
+            }
+
+            // The remaining lines belong to a paragraph that is continued on one of the next pages.
+            if (!lines.isEmpty()) {
+                LinkLinesToNode(lines, nodes.get(FindNextMarker(pageIndex, type)));
+            }
+        }
+    }
+
+    private static void LinkLinesToNode(java.util.ArrayList<RenderedLine> lines, Node node) {
+        if (node == null) {
+            return;
+        }
+
+        switch (node.getNodeType()) {
+            case NodeType.PARAGRAPH:
+                for (RenderedLine line : lines) {
+                    line.setParentNode(node);
+                }
+                break;
 
-            } catch (RuntimeException ex) {
+            case NodeType.ROW:
+                for (RenderedLine line : lines) {
+                    line.setParentNode(((Row) node).getLastCell().getLastParagraph());
+                }
+                break;
 
-                throw ex;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Returns the layout object of the first marker span in a story of the specified type, looking at the pages
+     * which follow the page with the specified 1-based index. The pages are walked on the enumerator only.
+     */
+    private Object FindNextMarker(int pageIndex, int storyType) throws Exception {
+        for (int next = pageIndex; next < mPageLayoutObjects.size(); next++) {
+            mEnumerator.setCurrent(mPageLayoutObjects.get(next));
+            if (!mEnumerator.moveFirstChild()) {
+                continue;
             }
+
+            do {
+                if (mEnumerator.getType() == storyType) {
+                    Object marker = FindFirstMarkerBelowCurrent();
+                    if (marker != null) {
+                        return marker;
+                    }
+                }
+            } while (mEnumerator.moveNext());
         }
 
-        return new LayoutCollection<LayoutEntity>(entities);
+        return null;
     }
 
-    private void ProcessLayoutElements(LayoutEntity current) throws Exception {
-        do {
-            LayoutEntity child = current.AddChildEntity(mEnumerator);
+    /**
+     * Returns the layout object of the first marker span below the enumerator's current element. When there is
+     * none the enumerator is left on the element it started from.
+     */
+    private Object FindFirstMarkerBelowCurrent() throws Exception {
+        if (!mEnumerator.moveFirstChild()) {
+            return null;
+        }
+
+        int depth = 1;
+        while (true) {
+            if (mEnumerator.getType() == LayoutEntityType.SPAN && IsMarkerKind(mEnumerator.getKind())) {
+                return mEnumerator.getCurrent();
+            }
 
             if (mEnumerator.moveFirstChild()) {
-                current = child;
+                depth++;
+                continue;
+            }
 
-                ProcessLayoutElements(current);
+            while (!mEnumerator.moveNext()) {
                 mEnumerator.moveParent();
+                if (--depth == 0) {
+                    return null;
+                }
+            }
+        }
+    }
 
-                current = current.getParent();
+    /**
+     * Maps the layout objects reported by the layout collector back to their nodes. Built once, on the first page
+     * materialization. When a paragraph shares its layout object with an enclosing node the paragraph wins, as
+     * it does in LinkLayoutMarkersToNodes.
+     */
+    @SuppressWarnings("unchecked")
+    private java.util.HashMap<Object, Node> GetNodesOfLayoutObjects() throws Exception {
+        if (mNodesOfLayoutObjects == null) {
+            java.util.HashMap<Object, Node> nodes = new java.util.HashMap<Object, Node>();
+            for (Node node : (Iterable<Node>) mLayoutCollector.getDocument().getChildNodes(NodeType.ANY, true)) {
+                Object nodeEntity = mLayoutCollector.getEntity(node);
+                if (nodeEntity != null && (node.getNodeType() == NodeType.PARAGRAPH || !nodes.containsKey(nodeEntity))) {
+                    nodes.put(nodeEntity, node);
+                }
             }
-        } while (mEnumerator.moveNext());
+
+            mNodesOfLayoutObjects = nodes;
+        }
+
+        return mNodesOfLayoutObjects;
+    }
+
+    private static boolean IsMarkerKind(String kind) {
+        return kind.equals("PARAGRAPH") || kind.equals("ROW") || kind.equals("CELL") || kind.equals("SECTION");
     }
 
     private void CollectLinesAndAddToMarkers() {
@@ -97,7 +420,7 @@ public class RenderedDocument extends LayoutEntity {
                     RenderedLine line = (RenderedLine) le;
                     collectedLines.add(line);
                     for (RenderedSpan span : line.getSpans()) {
-                        if (span.getKind().equals("PARAGRAPH") || span.getKind().equals("ROW") || span.getKind().equals("CELL") || span.getKind().equals("SECTION")) {
+                        if (IsMarkerKind(span.getKind())) {
                             mLayoutToLinesLookup.put(span.getLayoutObject(), collectedLines);
                             collectedLines = new java.util.ArrayList<RenderedLine>();
                         } else {
@@ -126,15 +449,17 @@ public class RenderedDocument extends LayoutEntity {
                     break;
 
                 default:
-                    if (mLayoutCollector.getEntity(node) != null) {
-                        System.out.println(mLayoutCollector.getEntity(node));
-                        //System.out.println(mLayoutToSpanLookup.get(mLayoutCollector.getEntity(node)));
-
-                        mLayoutToSpanLookup.get(mLayoutCollector.getEntity(node)).setParentNode(node);
+                    // Cells and sections are represented by marker spans, which are not in the span lookup.
+                    RenderedSpan span = mLayoutToSpanLookup.get(mLayoutCollector.getEntity(node));
+                    if (span != null) {
+                        span.setParentNode(node);
                     }
                     break;
             }
         }
+
+        // All the parent nodes are known now, so the node to entity index can be filled.
+        mStore.indexParentNodes();
     }
 
     private java.util.ArrayList<RenderedLine> GetLinesOfNode(Node node) throws Exception {
@@ -150,6 +475,12 @@ public class RenderedDocument extends LayoutEntity {
 
     private LayoutCollector mLayoutCollector;
     private LayoutEnumerator mEnumerator;
-    private static java.util.HashMap<Object, java.util.ArrayList<RenderedLine>> mLayoutToLinesLookup = new java.util.HashMap<Object, java.util.ArrayList<RenderedLine>>();
-    private static java.util.HashMap<Object, RenderedSpan> mLayoutToSpanLookup = new java.util.HashMap<Object, RenderedSpan>();
+    private SpanTextInterner mTextInterner;
+    private java.util.HashMap<Object, java.util.ArrayList<RenderedLine>> mLayoutToLinesLookup = new java.util.HashMap<Object, java.util.ArrayList<RenderedLine>>();
+    private java.util.HashMap<Object, RenderedSpan> mLayoutToSpanLookup = new java.util.HashMap<Object, RenderedSpan>();
+    private int mPageWindowSize;
+    private java.util.LinkedHashMap<Integer, RenderedPage> mPageWindow;
+    private java.util.ArrayList<Object> mPageLayoutObjects = new java.util.ArrayList<Object>();
+    private java.util.HashMap<Object, Node> mNodesOfLayoutObjects;
+    private int mPageMaterializationCount;
 }
@@ -0,0 +1,171 @@
+package com.aspose.words.examples.rendering_printing;
+
+import com.aspose.words.*;
+
+import java.util.ArrayList;
+
+/**
+ * Compares RenderedDocument.GetLayoutEntitiesOfNode, which reads the node to entity index of the flattened
+ * layout store, with the previous implementation that rebuilt the deep entity list and compared the parent
+ * node of every entity on each call. Every paragraph is queried, the same way a redaction pass does.
+ * The previous implementation is too slow to query all the paragraphs of the large documents, so it is timed
+ * on a sample and the per query time is reported. Run it with "-Xmx4g".
+ */
+public class RenderedDocumentBenchmark {
+    private static final int[] PAGE_COUNTS = {100, 1000};
+    private static final int PARAGRAPHS_PER_PAGE = 10;
+    private static final int LEGACY_SAMPLE_SIZE = 200;
+    private static final int WARMUP_ITERATIONS = 2;
+    private static final int MEASURED_ITERATIONS = 5;
+
+    public static void main(String[] args) throws Exception {
+        System.out.println("pages\tentities\tparagraphs\tbuild ms\tlegacy us/query\tindex us/query\tindex all ms");
+
+        for (int pageCount : PAGE_COUNTS) {
+            Document doc = buildDocument(pageCount);
+            doc.updatePageLayout();
+
+            long buildStart = System.nanoTime();
+            RenderedDocument layoutDoc = new RenderedDocument(doc);
+            long buildNanos = System.nanoTime() - buildStart;
+
+            ArrayList<Node> paragraphs = new ArrayList<Node>();
+            for (Node paragraph : (Iterable<Node>) doc.getChildNodes(NodeType.PARAGRAPH, true)) {
+                paragraphs.add(paragraph);
+            }
+
+            ArrayList<Node> sample = new ArrayList<Node>();
+            int step = Math.max(1, paragraphs.size() / LEGACY_SAMPLE_SIZE);
+            for (int i = 0; i < paragraphs.size(); i += step) {
+                sample.add(paragraphs.get(i));
+            }
+
+            verify(layoutDoc, sample);
+
+            long legacyNanos = 0;
+            long indexNanos = 0;
+            for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+                long legacyRun = measureLegacy(layoutDoc, sample);
+                long indexRun = measureIndex(layoutDoc, paragraphs);
+                if (i >= WARMUP_ITERATIONS) {
+                    legacyNanos += legacyRun;
+                    indexNanos += indexRun;
+                }
+            }
+
+            System.out.println(pageCount
+                    + "\t" + layoutDoc.getLayoutStore().getCount()
+                    + "\t" + paragraphs.size()
+                    + "\t" + buildNanos / 1000000
+                    + "\t" + legacyNanos / MEASURED_ITERATIONS / sample.size() / 1000
+                    + "\t" + (double) indexNanos / MEASURED_ITERATIONS / paragraphs.size() / 1000
+                    + "\t" + indexNanos / MEASURED_ITERATIONS / 1000000);
+        }
+    }
+
+    private static Document buildDocument(int pageCount) throws Exception {
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+
+        for (int page = 1; page <= pageCount; page++) {
+            for (int paragraph = 0; paragraph < PARAGRAPHS_PER_PAGE; paragraph++) {
+                builder.writeln("Page " + page + ", clause " + paragraph + ". The parties agree to the terms set out below.");
+            }
+
+            // A small table on every page so rows and cells are part of the layout tree.
+            builder.startTable();
+            for (int row = 0; row < 2; row++) {
+                for (int cell = 0; cell < 3; cell++) {
+                    builder.insertCell();
+                    builder.write("Cell " + row + "." + cell);
+                }
+                builder.endRow();
+            }
+            builder.endTable();
+
+            if (page < pageCount) {
+                builder.insertBreak(BreakType.PAGE_BREAK);
+            }
+        }
+
+        return doc;
+    }
+
+    private static void verify(RenderedDocument layoutDoc, ArrayList<Node> sample) throws Exception {
+        for (Node node : sample) {
+            ArrayList<LayoutEntity> expected = legacyEntitiesOfNode(layoutDoc, node);
+            LayoutCollection<LayoutEntity> actual = layoutDoc.GetLayoutEntitiesOfNode(node);
+
+            if (actual.getCount() != expected.size()) {
+                throw new IllegalStateException("Entity count differs for a paragraph: " + actual.getCount() + " != " + expected.size());
+            }
+
+            for (int i = 0; i < expected.size(); i++) {
+                if (actual.getItem(i) != expected.get(i)) {
+                    throw new IllegalStateException("Entity order differs for a paragraph.");
+                }
+            }
+        }
+    }
+
+    private static long measureLegacy(RenderedDocument layoutDoc, ArrayList<Node> nodes) {
+        long start = System.nanoTime();
+        int found = 0;
+        for (Node node : nodes) {
+            found += legacyEntitiesOfNode(layoutDoc, node).size();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        consume(found);
+        return elapsed;
+    }
+
+    private static long measureIndex(RenderedDocument layoutDoc, ArrayList<Node> nodes) throws Exception {
+        long start = System.nanoTime();
+        int found = 0;
+        for (Node node : nodes) {
+            found += layoutDoc.GetLayoutEntitiesOfNode(node).getCount();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        consume(found);
+        return elapsed;
+    }
+
+    /**
+     * The lookup as it was done before the layout tree was flattened.
+     */
+    private static ArrayList<LayoutEntity> legacyEntitiesOfNode(LayoutEntity root, Node node) {
+        ArrayList<LayoutEntity> entities = new ArrayList<LayoutEntity>();
+        for (LayoutEntity entity : legacyChildEntities(root, ~LayoutEntityType.NONE)) {
+            if (entity.getParentNode() == node) {
+                entities.add(entity);
+            }
+
+            if (entity.getType() == LayoutEntityType.ROW && ((RenderedRow) entity).getTable() == node) {
+                entities.add(entity);
+            }
+        }
+
+        return entities;
+    }
+
+    private static ArrayList<LayoutEntity> legacyChildEntities(LayoutEntity parent, int type) {
+        ArrayList<LayoutEntity> childList = new ArrayList<LayoutEntity>();
+        for (LayoutEntity entity : parent.mChildEntities) {
+            if ((entity.getType() & type) == entity.getType()) {
+                childList.add(entity);
+            }
+
+            childList.addAll(LayoutEntity.makeCollection(legacyChildEntities(entity, type)));
+        }
+
+        return childList;
+    }
+
+    private static void consume(int value) {
+        if (value == Integer.MIN_VALUE) {
+            System.out.println(value);
+        }
+    }
+}
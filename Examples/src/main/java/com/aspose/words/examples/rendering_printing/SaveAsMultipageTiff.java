@@ -6,6 +6,8 @@ import com.aspose.words.SaveFormat;
 import com.aspose.words.TiffCompression;
 import com.aspose.words.examples.Utils;
 
+import java.io.File;
+
 public class SaveAsMultipageTiff {
 
     private static final String dataDir = Utils.getSharedDataDir(SaveAsMultipageTiff.class) + "RenderingAndPrinting/";
@@ -29,6 +31,19 @@ public class SaveAsMultipageTiff {
         options.setResolution(160);
         doc.save(dataDir + "TestFileWithOptions_Out.tiff", options);
     	// ExEnd:SaveAsTIFFUsingImageSaveOptions
+
+        // ExStart:SaveAsTIFFInParallel
+        // Render the pages in ranges of 10 on one thread per core and stitch them into one file in page order.
+        PageRangeImageExporter exporter = new PageRangeImageExporter(doc, Runtime.getRuntime().availableProcessors(), 10);
+        try {
+            ImageSaveOptions rangeOptions = new ImageSaveOptions(SaveFormat.TIFF);
+            rangeOptions.setTiffCompression(TiffCompression.CCITT_4);
+            rangeOptions.setResolution(160);
+            exporter.saveTiff(rangeOptions, new File(dataDir + "TestFileInParallel_Out.tiff"));
+        } finally {
+            exporter.shutdown();
+        }
+        // ExEnd:SaveAsTIFFInParallel
         System.out.println("Document saved as multi page TIFF successfully.");
     }
 }
\ No newline at end of file
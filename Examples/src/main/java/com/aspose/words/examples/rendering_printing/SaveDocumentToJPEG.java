@@ -1,5 +1,6 @@
 package com.aspose.words.examples.rendering_printing;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.InputStream;
@@ -37,6 +38,18 @@ public class SaveDocumentToJPEG {
 		imageOptions.setJpegQuality(80);
 		doc.save(dataDir + "Rendering.JpegCustomOptions.jpg", imageOptions);
 		// ExEnd:SaveDocumentToJPEG
+
+		// ExStart:SaveDocumentPagesToJPEGInParallel
+		// Save every page to its own JPEG file, rendering ranges of 5 pages on one thread per core.
+		PageRangeImageExporter exporter = new PageRangeImageExporter(doc, Runtime.getRuntime().availableProcessors(), 5);
+		try {
+			ImageSaveOptions pageOptions = new ImageSaveOptions(SaveFormat.JPEG);
+			pageOptions.setJpegQuality(80);
+			exporter.saveJpegPages(pageOptions, new File(dataDir), "Rendering.JpegPage");
+		} finally {
+			exporter.shutdown();
+		}
+		// ExEnd:SaveDocumentPagesToJPEGInParallel
 	}
 
 }
@@ -17,6 +17,7 @@ public class SetFontSettings {
         enableDisableFontSubstitution(dataDir);
         setFontFallbackSettings(dataDir);
         setPredefinedFontFallbackSettings(dataDir);
+        useSharedFontRegistry(dataDir);
     }
 
     public static void SetFontsFolder(String dataDir) throws Exception {
@@ -77,4 +78,25 @@ public class SetFontSettings {
         // ExEnd: setPredefinedFontFallbackSettings
         System.out.println("\nDocument is rendered to PDF with font fallback.\nFile saved at " + dataDir);
     }
+
+    public static void useSharedFontRegistry(String dataDir) throws Exception {
+        // ExStart:UseSharedFontRegistry
+        // The registry reads the font folders once per process. Its index is saved to disk, so the next
+        // process only reads font files that were added or changed.
+        FontRegistry registry = FontRegistry.getInstance();
+
+        Document doc = new Document(dataDir + "Rendering.doc");
+
+        // Give the document the FontSettings shared by all documents, which holds every font the registry indexed.
+        FontRegistry.Resolution resolution = registry.resolve(doc);
+        doc.setFontSettings(resolution.getFontSettings());
+        dataDir = dataDir + "Rendering.SharedFontRegistry_out.pdf";
+        doc.save(dataDir);
+        // ExEnd:UseSharedFontRegistry
+        System.out.println("\nFont folders scanned in " + registry.getLastScanMillis() + " ms, "
+                + registry.getLastParsedFileCount() + " of " + registry.getFontFileCount() + " font files parsed.");
+        System.out.println("Fonts resolved for the document: " + resolution.getResolvedFontCount()
+                + ", substituted: " + resolution.getMissingFontNames());
+        System.out.println("File saved at " + dataDir);
+    }
 }
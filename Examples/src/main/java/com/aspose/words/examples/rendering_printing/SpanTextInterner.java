@@ -0,0 +1,75 @@
+package com.aspose.words.examples.rendering_printing;
+
+/**
+ * Shares the text of spans while a RenderedDocument is built.
+ * <p>
+ * Documents with many tables produce a large number of spans with the same short text, such as empty strings,
+ * spaces and digits. Passing an interner to the RenderedDocument constructor lets all of those spans refer to
+ * a single string instance.
+ */
+public interface SpanTextInterner {
+    /**
+     * Returns a string equal to the specified text, which may be shared with other spans.
+     */
+    String intern(String text);
+}
+
+/**
+ * The interner used by RenderedDocument unless another one is supplied.
+ * <p>
+ * Only short texts are pooled: they are the ones that repeat, while longer texts are nearly always unique and
+ * would only grow the pool. The pool belongs to a single document, so it is released together with it.
+ */
+class SpanTextPool implements SpanTextInterner {
+    public SpanTextPool() {
+        this(DEFAULT_MAX_INTERNED_LENGTH);
+    }
+
+    public SpanTextPool(int maxInternedLength) {
+        mMaxInternedLength = maxInternedLength;
+    }
+
+    public String intern(String text) {
+        if (text == null || text.length() > mMaxInternedLength) {
+            return text;
+        }
+
+        mRequestCount++;
+        String pooled = mTexts.get(text);
+        if (pooled == null) {
+            mTexts.put(text, text);
+            return text;
+        }
+
+        mHitCount++;
+        return pooled;
+    }
+
+    /**
+     * Gets the number of distinct texts in the pool.
+     */
+    public int getSize() {
+        return mTexts.size();
+    }
+
+    /**
+     * Gets the number of texts that were short enough to be looked up in the pool.
+     */
+    public int getRequestCount() {
+        return mRequestCount;
+    }
+
+    /**
+     * Gets the number of texts that were replaced by an instance already in the pool.
+     */
+    public int getHitCount() {
+        return mHitCount;
+    }
+
+    private static final int DEFAULT_MAX_INTERNED_LENGTH = 16;
+
+    private final int mMaxInternedLength;
+    private final java.util.HashMap<String, String> mTexts = new java.util.HashMap<String, String>();
+    private int mRequestCount;
+    private int mHitCount;
+}
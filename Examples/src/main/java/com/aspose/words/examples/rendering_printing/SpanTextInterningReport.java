@@ -0,0 +1,131 @@
+package com.aspose.words.examples.rendering_printing;
+
+import com.aspose.words.*;
+
+import java.util.ArrayList;
+
+/**
+ * Reports the heap retained per page by a RenderedDocument with and without span text interning, and the time
+ * to export the text of every page twice, which shows the cached line and page text.
+ * <p>
+ * The corpus is the documents passed as arguments. Without arguments a table heavy and a prose document are
+ * generated. The retained heap is measured after a full collection, so run it with a single collector such as
+ * "-XX:+UseSerialGC -Xmx4g" for stable numbers.
+ */
+public class SpanTextInterningReport {
+    private static final int GENERATED_PAGE_COUNT = 200;
+
+    public static void main(String[] args) throws Exception {
+        ArrayList<String> names = new ArrayList<String>();
+        ArrayList<Document> corpus = new ArrayList<Document>();
+
+        if (args.length == 0) {
+            names.add("generated tables");
+            corpus.add(buildTableDocument(GENERATED_PAGE_COUNT));
+            names.add("generated prose");
+            corpus.add(buildProseDocument(GENERATED_PAGE_COUNT));
+        } else {
+            for (String fileName : args) {
+                names.add(fileName);
+                corpus.add(new Document(fileName));
+            }
+        }
+
+        System.out.println("document\tpages\tplain KB/page\tinterned KB/page\tpooled texts\tpool hit %\tfirst text ms\tcached text ms");
+
+        for (int i = 0; i < corpus.size(); i++) {
+            Document doc = corpus.get(i);
+            doc.updatePageLayout();
+
+            long baseline = usedHeap();
+            RenderedDocument plain = new RenderedDocument(doc, null);
+            long plainRetained = usedHeap() - baseline;
+            int pageCount = plain.getPageCount();
+            plain = null;
+
+            baseline = usedHeap();
+            RenderedDocument interned = new RenderedDocument(doc);
+            long internedRetained = usedHeap() - baseline;
+
+            long start = System.nanoTime();
+            exportText(interned);
+            long firstNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            exportText(interned);
+            long cachedNanos = System.nanoTime() - start;
+
+            SpanTextPool pool = (SpanTextPool) interned.getTextInterner();
+            System.out.println(names.get(i)
+                    + "\t" + pageCount
+                    + "\t" + plainRetained / 1024 / pageCount
+                    + "\t" + internedRetained / 1024 / pageCount
+                    + "\t" + pool.getSize()
+                    + "\t" + (pool.getRequestCount() == 0 ? 0 : 100L * pool.getHitCount() / pool.getRequestCount())
+                    + "\t" + firstNanos / 1000000
+                    + "\t" + cachedNanos / 1000000);
+        }
+    }
+
+    private static int exportText(RenderedDocument layoutDoc) throws Exception {
+        int length = 0;
+        for (int pageIndex = 1; pageIndex <= layoutDoc.getPageCount(); pageIndex++) {
+            length += layoutDoc.getPage(pageIndex).getText().length();
+        }
+
+        return length;
+    }
+
+    private static Document buildTableDocument(int pageCount) throws Exception {
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+
+        for (int page = 1; page <= pageCount; page++) {
+            builder.writeln("Quarterly figures, sheet " + page);
+            builder.startTable();
+            for (int row = 0; row < 20; row++) {
+                for (int cell = 0; cell < 6; cell++) {
+                    builder.insertCell();
+                    // Mostly short numbers and empty cells, as in a typical financial table.
+                    if ((row + cell) % 3 != 0) {
+                        builder.write(Integer.toString((row * cell) % 10));
+                    }
+                }
+                builder.endRow();
+            }
+            builder.endTable();
+
+            if (page < pageCount) {
+                builder.insertBreak(BreakType.PAGE_BREAK);
+            }
+        }
+
+        return doc;
+    }
+
+    private static Document buildProseDocument(int pageCount) throws Exception {
+        Document doc = new Document();
+        DocumentBuilder builder = new DocumentBuilder(doc);
+
+        for (int page = 1; page <= pageCount; page++) {
+            for (int paragraph = 0; paragraph < 10; paragraph++) {
+                builder.writeln("Page " + page + ", clause " + paragraph + ". The parties agree to the terms set out below.");
+            }
+
+            if (page < pageCount) {
+                builder.insertBreak(BreakType.PAGE_BREAK);
+            }
+        }
+
+        return doc;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
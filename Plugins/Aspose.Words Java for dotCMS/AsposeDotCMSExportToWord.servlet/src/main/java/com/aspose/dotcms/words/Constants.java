@@ -18,4 +18,10 @@ public final class Constants {
 
 	public static final String HTML_TO_WORD_CONVERSION_ERROR_MESSAGE = "Failed to save Webpage content in Word Processing Document";
 	public static final String WORD_FILE_NAME = "WebPageContentInWord.docx";
+	public static final int INITIAL_DOCUMENT_BUFFER_SIZE = 64 * 1024;
+	public static final int MAX_RETAINED_DOCUMENT_BUFFER_SIZE = 4 * 1024 * 1024;
+	public static final long RENDERED_PAGE_CACHE_MAX_BYTES = 64L * 1024 * 1024;
+	public static final long RENDERED_PAGE_CACHE_TTL_MILLIS = 60 * 1000;
+	public static final String CACHE_STATS_PARAMETER = "cache_stats";
+	public static final String CACHE_STATS_ENABLED_INIT_PARAMETER = "cacheStatsEnabled";
 }
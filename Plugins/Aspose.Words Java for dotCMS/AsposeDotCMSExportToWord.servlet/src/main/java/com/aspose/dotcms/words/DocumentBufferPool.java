@@ -0,0 +1,50 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 1998-2016 Aspose Pty Ltd.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.aspose.dotcms.words;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Keeps one reusable output buffer per request thread, so a saved document does not need a temporary file
+ * and its size is known before it is sent to the client.
+ */
+public final class DocumentBufferPool {
+	private DocumentBufferPool() {
+	}
+
+	private static final ThreadLocal<ByteArrayOutputStream> BUFFERS = new ThreadLocal<ByteArrayOutputStream>();
+
+	/**
+	 * Gets an empty buffer for the current thread.
+	 */
+	public static ByteArrayOutputStream acquire() {
+		ByteArrayOutputStream buffer = BUFFERS.get();
+		if (buffer == null) {
+			return new ByteArrayOutputStream(Constants.INITIAL_DOCUMENT_BUFFER_SIZE);
+		}
+
+		BUFFERS.remove();
+		buffer.reset();
+		return buffer;
+	}
+
+	/**
+	 * Returns a buffer to the current thread. Buffers grown over the retained size limit are dropped,
+	 * so a single large export does not keep its memory for the life of the thread.
+	 */
+	public static void release(ByteArrayOutputStream buffer) {
+		if (buffer.size() <= Constants.MAX_RETAINED_DOCUMENT_BUFFER_SIZE) {
+			BUFFERS.set(buffer);
+		}
+	}
+}
@@ -18,27 +18,43 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import com.aspose.words.Document;
-import com.aspose.words.SaveFormat;
 import java.io.*;
-import java.net.URL;
 
 public class ExportToWordServlet extends HttpServlet {
 
     private static final long serialVersionUID = 42L;
 
+    private final transient RenderedPageCache pageCache =
+            new RenderedPageCache(Constants.RENDERED_PAGE_CACHE_MAX_BYTES, Constants.RENDERED_PAGE_CACHE_TTL_MILLIS);
+
+    // The cache statistics are only served when the "cacheStatsEnabled" init parameter is "true"
+    private boolean cacheStatsEnabled;
+
     public ExportToWordServlet ( ) {
     }
+
+    public void init() throws ServletException {
+        cacheStatsEnabled = Boolean.parseBoolean(getInitParameter(Constants.CACHE_STATS_ENABLED_INIT_PARAMETER));
+    }
     
     protected void doGet ( HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) throws ServletException, IOException {
+        if (httpServletRequest.getParameter(Constants.CACHE_STATS_PARAMETER) != null) {
+            if (cacheStatsEnabled) {
+                sendCacheStatistics(httpServletResponse);
+            } else {
+                httpServletResponse.sendError(HttpServletResponse.SC_NOT_FOUND);
+            }
+            return;
+        }
+
         //Get Web page URL
         String pageURL = getPageURL(httpServletRequest);
-        
+
 		try {
-			//Save Web page content in Word Processing document
-			String fileName = savePageContentInWordProcessingDocument(pageURL);
+			//Get the Word Processing document of the Web page, converted again only when the page changed
+			byte[] document = pageCache.getDocument(pageURL);
 			//Send Document to Client
-	        sendDocumentToClient(fileName, httpServletResponse);
+	        sendDocumentToClient(document, httpServletResponse);
 		} catch (Exception e) {
 			OutputStream os= httpServletResponse.getOutputStream();
 	        os.write(Constants.HTML_TO_WORD_CONVERSION_ERROR_MESSAGE.getBytes());
@@ -62,50 +78,37 @@ public class ExportToWordServlet extends HttpServlet {
         return pageURL;
     }
     
-    public String savePageContentInWordProcessingDocument(String pageURL) throws Exception {
-    	String fileName = null;
-    	
-        URL url = new URL(pageURL);
-        InputStream stream = url.openStream();
-        // Load the entire document into memory
-        Document doc = new Document(stream);
-        // Save the document DOCX file format
-        fileName = Constants.WORD_FILE_NAME;
-        File file = new File(fileName);
-        if(file.exists()) {
-        	file.delete();
-        }
-        doc.save(fileName, SaveFormat.DOCX);
-        stream.close();       
-            
-        return fileName;
+    public RenderedPageCache getPageCache() {
+        return pageCache;
     }
-    
-    public void sendDocumentToClient(String fileName, HttpServletResponse response) throws ServletException, IOException {
+
+    public void sendDocumentToClient(byte[] document, HttpServletResponse response) throws ServletException, IOException {
     	ServletOutputStream stream = null;
-        BufferedInputStream buf = null;
         try {
-        	
-            stream = response.getOutputStream();
-            File file = new File(fileName);
-            
             response.setContentType("application/msword");
-            response.addHeader("Content-Disposition", "attachment; filename="+ fileName);
-            response.setContentLength((int) file.length());
-	        
-            FileInputStream input = new FileInputStream(file);
-	        buf = new BufferedInputStream(input);
-	        int readBytes = 0;
-	        while ((readBytes = buf.read()) != -1) {
-	        	stream.write(readBytes);
-	        }
+            response.addHeader("Content-Disposition", "attachment; filename="+ Constants.WORD_FILE_NAME);
+            response.setContentLength(document.length);
+
+            stream = response.getOutputStream();
+            stream.write(document);
         } catch (IOException ioe) {
         	throw new ServletException(ioe.getMessage());
         } finally {
           if (stream != null)
         	  stream.close();
-          if (buf != null)
-            buf.close();
         }
     }
-}
\ No newline at end of file
+
+    public void sendCacheStatistics(HttpServletResponse response) throws IOException {
+        response.setContentType("text/plain");
+        PrintWriter writer = response.getWriter();
+        writer.println("hits=" + pageCache.getHitCount());
+        writer.println("coalesced=" + pageCache.getCoalescedCount());
+        writer.println("misses=" + pageCache.getMissCount());
+        writer.println("revalidations=" + pageCache.getRevalidationCount());
+        writer.println("evictions=" + pageCache.getEvictionCount());
+        writer.println("entries=" + pageCache.getEntryCount());
+        writer.println("bytes=" + pageCache.getCachedBytes());
+        writer.flush();
+    }
+}
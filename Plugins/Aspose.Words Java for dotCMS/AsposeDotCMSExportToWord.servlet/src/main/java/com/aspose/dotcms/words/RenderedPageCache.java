@@ -0,0 +1,236 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 1998-2016 Aspose Pty Ltd.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.aspose.dotcms.words;
+
+import com.aspose.words.Document;
+import com.aspose.words.SaveFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process cache of exported DOCX documents, keyed by page URL and validated with the ETag and Last-Modified
+ * headers of the page. Entries younger than the time to live are served without contacting the page server,
+ * older entries are revalidated with a conditional request and reused on "304 Not Modified". A page that is
+ * requested again while it is being fetched is only fetched once.
+ * The least recently used entries are evicted once the cached documents exceed the size limit.
+ */
+public class RenderedPageCache {
+
+    private final long maxBytes;
+    private final long timeToLiveNanos;
+
+    // Access ordered, so iteration starts at the least recently used entry. Guarded by "this".
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+    private long cachedBytes;
+    // Fetches of pages that are being converted or revalidated, by page URL.
+    private final ConcurrentHashMap<String, FutureTask<byte[]>> fetches = new ConcurrentHashMap<String, FutureTask<byte[]>>();
+
+    private final AtomicLong hits = new AtomicLong();
+    // Requests that joined the fetch of another request and got its document
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong revalidations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public RenderedPageCache(long maxBytes, long timeToLiveMillis) {
+        this.maxBytes = maxBytes;
+        this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+    }
+
+    /**
+     * Gets the DOCX document of the page, from the cache when the page did not change. Concurrent requests for a
+     * page that is not cached or has to be revalidated share one fetch.
+     */
+    public byte[] getDocument(final String pageURL) throws Exception {
+        byte[] document = getFreshDocument(pageURL);
+        if (document != null) {
+            hits.incrementAndGet();
+            return document;
+        }
+
+        FutureTask<byte[]> task = new FutureTask<byte[]>(new Callable<byte[]>() {
+            public byte[] call() throws Exception {
+                return fetch(pageURL);
+            }
+        });
+        FutureTask<byte[]> running = fetches.putIfAbsent(pageURL, task);
+        if (running != null) {
+            // Another request is fetching the same page
+            document = getResult(running);
+            coalesced.incrementAndGet();
+            return document;
+        }
+
+        try {
+            // The page may have been cached between the lookup and the registration of the task
+            document = getFreshDocument(pageURL);
+            if (document != null) {
+                hits.incrementAndGet();
+                return document;
+            }
+
+            task.run();
+            return getResult(task);
+        } finally {
+            fetches.remove(pageURL, task);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getRevalidationCount() {
+        return revalidations.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    public synchronized long getCachedBytes() {
+        return cachedBytes;
+    }
+
+    /**
+     * Removes all cached documents.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        cachedBytes = 0;
+    }
+
+    /**
+     * Gets the cached document of the page if it is younger than the time to live.
+     */
+    private synchronized byte[] getFreshDocument(String pageURL) {
+        Entry entry = entries.get(pageURL);
+        return entry != null && System.nanoTime() - entry.validatedAt < timeToLiveNanos ? entry.document : null;
+    }
+
+    /**
+     * Revalidates the cached document of the page, or converts the page if it is not cached or changed.
+     */
+    private byte[] fetch(String pageURL) throws Exception {
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(pageURL);
+        }
+
+        URLConnection connection = new URL(pageURL).openConnection();
+        if (entry != null && connection instanceof HttpURLConnection) {
+            if (entry.eTag != null) {
+                connection.setRequestProperty("If-None-Match", entry.eTag);
+            }
+            if (entry.lastModified != null) {
+                connection.setRequestProperty("If-Modified-Since", entry.lastModified);
+            }
+        }
+
+        if (entry != null && connection instanceof HttpURLConnection
+                && ((HttpURLConnection) connection).getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            ((HttpURLConnection) connection).disconnect();
+            revalidations.incrementAndGet();
+            put(pageURL, new Entry(entry.document, entry.eTag, entry.lastModified));
+            return entry.document;
+        }
+
+        misses.incrementAndGet();
+        byte[] document = convert(connection);
+        put(pageURL, new Entry(document, connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified")));
+        return document;
+    }
+
+    private static byte[] getResult(FutureTask<byte[]> task) throws Exception {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+
+    private static byte[] convert(URLConnection connection) throws Exception {
+        ByteArrayOutputStream buffer = DocumentBufferPool.acquire();
+        InputStream stream = connection.getInputStream();
+        try {
+            // Load the entire document into memory
+            Document doc = new Document(stream);
+            // Save the document in DOCX file format
+            doc.save(buffer, SaveFormat.DOCX);
+            return buffer.toByteArray();
+        } finally {
+            stream.close();
+            DocumentBufferPool.release(buffer);
+        }
+    }
+
+    private synchronized void put(String pageURL, Entry entry) {
+        if (entry.document.length > maxBytes) {
+            return;
+        }
+
+        Entry previous = entries.put(pageURL, entry);
+        if (previous != null) {
+            cachedBytes -= previous.document.length;
+        }
+        cachedBytes += entry.document.length;
+
+        Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+        while (cachedBytes > maxBytes && eldest.hasNext()) {
+            Entry evicted = eldest.next().getValue();
+            eldest.remove();
+            cachedBytes -= evicted.document.length;
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static final class Entry {
+        final byte[] document;
+        final String eTag;
+        final String lastModified;
+        final long validatedAt;
+
+        Entry(byte[] document, String eTag, String lastModified) {
+            this.document = document;
+            this.eTag = eTag;
+            this.lastModified = lastModified;
+            this.validatedAt = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 1998-2016 Aspose Pty Ltd.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated documentation files (the "Software"), to deal in the Software without restriction, including without limitation the rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package com.aspose.dotcms.words;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load test harness for ExportToWordServlet. A local HTTP server stands in for dotCMS and serves the page,
+ * the servlet is called directly with minimal request/response stand-ins, and p50/p99 latency is reported
+ * for 1 to 64 concurrent clients, once with a distinct page per request and once with the same cached page.
+ * Before that the hit, miss, revalidation and eviction counters of RenderedPageCache are checked against the server.
+ */
+public class ExportToWordLoadHarness {
+
+    private static final int[] CLIENT_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int PAGE_PARAGRAPHS = 200;
+    private static final String PAGE_ETAG = "\"page-v1\"";
+    private static final AtomicLong PAGE_REQUESTS = new AtomicLong();
+    private static final AtomicLong UNIQUE_PAGE = new AtomicLong();
+
+    public static void main(String[] args) throws Exception {
+        HttpServer pageServer = startPageServer(buildPage());
+        String host = "localhost:" + pageServer.getAddress().getPort();
+        ExportToWordServlet servlet = new ExportToWordServlet();
+
+        try {
+            checkCache("http://" + host + "/page.html");
+
+            // Warm up the conversion before measuring.
+            runClients(servlet, host, 4, REQUESTS_PER_CLIENT, false);
+
+            System.out.println("page\tclients\trequests\tp50 ms\tp99 ms\trequests/sec");
+            for (boolean samePage : new boolean[]{false, true}) {
+                for (int clients : CLIENT_COUNTS) {
+                    long start = System.nanoTime();
+                    long[] latencies = runClients(servlet, host, clients, REQUESTS_PER_CLIENT, samePage);
+                    double seconds = (System.nanoTime() - start) / 1e9;
+
+                    Arrays.sort(latencies);
+                    System.out.println((samePage ? "same" : "distinct") + "\t" + clients + "\t" + latencies.length
+                            + "\t" + toMillis(percentile(latencies, 0.50))
+                            + "\t" + toMillis(percentile(latencies, 0.99))
+                            + "\t" + String.format("%.1f", latencies.length / seconds));
+                }
+            }
+
+            RenderedPageCache cache = servlet.getPageCache();
+            System.out.println("servlet cache: hits=" + cache.getHitCount() + " coalesced=" + cache.getCoalescedCount()
+                    + " misses=" + cache.getMissCount() + " evictions=" + cache.getEvictionCount());
+        } finally {
+            pageServer.stop(0);
+        }
+    }
+
+    private static void checkCache(String pageURL) throws Exception {
+        RenderedPageCache cache = new RenderedPageCache(Long.MAX_VALUE, 200);
+        long requests = PAGE_REQUESTS.get();
+
+        byte[] first = cache.getDocument(pageURL);
+        byte[] second = cache.getDocument(pageURL);
+        check(first == second && cache.getHitCount() == 1 && cache.getMissCount() == 1, "fresh entry is a hit");
+        check(PAGE_REQUESTS.get() == requests + 1, "fresh hit does not contact the server");
+
+        Thread.sleep(300);
+        byte[] revalidated = cache.getDocument(pageURL);
+        check(revalidated == first && cache.getRevalidationCount() == 1, "expired entry is revalidated with 304");
+        check(PAGE_REQUESTS.get() == requests + 2, "revalidation sends one conditional request");
+
+        RenderedPageCache smallCache = new RenderedPageCache(first.length, 60 * 1000);
+        smallCache.getDocument(pageURL);
+        smallCache.getDocument(pageURL + "?other");
+        check(smallCache.getEvictionCount() == 1 && smallCache.getEntryCount() == 1, "least recently used entry is evicted");
+
+        System.out.println("RenderedPageCache checks passed.");
+    }
+
+    private static void check(boolean condition, String description) {
+        if (!condition) {
+            throw new IllegalStateException("RenderedPageCache check failed: " + description);
+        }
+    }
+
+    private static long[] runClients(final ExportToWordServlet servlet, final String host, int clients,
+                                     final int requestsPerClient, final boolean samePage) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<long[]>> results = new ArrayList<Future<long[]>>();
+            for (int client = 0; client < clients; client++) {
+                results.add(executor.submit(new Callable<long[]>() {
+                    public long[] call() throws Exception {
+                        long[] latencies = new long[requestsPerClient];
+                        for (int i = 0; i < requestsPerClient; i++) {
+                            AtomicLong written = new AtomicLong();
+                            long start = System.nanoTime();
+                            String pagePath = samePage ? "/page.html" : "/page.html?id=" + UNIQUE_PAGE.incrementAndGet();
+                            servlet.doGet(createRequest(host, pagePath), createResponse(written));
+                            latencies[i] = System.nanoTime() - start;
+
+                            if (written.get() == Constants.HTML_TO_WORD_CONVERSION_ERROR_MESSAGE.length()) {
+                                throw new IllegalStateException(Constants.HTML_TO_WORD_CONVERSION_ERROR_MESSAGE);
+                            }
+                        }
+                        return latencies;
+                    }
+                }));
+            }
+
+            long[] all = new long[clients * requestsPerClient];
+            int position = 0;
+            for (Future<long[]> result : results) {
+                long[] latencies = result.get();
+                System.arraycopy(latencies, 0, all, position, latencies.length);
+                position += latencies.length;
+            }
+            return all;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static HttpServer startPageServer(final byte[] page) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/page.html", new HttpHandler() {
+            public void handle(HttpExchange exchange) throws IOException {
+                PAGE_REQUESTS.incrementAndGet();
+                exchange.getResponseHeaders().set("ETag", PAGE_ETAG);
+                if (PAGE_ETAG.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    exchange.sendResponseHeaders(304, -1);
+                    exchange.close();
+                    return;
+                }
+
+                exchange.getResponseHeaders().set("Content-Type", "text/html; charset=utf-8");
+                exchange.sendResponseHeaders(200, page.length);
+                OutputStream body = exchange.getResponseBody();
+                body.write(page);
+                body.close();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        return server;
+    }
+
+    private static byte[] buildPage() throws IOException {
+        StringBuilder html = new StringBuilder("<html><head><title>Load test</title></head><body><h1>Load test page</h1>");
+        for (int i = 0; i < PAGE_PARAGRAPHS; i++) {
+            html.append("<p>Paragraph ").append(i).append(" of the exported page, with <b>bold</b> and <i>italic</i> text.</p>");
+        }
+        html.append("<table border=\"1\">");
+        for (int i = 0; i < 50; i++) {
+            html.append("<tr><td>Row ").append(i).append("</td><td>Value ").append(i * 7).append("</td></tr>");
+        }
+        html.append("</table></body></html>");
+        return html.toString().getBytes("UTF-8");
+    }
+
+    private static HttpServletRequest createRequest(final String host, final String pagePath) {
+        return (HttpServletRequest) Proxy.newProxyInstance(ExportToWordLoadHarness.class.getClassLoader(),
+                new Class[]{HttpServletRequest.class}, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        String name = method.getName();
+                        if (name.equals("getScheme")) {
+                            return "http";
+                        }
+                        if (name.equals("getHeader") && "Host".equals(args[0])) {
+                            return host;
+                        }
+                        if (name.equals("getParameter") && "page_url".equals(args[0])) {
+                            return pagePath;
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    private static HttpServletResponse createResponse(final AtomicLong written) {
+        final ServletOutputStream output = new ServletOutputStream() {
+            public void write(int b) {
+                written.incrementAndGet();
+            }
+
+            public void write(byte[] b, int off, int len) {
+                written.addAndGet(len);
+            }
+        };
+
+        return (HttpServletResponse) Proxy.newProxyInstance(ExportToWordLoadHarness.class.getClassLoader(),
+                new Class[]{HttpServletResponse.class}, new InvocationHandler() {
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("getOutputStream")) {
+                            return output;
+                        }
+                        if (method.getReturnType() == boolean.class) {
+                            return false;
+                        }
+                        if (method.getReturnType() == int.class) {
+                            return 0;
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.1f", nanos / 1e6);
+    }
+}
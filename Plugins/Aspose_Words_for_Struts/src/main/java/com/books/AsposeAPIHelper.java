@@ -1,16 +1,18 @@
 package com.books;
 
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
-import javax.servlet.ServletContext;
-import javax.servlet.ServletOutputStream;
-
 import com.aspose.words.CellVerticalAlignment;
 import com.aspose.words.DocumentBuilder;
 import com.aspose.words.Font;
 import com.aspose.words.HeightRule;
+import com.aspose.words.NodeType;
 import com.aspose.words.ParagraphAlignment;
+import com.aspose.words.Row;
+import com.aspose.words.Table;
 
 /**
  * 
@@ -18,102 +20,69 @@ import com.aspose.words.ParagraphAlignment;
  *
  */
 public class AsposeAPIHelper {
+
+	// Document with the title, the header row and one formatted row used as
+	// the template of the book rows. It is only ever cloned, never returned.
+	private static com.aspose.words.Document prototype;
+
+	/**
+	 * Creates word document from the books returned by the iterator. The rows are
+	 * written as they are read, so the books do not need to be collected first.
+	 * 
+	 * @param  out the stream the document is saved to.
+	 * @param  books books as maps containing attributes.
+	 * @see    com.aspose.words.Document
+	 */
+	public static void createAsposeWordDoc(OutputStream out,
+			Iterator<? extends Map> books) throws Exception {
+		saveBooksDocument(out, new BookRows<Map>(books) {
+			String[] toRow(Map book) {
+				return new String[] { book.get("BookId").toString(),
+						book.get("BookName").toString(),
+						book.get("AuthorName").toString(),
+						book.get("BookCost").toString() };
+			}
+		});
+	}
+
 	/**
-	 * Creates word document from list of book provided from grid. 
+	 * Creates word document from a snapshot of the book store. The rows are
+	 * read from the immutable book records, without converting them to maps.
 	 * 
-	 * @param  out the current scope OutputStream.
-	 * @param  books books list as map containing attributes.
-	 * @param  context the App ServletContext
+	 * @param  out the stream the document is saved to.
+	 * @param  books books snapshot returned by Books.getBookSnapshot.
 	 * @see    com.aspose.words.Document
 	 */
-	public static void createAsposeWordDoc(ServletOutputStream out,
-			List<Map> books, ServletContext context) throws Exception {
+	public static void createAsposeWordDoc(OutputStream out,
+			List<Books.Book> books) throws Exception {
+		saveBooksDocument(out, new BookRows<Books.Book>(books.iterator()) {
+			String[] toRow(Books.Book book) {
+				return new String[] { String.valueOf(book.getBookId()),
+						book.getBookName(), book.getAuthorName(),
+						String.valueOf(book.getBookCost()) };
+			}
+		});
+	}
+
+	/**
+	 * Saves the document with one table row per book. The title and the header
+	 * row are not built again, the document is a clone of a prototype built on
+	 * first use and only the book rows are added to it.
+	 */
+	private static void saveBooksDocument(OutputStream out,
+			Iterator<String[]> rows) throws Exception {
 
 		try {
 
-			com.aspose.words.Document doc = new com.aspose.words.Document();
+			com.aspose.words.Document doc = clonePrototype();
+
+			Table table = (Table) doc.getChild(NodeType.TABLE, 0, true);
+			Row templateRow = table.getLastRow();
 
-			// DocumentBuilder provides members to easily add content to a
-			// document.
-			DocumentBuilder builder = new DocumentBuilder(doc);
-
-			Font font = builder.getFont();
-
-			font.setSize(16);
-
-			font.setColor(java.awt.Color.BLUE);
-
-			font.setName("Arial");
-
-			builder.insertParagraph();
-			// Write a new paragraph in the document with the text
-
-			builder.insertParagraph();
-			builder.writeln("Books List");
-			builder.insertParagraph();
-			// Save the document in DOCX format. The format to save as is
-			// inferred from the extension of the file name.
-			// Aspose.Words supports saving any document in many more formats.
-
-			builder.startTable();
-			builder.insertCell();
-
-			// Set height and define the height rule for the header row.
-			builder.getRowFormat().setHeight(40.0);
-			builder.getRowFormat().setHeightRule(HeightRule.AT_LEAST);
-
-			// Some special features for the header row.
-			builder.getCellFormat()
-					.getShading()
-					.setBackgroundPatternColor(
-							new java.awt.Color(198, 217, 241));
-			builder.getParagraphFormat()
-					.setAlignment(ParagraphAlignment.CENTER);
-			builder.getFont().setSize(16);
-			builder.getFont().setName("Arial");
-			builder.getFont().setBold(true);
-
-			builder.getCellFormat().setWidth(100.0);
-			builder.write("Book Id");
-			builder.insertCell();
-			builder.write("Book Name");
-			builder.insertCell();
-			builder.write("AuthorName");
-			builder.insertCell();
-			builder.write("Book Cost");
-			builder.endRow();
-			// Set features for the other rows and cells.
-			builder.getCellFormat().getShading()
-					.setBackgroundPatternColor(java.awt.Color.WHITE);
-			builder.getCellFormat().setWidth(100.0);
-			builder.getCellFormat().setVerticalAlignment(
-					CellVerticalAlignment.CENTER);
-
-			// Reset height and define a different height rule for table body
-			builder.getRowFormat().setHeight(30.0);
-			builder.getRowFormat().setHeightRule(HeightRule.AUTO);
-
-			for (Map book : books) {
-				String bookId = book.get("BookId").toString();
-				String bookName = book.get("BookName").toString();
-				String bookAuthorName = book.get("AuthorName").toString();
-				String bookCost = book.get("BookCost").toString();
-				builder.insertCell();
-				// Reset font formatting.
-				builder.getFont().setSize(12);
-				builder.getFont().setBold(false);
-				builder.write(bookId);
-				builder.insertCell();
-				builder.write(bookName);
-				builder.insertCell();
-				builder.write(bookAuthorName);
-				builder.insertCell();
-				builder.write(bookCost);
-				builder.endRow();
+			while (rows.hasNext()) {
+				addBookRow(table, templateRow, rows.next());
 			}
-			builder.endTable();
-			builder.insertParagraph();
-			builder.insertParagraph();
+			templateRow.remove();
 
 			// Save the document
 
@@ -126,4 +95,147 @@ public class AsposeAPIHelper {
 
 		}
 	}
+
+	/**
+	 * Returns a deep copy of the prototype document. The copy shares no nodes
+	 * with the prototype, and copies are made one at a time so the prototype is
+	 * never read by two threads at once.
+	 */
+	static synchronized com.aspose.words.Document clonePrototype()
+			throws Exception {
+		if (prototype == null) {
+			com.aspose.words.Document doc = new com.aspose.words.Document();
+			DocumentBuilder builder = startBooksTable(doc);
+			writeBookRow(builder, "-", "-", "-", "-");
+			endBooksTable(builder);
+			prototype = doc;
+		}
+		return (com.aspose.words.Document) prototype.deepClone(true);
+	}
+
+	private static void addBookRow(Table table, Row templateRow,
+			String[] values) throws Exception {
+		Row row = (Row) templateRow.deepClone(true);
+		// Each template cell holds a single formatted run.
+		for (int i = 0; i < values.length; i++) {
+			row.getCells().get(i).getFirstParagraph().getRuns().get(0)
+					.setText(values[i]);
+		}
+		table.insertBefore(row, templateRow);
+	}
+
+	static DocumentBuilder startBooksTable(
+			com.aspose.words.Document doc) throws Exception {
+		// DocumentBuilder provides members to easily add content to a
+		// document.
+		DocumentBuilder builder = new DocumentBuilder(doc);
+
+		Font font = builder.getFont();
+
+		font.setSize(16);
+
+		font.setColor(java.awt.Color.BLUE);
+
+		font.setName("Arial");
+
+		builder.insertParagraph();
+		// Write a new paragraph in the document with the text
+
+		builder.insertParagraph();
+		builder.writeln("Books List");
+		builder.insertParagraph();
+
+		builder.startTable();
+		builder.insertCell();
+
+		// Set height and define the height rule for the header row.
+		builder.getRowFormat().setHeight(40.0);
+		builder.getRowFormat().setHeightRule(HeightRule.AT_LEAST);
+
+		// Some special features for the header row.
+		builder.getCellFormat()
+				.getShading()
+				.setBackgroundPatternColor(
+						new java.awt.Color(198, 217, 241));
+		builder.getParagraphFormat()
+				.setAlignment(ParagraphAlignment.CENTER);
+		builder.getFont().setSize(16);
+		builder.getFont().setName("Arial");
+		builder.getFont().setBold(true);
+
+		builder.getCellFormat().setWidth(100.0);
+		builder.write("Book Id");
+		builder.insertCell();
+		builder.write("Book Name");
+		builder.insertCell();
+		builder.write("AuthorName");
+		builder.insertCell();
+		builder.write("Book Cost");
+		builder.endRow();
+		// Set features for the other rows and cells.
+		builder.getCellFormat().getShading()
+				.setBackgroundPatternColor(java.awt.Color.WHITE);
+		builder.getCellFormat().setWidth(100.0);
+		builder.getCellFormat().setVerticalAlignment(
+				CellVerticalAlignment.CENTER);
+
+		// Reset height and define a different height rule for table body
+		builder.getRowFormat().setHeight(30.0);
+		builder.getRowFormat().setHeightRule(HeightRule.AUTO);
+
+		// Reset font formatting. The builder keeps it for all the rows
+		// of the table.
+		builder.getFont().setSize(12);
+		builder.getFont().setBold(false);
+
+		return builder;
+	}
+
+	static void writeBookRow(DocumentBuilder builder, String bookId,
+			String bookName, String bookAuthorName, String bookCost)
+			throws Exception {
+		builder.insertCell();
+		builder.write(bookId);
+		builder.insertCell();
+		builder.write(bookName);
+		builder.insertCell();
+		builder.write(bookAuthorName);
+		builder.insertCell();
+		builder.write(bookCost);
+		builder.endRow();
+	}
+
+	static void endBooksTable(DocumentBuilder builder)
+			throws Exception {
+		builder.endTable();
+		builder.insertParagraph();
+		builder.insertParagraph();
+	}
+
+	/**
+	 * Reads the cell values of the book rows from books of another type, one
+	 * book at a time.
+	 */
+	private abstract static class BookRows<T> implements Iterator<String[]> {
+
+		private final Iterator<? extends T> books;
+
+		BookRows(Iterator<? extends T> books) {
+			this.books = books;
+		}
+
+		abstract String[] toRow(T book);
+
+		public boolean hasNext() {
+			return books.hasNext();
+		}
+
+		public String[] next() {
+			return toRow(books.next());
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
 }
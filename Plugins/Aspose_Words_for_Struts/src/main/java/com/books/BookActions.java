@@ -89,18 +89,18 @@ public class BookActions extends DispatchAction {
 
 		Books b = Books.getInstance();
 
-		List<Map> books = b.getBookList();
+		// An immutable snapshot, so books changed during the export do not
+		// affect it.
+		List<Books.Book> books = b.getBookSnapshot();
 		response.setContentType("application/msword");
 		response.setHeader("Content-Disposition",
 				"attachment;filename=AsposeExportBooksList.doc");
-		for (Map book : books) {
-			try {
-				AsposeAPIHelper.createAsposeWordDoc(response.getOutputStream(),
-						books, request.getServletContext());
-			} catch (Exception e) {
-				e.printStackTrace();
-
-			}
+		// The document holds every book, so it is built and written once.
+		try {
+			AsposeAPIHelper.createAsposeWordDoc(response.getOutputStream(),
+					books);
+		} catch (Exception e) {
+			e.printStackTrace();
 
 		}
 
@@ -4,78 +4,159 @@ import java.util.Map;
 import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.Set;
-
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread safe book store. Books are immutable records kept in a concurrent
+ * map, so neither lookups nor changes lock. Every change bumps a version
+ * counter, and the immutable snapshot list is rebuilt on the next read when
+ * its version is older. The rebuild copies the map without blocking writers,
+ * the copy is shared by every export until the next change.
+ */
 class Books {
 
-	int bookIdCount = 1000;
-	Map<Integer, StoreBook> bookMap = new HashMap<Integer, StoreBook>();
-	private static Books books = null;
+	private static final Books books = createInstance();
+
+	private final ConcurrentMap<Integer, Book> bookMap = new ConcurrentHashMap<Integer, Book>();
+	private final AtomicInteger bookIdCount = new AtomicInteger(1000);
+	// Counts the changes. A change is applied to the map before it is
+	// counted, so a snapshot holds every change up to its version.
+	private final AtomicLong version = new AtomicLong();
+	private volatile Snapshot snapshot;
 
-	private Books() {
+	Books() {
 	}
 
 	public static Books getInstance() {
-		if (books == null) {
-			books = new Books();
-			books.storeBook("Mastering Java", "John Zakowsi", 200);
-			books.storeBook(
-					"Struts in Action",
-					"Cedric Dumoulin, David Winterfeldt, George Franciscus, and Ted Husted",
-					500);
+		return books;
+	}
 
-		}
+	private static Books createInstance() {
+		Books books = new Books();
+		books.storeBook("Mastering Java", "John Zakowsi", 200);
+		books.storeBook(
+				"Struts in Action",
+				"Cedric Dumoulin, David Winterfeldt, George Franciscus, and Ted Husted",
+				500);
 		return books;
 	}
 
 	public void storeBook(String bookName, String authorName, int bookCost) {
-		StoreBook sb = new StoreBook();
-		bookIdCount++;
-		sb.addBook(bookIdCount, bookName, authorName, bookCost);
-		bookMap.put(bookIdCount, sb);
+		int bookId = bookIdCount.incrementAndGet();
+		bookMap.put(bookId, new Book(bookId, bookName, authorName, bookCost));
+		version.incrementAndGet();
 	}
 
 	public void updateBook(int bookId, String bookName, String authorName,
 			int bookCost) {
-		StoreBook sb = bookMap.get(bookId);
-		sb.updateBook(bookName, authorName, bookCost);
+		if (bookMap.replace(bookId, new Book(bookId, bookName, authorName,
+				bookCost)) != null) {
+			version.incrementAndGet();
+		}
 	}
 
 	public Map searchBook(int bookId) {
-		return bookMap.get(bookId).getBooks();
+		return bookMap.get(bookId).toMap();
 	}
 
 	public void deleteBook(int bookId) {
-		bookMap.remove(bookId);
+		if (bookMap.remove(bookId) != null) {
+			version.incrementAndGet();
+		}
 	}
 
-	// Inner Class used to persist the app data ie) book details.
-	class StoreBook {
+	/**
+	 * Returns an immutable list of all the books in id order, with at least
+	 * every change made before the call. The list is shared, not copied, by
+	 * every caller until the store changes.
+	 */
+	public List<Book> getBookSnapshot() {
+		// The version is read before the map is copied, so the copy holds
+		// every change up to it. Changes made during the copy may be in it
+		// too, they are counted later and make the next read rebuild.
+		long currentVersion = version.get();
+		Snapshot current = snapshot;
+		if (current != null && current.version == currentVersion) {
+			return current.books;
+		}
+
+		List<Book> sorted = new ArrayList<Book>(bookMap.values());
+		Collections.sort(sorted, BY_ID);
+		current = new Snapshot(currentVersion,
+				Collections.unmodifiableList(sorted));
+		// Readers that rebuild at the same time publish equal lists. An older
+		// list that wins the race is rebuilt on the next read.
+		snapshot = current;
+		return current.books;
+	}
 
-		private String bookName;
-		private String authorName;
-		private int bookCost;
-		private int bookId;
+	/**
+	 * Returns the books as maps of their attributes, for the books list page.
+	 */
+	public List getBookList() {
+		List<Book> current = getBookSnapshot();
+		List booksList = new ArrayList(current.size());
+		for (Book book : current) {
+			booksList.add(book.toMap());
+		}
+		return booksList;
+	}
 
-		StoreBook() {
+	private static final Comparator<Book> BY_ID = new Comparator<Book>() {
+		public int compare(Book first, Book second) {
+			return first.getBookId() < second.getBookId() ? -1 : (first
+					.getBookId() == second.getBookId() ? 0 : 1);
 		}
+	};
 
-		public void addBook(int bookId, String bookName, String authorName,
-				int bookCost) {
+	private static final class Snapshot {
+
+		final long version;
+		final List<Book> books;
+
+		Snapshot(long version, List<Book> books) {
+			this.version = version;
+			this.books = books;
+		}
+	}
+
+	// Immutable record of the book details. An update stores a new record.
+	static final class Book {
+
+		private final int bookId;
+		private final String bookName;
+		private final String authorName;
+		private final int bookCost;
+
+		Book(int bookId, String bookName, String authorName, int bookCost) {
 			this.bookId = bookId;
 			this.bookName = bookName;
 			this.authorName = authorName;
 			this.bookCost = bookCost;
 		}
 
-		public void updateBook(String bookName, String authorName, int bookCost) {
-			this.bookName = bookName;
-			this.authorName = authorName;
-			this.bookCost = bookCost;
+		public int getBookId() {
+			return bookId;
+		}
+
+		public String getBookName() {
+			return bookName;
 		}
 
-		public Map getBooks() {
+		public String getAuthorName() {
+			return authorName;
+		}
+
+		public int getBookCost() {
+			return bookCost;
+		}
+
+		public Map toMap() {
 			Map books = new HashMap();
 			books.put("BookId", this.bookId);
 			books.put("BookName", this.bookName);
@@ -84,14 +165,4 @@ class Books {
 			return books;
 		}
 	}
-
-	public List getBookList() {
-		List booksList = new ArrayList();
-		Set s = bookMap.keySet();
-		Iterator itr = s.iterator();
-		while (itr.hasNext()) {
-			booksList.add(bookMap.get((Integer) itr.next()).getBooks());
-		}
-		return booksList;
-	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,74 @@
+package com.books;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Books and output streams shared by the benchmarks and the stress harness.
+ */
+final class BenchmarkSupport {
+
+	private BenchmarkSupport() {
+	}
+
+	/**
+	 * Creates books as maps of their attributes, the way the books list page
+	 * passes them to the export.
+	 */
+	static List<Map> createBooks(int count) {
+		List<Map> books = new ArrayList<Map>(count);
+		for (int i = 0; i < count; i++) {
+			Map book = new HashMap();
+			book.put("BookId", 1000 + i);
+			book.put("BookName", "Book " + i);
+			book.put("AuthorName", "Author " + (i % 500));
+			book.put("BookCost", 100 + i % 400);
+			books.add(book);
+		}
+		return books;
+	}
+
+	/**
+	 * Gets the number of bytes allocated by the current thread so far.
+	 */
+	static long getAllocatedBytes() {
+		return ((com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean()).getThreadAllocatedBytes(Thread
+				.currentThread().getId());
+	}
+
+	/**
+	 * Discards everything written to it.
+	 */
+	static class NullOutputStream extends OutputStream {
+		public void write(int b) throws IOException {
+		}
+
+		public void write(byte[] b, int off, int len) throws IOException {
+		}
+	}
+
+	/**
+	 * Discards everything written to it and counts the bytes.
+	 */
+	static class CountingOutputStream extends OutputStream {
+		private long count;
+
+		public void write(int b) throws IOException {
+			count++;
+		}
+
+		public void write(byte[] b, int off, int len) throws IOException {
+			count += len;
+		}
+
+		long getCount() {
+			return count;
+		}
+	}
+}
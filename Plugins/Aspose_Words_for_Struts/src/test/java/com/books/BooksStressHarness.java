@@ -0,0 +1,147 @@
+package com.books;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.books.BenchmarkSupport.NullOutputStream;
+
+/**
+ * Stress harness for the Books store: writer threads add, update and delete
+ * books while reader threads check that every snapshot is consistent and
+ * exporter threads export snapshots to Word. Prints the number of changes,
+ * checked snapshots and exports per second.
+ */
+public class BooksStressHarness {
+
+	private static final int INITIAL_BOOKS = 10000;
+	private static final int WRITERS = 4;
+	private static final int READERS = 4;
+	private static final int EXPORTERS = 2;
+	private static final long DURATION_MILLIS = 20000;
+
+	public static void main(String[] args) throws Exception {
+		final Books books = new Books();
+		for (int i = 0; i < INITIAL_BOOKS; i++) {
+			books.storeBook("Book " + i, "Author " + i, 100 + i % 400);
+		}
+
+		final AtomicBoolean running = new AtomicBoolean(true);
+		final AtomicLong changes = new AtomicLong();
+		final AtomicLong snapshots = new AtomicLong();
+		final AtomicLong exports = new AtomicLong();
+		final AtomicLong exportedRows = new AtomicLong();
+
+		ExecutorService executor = Executors.newFixedThreadPool(WRITERS
+				+ READERS + EXPORTERS);
+		List<Future<Void>> results = new ArrayList<Future<Void>>();
+
+		for (int i = 0; i < WRITERS; i++) {
+			final int seed = i;
+			results.add(executor.submit(new Callable<Void>() {
+				public Void call() {
+					Random random = new Random(seed);
+					while (running.get()) {
+						int bookId = 1001 + random.nextInt(INITIAL_BOOKS * 2);
+						int version = random.nextInt(1000);
+						switch (random.nextInt(3)) {
+						case 0:
+							books.storeBook("Book v" + version, "Author v"
+									+ version, version);
+							break;
+						case 1:
+							books.updateBook(bookId, "Book v" + version,
+									"Author v" + version, version);
+							break;
+						default:
+							books.deleteBook(bookId);
+							break;
+						}
+						changes.incrementAndGet();
+					}
+					return null;
+				}
+			}));
+		}
+
+		for (int i = 0; i < READERS; i++) {
+			results.add(executor.submit(new Callable<Void>() {
+				public Void call() {
+					while (running.get()) {
+						checkSnapshot(books.getBookSnapshot());
+						snapshots.incrementAndGet();
+					}
+					return null;
+				}
+			}));
+		}
+
+		for (int i = 0; i < EXPORTERS; i++) {
+			results.add(executor.submit(new Callable<Void>() {
+				public Void call() throws Exception {
+					while (running.get()) {
+						List<Books.Book> snapshot = books.getBookSnapshot();
+						AsposeAPIHelper.createAsposeWordDoc(
+								new NullOutputStream(), snapshot);
+						exports.incrementAndGet();
+						exportedRows.addAndGet(snapshot.size());
+					}
+					return null;
+				}
+			}));
+		}
+
+		Thread.sleep(DURATION_MILLIS);
+		running.set(false);
+		for (Future<Void> result : results) {
+			// Rethrows any failed consistency check.
+			result.get();
+		}
+		executor.shutdown();
+		executor.awaitTermination(1, TimeUnit.MINUTES);
+
+		double seconds = DURATION_MILLIS / 1000.0;
+		System.out.println("changes/sec\t" + (long) (changes.get() / seconds));
+		System.out.println("snapshots checked/sec\t"
+				+ (long) (snapshots.get() / seconds));
+		System.out.println("exports/sec\t"
+				+ String.format("%.2f", exports.get() / seconds));
+		System.out.println("exported rows/sec\t"
+				+ (long) (exportedRows.get() / seconds));
+	}
+
+	private static void checkSnapshot(List<Books.Book> snapshot) {
+		int previousId = 0;
+		for (Books.Book book : snapshot) {
+			if (book.getBookId() <= previousId) {
+				throw new IllegalStateException(
+						"Snapshot is not ordered by id or has duplicates.");
+			}
+			previousId = book.getBookId();
+
+			// Writers keep the version of name, author and cost equal, so a
+			// record mixing two changes is detected.
+			String name = book.getBookName();
+			String author = book.getAuthorName();
+			if (name.startsWith("Book v")
+					&& (!author.equals("Author v" + name.substring(6)) || book
+							.getBookCost() != Integer.parseInt(name
+							.substring(6)))) {
+				throw new IllegalStateException("Torn book record: " + name);
+			}
+		}
+
+		try {
+			snapshot.add(null);
+			throw new IllegalStateException("Snapshot can be modified.");
+		} catch (UnsupportedOperationException expected) {
+		}
+	}
+}
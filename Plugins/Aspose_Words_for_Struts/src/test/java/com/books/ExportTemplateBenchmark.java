@@ -0,0 +1,112 @@
+package com.books;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.aspose.words.DocumentBuilder;
+import com.aspose.words.NodeType;
+import com.aspose.words.Table;
+import com.books.BenchmarkSupport.NullOutputStream;
+
+/**
+ * Compares building the whole export document with DocumentBuilder against
+ * cloning the prototype document and filling in the book rows. Before
+ * measuring, it checks that two filled clones do not affect each other or
+ * the prototype.
+ */
+public class ExportTemplateBenchmark {
+
+	private static final int[] BOOK_COUNTS = { 1, 10, 100, 1000 };
+	private static final int WARMUP_ITERATIONS = 20;
+	private static final int MEASURED_ITERATIONS = 100;
+
+	public static void main(String[] args) throws Exception {
+		checkClonesAreIndependent();
+
+		System.out.println("books\tcold build ms\tclone and fill ms");
+		for (int bookCount : BOOK_COUNTS) {
+			List<Map> books = BenchmarkSupport.createBooks(bookCount);
+			long cold = 0;
+			long cloned = 0;
+
+			for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+				long start = System.nanoTime();
+				buildAsposeWordDoc(new NullOutputStream(), books.iterator());
+				long middle = System.nanoTime();
+				AsposeAPIHelper.createAsposeWordDoc(new NullOutputStream(),
+						books.iterator());
+				long end = System.nanoTime();
+
+				if (i >= WARMUP_ITERATIONS) {
+					cold += middle - start;
+					cloned += end - middle;
+				}
+			}
+
+			System.out.println(bookCount + "\t"
+					+ String.format("%.3f", cold / 1e6 / MEASURED_ITERATIONS)
+					+ "\t"
+					+ String.format("%.3f", cloned / 1e6 / MEASURED_ITERATIONS));
+		}
+	}
+
+	private static void checkClonesAreIndependent() throws Exception {
+		com.aspose.words.Document first = AsposeAPIHelper.clonePrototype();
+		com.aspose.words.Document second = AsposeAPIHelper.clonePrototype();
+		Table firstTable = (Table) first.getChild(NodeType.TABLE, 0, true);
+		firstTable.getLastRow().getCells().get(0).getFirstParagraph()
+				.getRuns().get(0).setText("changed");
+		firstTable.appendChild(firstTable.getLastRow().deepClone(true));
+
+		Table secondTable = (Table) second.getChild(NodeType.TABLE, 0, true);
+		Table prototypeTable = (Table) AsposeAPIHelper.clonePrototype()
+				.getChild(NodeType.TABLE, 0, true);
+		if (secondTable.getRows().getCount() != 2
+				|| prototypeTable.getRows().getCount() != 2
+				|| secondTable.getText().contains("changed")
+				|| prototypeTable.getText().contains("changed")) {
+			throw new IllegalStateException(
+					"A change to a cloned document is visible in another clone.");
+		}
+
+		// Both paths must produce a document with the same text.
+		List<Map> books = BenchmarkSupport.createBooks(3);
+		ByteArrayOutputStream cold = new ByteArrayOutputStream();
+		ByteArrayOutputStream cloned = new ByteArrayOutputStream();
+		buildAsposeWordDoc(cold, books.iterator());
+		AsposeAPIHelper.createAsposeWordDoc(cloned, books.iterator());
+		String coldText = new com.aspose.words.Document(
+				new java.io.ByteArrayInputStream(cold.toByteArray())).getText();
+		String clonedText = new com.aspose.words.Document(
+				new java.io.ByteArrayInputStream(cloned.toByteArray()))
+				.getText();
+		if (!coldText.equals(clonedText)) {
+			throw new IllegalStateException(
+					"The cloned document differs from the built document.");
+		}
+	}
+
+	/**
+	 * Creates word document from the books returned by the iterator, building
+	 * the whole document with DocumentBuilder. This is how the export worked
+	 * before the prototype was introduced.
+	 */
+	private static void buildAsposeWordDoc(OutputStream out,
+			Iterator<? extends Map> books) throws Exception {
+		com.aspose.words.Document doc = new com.aspose.words.Document();
+		DocumentBuilder builder = AsposeAPIHelper.startBooksTable(doc);
+
+		while (books.hasNext()) {
+			Map book = books.next();
+			AsposeAPIHelper.writeBookRow(builder, book.get("BookId").toString(),
+					book.get("BookName").toString(), book.get("AuthorName")
+							.toString(), book.get("BookCost").toString());
+		}
+		AsposeAPIHelper.endBooksTable(builder);
+
+		doc.save(out, com.aspose.words.SaveFormat.DOC);
+	}
+}
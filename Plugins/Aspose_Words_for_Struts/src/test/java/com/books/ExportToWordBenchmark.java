@@ -0,0 +1,50 @@
+package com.books;
+
+import java.util.List;
+import java.util.Map;
+
+import com.books.BenchmarkSupport.CountingOutputStream;
+
+/**
+ * Measures the time and the allocated bytes per exported row of
+ * AsposeAPIHelper.createAsposeWordDoc for 10k and 100k books. The document
+ * is saved to a stream which only counts the written bytes.
+ */
+public class ExportToWordBenchmark {
+
+	private static final int[] BOOK_COUNTS = { 10000, 100000 };
+	private static final int WARMUP_ITERATIONS = 1;
+	private static final int MEASURED_ITERATIONS = 3;
+
+	public static void main(String[] args) throws Exception {
+		System.out.println("books\tms\tus/row\tbytes/row\tdocument KB");
+
+		for (int bookCount : BOOK_COUNTS) {
+			List<Map> books = BenchmarkSupport.createBooks(bookCount);
+			long nanos = 0;
+			long allocated = 0;
+			long written = 0;
+
+			for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++) {
+				CountingOutputStream out = new CountingOutputStream();
+				long startBytes = BenchmarkSupport.getAllocatedBytes();
+				long start = System.nanoTime();
+				AsposeAPIHelper.createAsposeWordDoc(out, books.iterator());
+				long elapsed = System.nanoTime() - start;
+				long allocatedBytes = BenchmarkSupport.BenchmarkSupport.getAllocatedBytes() - startBytes;
+
+				if (i >= WARMUP_ITERATIONS) {
+					nanos += elapsed;
+					allocated += allocatedBytes;
+					written = out.getCount();
+				}
+			}
+
+			long rows = (long) bookCount * MEASURED_ITERATIONS;
+			System.out.println(bookCount + "\t"
+					+ nanos / 1000000 / MEASURED_ITERATIONS + "\t"
+					+ String.format("%.2f", nanos / 1000.0 / rows) + "\t"
+					+ allocated / rows + "\t" + written / 1024);
+		}
+	}
+}